@@ -32,6 +32,14 @@ public class EmailAttachment {
         return create("application/json", content, fileName);
     }
 
+    public static EmailAttachment json(InputStreamSource content, String fileName) {
+        return new EmailAttachment(content, "application/json", fileName);
+    }
+
+    public static EmailAttachment gzip(InputStreamSource content, String fileName) {
+        return new EmailAttachment(content, "application/gzip", fileName);
+    }
+
     private static EmailAttachment create(String contentType, byte[] content, String filename) {
         return new EmailAttachment(
             new ByteArrayResource(content),
@@ -59,5 +59,21 @@ class EmailAttachmentTest {
             assertThat(EmailAttachment.json(JSON_CONTENT.getBytes(), JSON_FILE_NAME).getContentType())
                 .isEqualTo(JSON_CONTENT_TYPE);
         }
+
+        @Test
+        void shouldCreateEmailAttachment_whenJsonStreamIsProvided() {
+            EmailAttachment attachment = EmailAttachment.json(CONTENT, JSON_FILE_NAME);
+
+            assertThat(attachment.getContentType()).isEqualTo(JSON_CONTENT_TYPE);
+            assertThat(attachment.getData()).isSameAs(CONTENT);
+        }
+
+        @Test
+        void shouldCreateEmailAttachment_whenGzipStreamIsProvided() {
+            EmailAttachment attachment = EmailAttachment.gzip(CONTENT, JSON_FILE_NAME + ".gz");
+
+            assertThat(attachment.getContentType()).isEqualTo("application/gzip");
+            assertThat(attachment.getFilename()).isEqualTo("document.json.gz");
+        }
     }
 }
@@ -0,0 +1,107 @@
+package uk.gov.hmcts.reform.civil.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.launchdarkly.sdk.server.LDClient;
+import com.launchdarkly.sdk.server.LDConfig;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import uk.gov.hmcts.reform.civil.config.properties.organisation.OrganisationCacheProperties;
+import uk.gov.hmcts.reform.civil.helpers.CaseDetailsConverter;
+import uk.gov.hmcts.reform.civil.launchdarkly.FeatureToggleService;
+import uk.gov.hmcts.reform.civil.service.OrganisationService;
+import uk.gov.hmcts.reform.civil.service.flowstate.FlowStateAllowedEventService;
+import uk.gov.hmcts.reform.civil.service.flowstate.StateFlowEngine;
+import uk.gov.hmcts.reform.civil.service.robotics.mapper.AddressLinesMapper;
+import uk.gov.hmcts.reform.civil.service.robotics.mapper.EventHistoryMapper;
+import uk.gov.hmcts.reform.civil.service.robotics.mapper.EventHistorySequencer;
+import uk.gov.hmcts.reform.civil.service.robotics.mapper.RoboticsAddressMapper;
+import uk.gov.hmcts.reform.civil.service.robotics.mapper.RoboticsDataMapper;
+import uk.gov.hmcts.reform.prd.model.ContactInformation;
+import uk.gov.hmcts.reform.prd.model.DxAddress;
+import uk.gov.hmcts.reform.prd.model.Organisation;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Wires the services under benchmark without a Spring context. Remote collaborators are replaced
+ * by in-memory stand-ins so that only the cost of the code paths in this service is measured.
+ */
+public class BenchmarkServices {
+
+    private static final Organisation ORGANISATION = Organisation.builder()
+        .organisationIdentifier("QWERTY R")
+        .name("Org Name")
+        .contactInformation(List.of(ContactInformation.builder()
+                                        .addressLine1("line 1")
+                                        .addressLine2("line 2")
+                                        .postCode("AB1 2XY")
+                                        .county("My county")
+                                        .dxAddress(List.of(DxAddress.builder().dxNumber("DX 12345").build()))
+                                        .build()))
+        .build();
+
+    private final ObjectMapper objectMapper;
+    private final CaseDetailsConverter caseDetailsConverter;
+    private final StateFlowEngine stateFlowEngine;
+    private final FlowStateAllowedEventService flowStateAllowedEventService;
+    private final EventHistoryMapper eventHistoryMapper;
+    private final RoboticsDataMapper roboticsDataMapper;
+
+    public BenchmarkServices() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+        caseDetailsConverter = new CaseDetailsConverter(objectMapper);
+
+        FeatureToggleService featureToggleService = new FeatureToggleService(
+            new LDClient("benchmark", new LDConfig.Builder().offline(true).build()),
+            "benchmark"
+        );
+        stateFlowEngine = new StateFlowEngine(caseDetailsConverter, featureToggleService);
+        flowStateAllowedEventService = new FlowStateAllowedEventService(stateFlowEngine, caseDetailsConverter);
+
+        LocalDateTime now = LocalDateTime.of(2022, 3, 1, 12, 0);
+        eventHistoryMapper = new EventHistoryMapper(
+            stateFlowEngine,
+            featureToggleService,
+            new EventHistorySequencer(),
+            () -> now
+        );
+        roboticsDataMapper = new RoboticsDataMapper(
+            new RoboticsAddressMapper(new AddressLinesMapper()),
+            eventHistoryMapper,
+            new OrganisationService(null, null, null, null, new OrganisationCacheProperties()) {
+                @Override
+                public Optional<Organisation> findOrganisationById(String id) {
+                    return Optional.of(ORGANISATION);
+                }
+            }
+        );
+    }
+
+    public ObjectMapper objectMapper() {
+        return objectMapper;
+    }
+
+    public CaseDetailsConverter caseDetailsConverter() {
+        return caseDetailsConverter;
+    }
+
+    public StateFlowEngine stateFlowEngine() {
+        return stateFlowEngine;
+    }
+
+    public FlowStateAllowedEventService flowStateAllowedEventService() {
+        return flowStateAllowedEventService;
+    }
+
+    public EventHistoryMapper eventHistoryMapper() {
+        return eventHistoryMapper;
+    }
+
+    public RoboticsDataMapper roboticsDataMapper() {
+        return roboticsDataMapper;
+    }
+}
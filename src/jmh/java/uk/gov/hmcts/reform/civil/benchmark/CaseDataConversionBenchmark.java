@@ -0,0 +1,77 @@
+package uk.gov.hmcts.reform.civil.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.gov.hmcts.reform.ccd.client.model.CallbackRequest;
+import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
+import uk.gov.hmcts.reform.civil.helpers.CallbackCaseData;
+import uk.gov.hmcts.reform.civil.helpers.CaseDetailsConverter;
+import uk.gov.hmcts.reform.civil.model.CaseData;
+import uk.gov.hmcts.reform.civil.sampledata.CaseDetailsBuilder;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static uk.gov.hmcts.reform.civil.enums.CaseState.AWAITING_APPLICANT_INTENTION;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CaseDataConversionBenchmark {
+
+    @Param
+    public CasePayload payload;
+
+    private ObjectMapper objectMapper;
+    private CaseDetailsConverter caseDetailsConverter;
+    private CaseData caseData;
+    private CaseDetails caseDetails;
+    private byte[] callbackRequest;
+
+    @Setup
+    public void setUp() throws IOException {
+        BenchmarkServices services = new BenchmarkServices();
+        objectMapper = services.objectMapper();
+        caseDetailsConverter = services.caseDetailsConverter();
+        caseData = payload.caseData();
+        caseDetails = CaseDetailsBuilder.builder()
+            .data(caseData)
+            .state(AWAITING_APPLICANT_INTENTION)
+            .id(1594901956117591L)
+            .build();
+        callbackRequest = objectMapper.writeValueAsBytes(CallbackRequest.builder()
+                                                             .eventId("ADD_CASE_NOTE")
+                                                             .caseDetails(caseDetails)
+                                                             .caseDetailsBefore(caseDetails)
+                                                             .build());
+    }
+
+    @Benchmark
+    public CaseData toCaseData() {
+        return caseDetailsConverter.toCaseData(caseDetails);
+    }
+
+    @Benchmark
+    public CallbackCaseData toCallbackCaseData() throws IOException {
+        return caseDetailsConverter.toCallbackCaseData(callbackRequest);
+    }
+
+    @Benchmark
+    public Map<String, Object> toMap() {
+        return caseData.toMap(objectMapper);
+    }
+}
@@ -0,0 +1,70 @@
+package uk.gov.hmcts.reform.civil.benchmark;
+
+import uk.gov.hmcts.reform.civil.model.CaseData;
+import uk.gov.hmcts.reform.civil.model.CaseNote;
+import uk.gov.hmcts.reform.civil.model.common.Element;
+import uk.gov.hmcts.reform.civil.model.genapplication.GeneralApplication;
+import uk.gov.hmcts.reform.civil.sampledata.CaseDataBuilder;
+import uk.gov.hmcts.reform.civil.sampledata.GeneralApplicationDetailsBuilder;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static uk.gov.hmcts.reform.civil.enums.SuperClaimType.SPEC_CLAIM;
+import static uk.gov.hmcts.reform.civil.utils.ElementUtils.element;
+
+/**
+ * Case payloads of increasing size used by the benchmarks.
+ */
+public enum CasePayload {
+
+    ONE_V_ONE {
+        @Override
+        public CaseData caseData() {
+            return CaseDataBuilder.builder().atStateRespondentFullDefence().build();
+        }
+    },
+
+    ONE_V_TWO_TWO_SOLICITORS {
+        @Override
+        public CaseData caseData() {
+            return CaseDataBuilder.builder()
+                .atStateRespondentFullDefence_1v2_BothPartiesFullDefenceResponses()
+                .multiPartyClaimTwoDefendantSolicitors()
+                .build();
+        }
+    },
+
+    SPEC_WITH_CASE_NOTES_AND_GENERAL_APPLICATIONS {
+        @Override
+        public CaseData caseData() {
+            GeneralApplication generalApplication = GeneralApplicationDetailsBuilder.builder()
+                .getGeneralApplication();
+
+            return CaseDataBuilder.builder().atStateClaimDetailsNotified().build().toBuilder()
+                .superClaimType(SPEC_CLAIM)
+                .caseNotes(elements(CASE_NOTES, i -> CaseNote.builder()
+                    .createdBy("Legal Advisor " + i)
+                    .createdOn(LocalDate.of(2022, 1, 1).plusDays(i))
+                    .note("Case note number " + i + " recorded against the claim for benchmarking purposes.")
+                    .build()))
+                .generalApplications(elements(GENERAL_APPLICATIONS, i -> generalApplication))
+                .build();
+        }
+    };
+
+    private static final int CASE_NOTES = 200;
+    private static final int GENERAL_APPLICATIONS = 20;
+
+    public abstract CaseData caseData();
+
+    private static <T> List<Element<T>> elements(int count, IntFunction<T> factory) {
+        return IntStream.range(0, count)
+            .mapToObj(factory)
+            .map(value -> element(value))
+            .collect(Collectors.toList());
+    }
+}
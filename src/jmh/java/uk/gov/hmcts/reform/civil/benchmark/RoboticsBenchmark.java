@@ -0,0 +1,54 @@
+package uk.gov.hmcts.reform.civil.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.gov.hmcts.reform.civil.model.CaseData;
+import uk.gov.hmcts.reform.civil.model.robotics.EventHistory;
+import uk.gov.hmcts.reform.civil.model.robotics.RoboticsCaseData;
+import uk.gov.hmcts.reform.civil.service.robotics.mapper.EventHistoryMapper;
+import uk.gov.hmcts.reform.civil.service.robotics.mapper.RoboticsDataMapper;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RoboticsBenchmark {
+
+    @Param
+    public CasePayload payload;
+
+    private EventHistoryMapper eventHistoryMapper;
+    private RoboticsDataMapper roboticsDataMapper;
+    private CaseData caseData;
+
+    @Setup
+    public void setUp() {
+        BenchmarkServices services = new BenchmarkServices();
+        eventHistoryMapper = services.eventHistoryMapper();
+        roboticsDataMapper = services.roboticsDataMapper();
+        caseData = payload.caseData();
+    }
+
+    @Benchmark
+    public EventHistory buildEvents() {
+        return eventHistoryMapper.buildEvents(caseData);
+    }
+
+    @Benchmark
+    public RoboticsCaseData toRoboticsCaseData() {
+        return roboticsDataMapper.toRoboticsCaseData(caseData);
+    }
+}
@@ -0,0 +1,71 @@
+package uk.gov.hmcts.reform.civil.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
+import uk.gov.hmcts.reform.civil.callback.CaseEvent;
+import uk.gov.hmcts.reform.civil.model.CaseData;
+import uk.gov.hmcts.reform.civil.sampledata.CaseDetailsBuilder;
+import uk.gov.hmcts.reform.civil.service.flowstate.FlowStateAllowedEventService;
+import uk.gov.hmcts.reform.civil.service.flowstate.StateFlowEngine;
+import uk.gov.hmcts.reform.civil.stateflow.StateFlowEvaluation;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static uk.gov.hmcts.reform.civil.callback.CaseEvent.ADD_CASE_NOTE;
+import static uk.gov.hmcts.reform.civil.enums.CaseState.AWAITING_APPLICANT_INTENTION;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StateFlowBenchmark {
+
+    @Param
+    public CasePayload payload;
+
+    private StateFlowEngine stateFlowEngine;
+    private FlowStateAllowedEventService flowStateAllowedEventService;
+    private CaseData caseData;
+    private CaseDetails caseDetails;
+
+    @Setup
+    public void setUp() {
+        BenchmarkServices services = new BenchmarkServices();
+        stateFlowEngine = services.stateFlowEngine();
+        flowStateAllowedEventService = services.flowStateAllowedEventService();
+        caseData = payload.caseData();
+        caseDetails = CaseDetailsBuilder.builder()
+            .data(caseData)
+            .state(AWAITING_APPLICANT_INTENTION)
+            .id(1594901956117591L)
+            .build();
+    }
+
+    @Benchmark
+    public StateFlowEvaluation evaluate() {
+        return stateFlowEngine.evaluate(caseData);
+    }
+
+    @Benchmark
+    public boolean isAllowed() {
+        return flowStateAllowedEventService.isAllowed(caseDetails, ADD_CASE_NOTE);
+    }
+
+    @Benchmark
+    public Set<CaseEvent> allowedEvents() {
+        return flowStateAllowedEventService.getAllowedEvents(caseDetails);
+    }
+}
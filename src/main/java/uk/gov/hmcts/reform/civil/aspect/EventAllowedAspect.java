@@ -11,6 +11,7 @@ import uk.gov.hmcts.reform.ccd.client.model.AboutToStartOrSubmitCallbackResponse
 import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
 import uk.gov.hmcts.reform.civil.callback.CallbackParams;
 import uk.gov.hmcts.reform.civil.callback.CaseEvent;
+import uk.gov.hmcts.reform.civil.model.CaseData;
 import uk.gov.hmcts.reform.civil.service.flowstate.FlowStateAllowedEventService;
 
 import java.util.List;
@@ -44,7 +45,12 @@ public class EventAllowedAspect {
         }
         CaseEvent caseEvent = CaseEvent.valueOf(callbackParams.getRequest().getEventId());
         CaseDetails caseDetails = callbackParams.getRequest().getCaseDetails();
-        if (flowStateAllowedEventService.isAllowed(caseDetails, caseEvent)) {
+        // Evaluate the case data the handler will see, so both share one state flow evaluation
+        CaseData caseData = callbackParams.getCaseData();
+        boolean allowed = caseData != null
+            ? flowStateAllowedEventService.isAllowed(caseData, caseEvent)
+            : flowStateAllowedEventService.isAllowed(caseDetails, caseEvent);
+        if (allowed) {
             return joinPoint.proceed();
         } else {
             log.info(format(
@@ -17,6 +17,7 @@ import java.util.List;
 import java.util.Optional;
 
 import static java.util.Optional.ofNullable;
+import static uk.gov.hmcts.reform.civil.helpers.CaseDetailsConverter.CASE_DATA_BEFORE_PROJECTION;
 
 @Service
 @Slf4j
@@ -42,8 +43,7 @@ public class CallbackHandlerFactory {
     }
 
     private CallbackResponse processEvent(CallbackHandler handler, CallbackParams callbackParams, String eventId) {
-        return Optional.ofNullable(callbackParams.getRequest().getCaseDetailsBefore())
-            .map(caseDetailsConverter::toCaseData)
+        return caseDataBeforeProjection(callbackParams)
             .map(CaseData::getBusinessProcess)
             .map(businessProcess -> handler.isEventAlreadyProcessed(callbackParams, businessProcess))
             .filter(isProcessed -> isProcessed)
@@ -51,6 +51,14 @@ public class CallbackHandlerFactory {
             .orElse(handler.handle(callbackParams));
     }
 
+    private Optional<CaseData> caseDataBeforeProjection(CallbackParams callbackParams) {
+        if (callbackParams.getCaseDataBeforeProjection() != null) {
+            return Optional.of(callbackParams.getCaseDataBeforeProjection());
+        }
+        return Optional.ofNullable(callbackParams.getRequest().getCaseDetailsBefore())
+            .map(caseDetails -> caseDetailsConverter.toCaseDataProjection(caseDetails, CASE_DATA_BEFORE_PROJECTION));
+    }
+
     private CallbackResponse eventAlreadyProcessedResponse(String eventId) {
         String errorMessage = String.format("Event %s is already processed", eventId);
         log.error(errorMessage);
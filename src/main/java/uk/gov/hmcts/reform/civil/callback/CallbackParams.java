@@ -6,6 +6,7 @@ import uk.gov.hmcts.reform.ccd.client.model.CallbackRequest;
 import uk.gov.hmcts.reform.civil.model.CaseData;
 
 import java.util.Map;
+import java.util.function.Supplier;
 
 @Builder(toBuilder = true)
 @Getter
@@ -17,6 +18,12 @@ public class CallbackParams {
     private CallbackVersion version;
     private String pageId;
     private CaseData caseData;
+    private CaseData caseDataBeforeProjection;
+    private Supplier<CaseData> caseDataBefore;
+
+    public CaseData getCaseDataBefore() {
+        return caseDataBefore == null ? null : caseDataBefore.get();
+    }
 
     public enum Params {
         BEARER_TOKEN
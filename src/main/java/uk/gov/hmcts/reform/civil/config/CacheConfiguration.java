@@ -1,17 +1,38 @@
 package uk.gov.hmcts.reform.civil.config;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import uk.gov.hmcts.reform.civil.security.JwtExpiry;
+
+import java.time.Clock;
+import java.time.Duration;
+
+import static uk.gov.hmcts.reform.civil.service.UserService.USER_INFO_CACHE;
 
 @Configuration
 @EnableCaching
 public class CacheConfiguration {
 
     @Bean
-    public CacheManagerCustomizer<CaffeineCacheManager> cacheManagerCustomizer() {
-        return cacheManager -> cacheManager.setAllowNullValues(false);
+    public CacheManagerCustomizer<CaffeineCacheManager> cacheManagerCustomizer(
+        @Value("${cache.user-info.maximum-size:10000}") long userInfoMaximumSize) {
+        return cacheManager -> {
+            cacheManager.setAllowNullValues(false);
+            cacheManager.registerCustomCache(USER_INFO_CACHE, Caffeine.newBuilder()
+                .maximumSize(userInfoMaximumSize)
+                .expireAfter(new JwtExpiry<Object, Object>(
+                    (bearerToken, userInfo) -> (String) bearerToken,
+                    Duration.ofHours(1),
+                    Duration.ZERO,
+                    Clock.systemUTC()
+                ))
+                .recordStats()
+                .build());
+        };
     }
 }
@@ -1,16 +1,23 @@
 package uk.gov.hmcts.reform.civil.config;
 
+import com.zaxxer.hikari.HikariDataSource;
 import org.jdbi.v3.core.Jdbi;
 import org.jdbi.v3.sqlobject.SqlObjectPlugin;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 import org.springframework.jdbc.datasource.DataSourceTransactionManager;
-import org.springframework.jdbc.datasource.DriverManagerDataSource;
 import org.springframework.jdbc.datasource.TransactionAwareDataSourceProxy;
+import uk.gov.hmcts.reform.civil.repositories.NotificationOutboxRepository;
+import uk.gov.hmcts.reform.civil.repositories.ReferenceNumberAllocator;
 import uk.gov.hmcts.reform.civil.repositories.ReferenceNumberRepository;
+import uk.gov.hmcts.reform.civil.repositories.ReferenceNumberSequenceRepository;
+import uk.gov.hmcts.reform.civil.repositories.RenderedDocumentRepository;
+import uk.gov.hmcts.reform.civil.repositories.RoboticsFeedProgressRepository;
 import uk.gov.hmcts.reform.civil.repositories.SpecReferenceNumberRepository;
 
 import javax.sql.DataSource;
@@ -22,8 +29,17 @@ public class DatabaseConfiguration {
     @Primary
     @ConfigurationProperties(prefix = "spring.datasource")
     @Bean
-    public DataSource dataSource() {
-        return new DriverManagerDataSource();
+    public DataSourceProperties dataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    @Primary
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    @Bean
+    public HikariDataSource dataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .build();
     }
 
     @Bean
@@ -44,12 +60,48 @@ public class DatabaseConfiguration {
     }
 
     @Bean
-    public ReferenceNumberRepository referenceNumberRepository(Jdbi dbi) {
-        return dbi.onDemand(ReferenceNumberRepository.class);
+    public ReferenceNumberSequenceRepository referenceNumberSequenceRepository(Jdbi dbi) {
+        return dbi.onDemand(ReferenceNumberSequenceRepository.class);
+    }
+
+    @Bean
+    public ReferenceNumberRepository referenceNumberRepository(
+        Jdbi dbi,
+        ReferenceNumberSequenceRepository sequenceRepository,
+        @Value("${reference.database.allocation-block-size:1}") int blockSize) {
+        if (blockSize <= 1) {
+            return dbi.onDemand(ReferenceNumberRepository.class);
+        }
+        ReferenceNumberAllocator allocator = new ReferenceNumberAllocator(
+            sequenceRepository::reserveReferenceNumbers, blockSize, "DC");
+        return allocator::next;
+    }
+
+    @Bean
+    public SpecReferenceNumberRepository specReferenceNumberRepository(
+        Jdbi dbi,
+        ReferenceNumberSequenceRepository sequenceRepository,
+        @Value("${reference.database.allocation-block-size:1}") int blockSize) {
+        if (blockSize <= 1) {
+            return dbi.onDemand(SpecReferenceNumberRepository.class);
+        }
+        ReferenceNumberAllocator allocator = new ReferenceNumberAllocator(
+            sequenceRepository::reserveSpecReferenceNumbers, blockSize, "MC");
+        return allocator::next;
+    }
+
+    @Bean
+    public RoboticsFeedProgressRepository roboticsFeedProgressRepository(Jdbi dbi) {
+        return dbi.onDemand(RoboticsFeedProgressRepository.class);
+    }
+
+    @Bean
+    public NotificationOutboxRepository notificationOutboxRepository(Jdbi dbi) {
+        return dbi.onDemand(NotificationOutboxRepository.class);
     }
 
     @Bean
-    public SpecReferenceNumberRepository specReferenceNumberRepository(Jdbi dbi) {
-        return dbi.onDemand(SpecReferenceNumberRepository.class);
+    public RenderedDocumentRepository renderedDocumentRepository(Jdbi dbi) {
+        return dbi.onDemand(RenderedDocumentRepository.class);
     }
 }
@@ -0,0 +1,223 @@
+package uk.gov.hmcts.reform.civil.config;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import feign.httpclient.ApacheHttpClient;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.httpcomponents.MicrometerHttpRequestExecutor;
+import io.micrometer.core.instrument.binder.httpcomponents.PoolingHttpClientConnectionManagerMetricsBinder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.config.SocketConfig;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import uk.gov.hmcts.reform.civil.config.properties.http.HttpClientProperties;
+import uk.gov.hmcts.reform.civil.config.properties.http.HttpClientProperties.Profile;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pooled HTTP clients, one per downstream profile plus a default one, shared by Feign and the rest template.
+ * Requests are routed to a client by the scheme, host and port of their url, so a slow downstream can only
+ * exhaust its own pool. Pool usage and request latency are published per downstream.
+ */
+@Slf4j
+public class DownstreamHttpClients implements AutoCloseable {
+
+    static final String DEFAULT = "default";
+
+    private final Downstream defaultDownstream;
+    private final Map<String, Downstream> downstreamsByAuthority = new HashMap<>();
+    private final List<CloseableHttpClient> httpClients = new CopyOnWriteArrayList<>();
+
+    public DownstreamHttpClients(HttpClientProperties properties, MeterRegistry meterRegistry) {
+        Profile defaults = properties.getDefaults();
+        defaultDownstream = downstream(DEFAULT, defaults, false, meterRegistry);
+        properties.getDownstreams().forEach((name, profile) -> {
+            String authority = authority(profile.getUrl());
+            if (authority == null) {
+                log.info("Http client profile {} has no url, its requests will use the default client", name);
+                return;
+            }
+            Downstream downstream = downstream(name, profile.withDefaults(defaults), profile.hasTimeouts(),
+                                               meterRegistry);
+            Downstream existing = downstreamsByAuthority.putIfAbsent(authority, downstream);
+            if (existing != null) {
+                log.warn("Http client profiles {} and {} share {}, using {}", existing.name, name, authority,
+                         existing.name);
+            }
+        });
+    }
+
+    /**
+     * Feign client routing each request to the pool of its downstream.
+     */
+    public Client feignClient() {
+        return (request, options) -> forUrl(request.url()).execute(request, options);
+    }
+
+    /**
+     * Request factory routing each request to the pool of its downstream.
+     */
+    public ClientHttpRequestFactory requestFactory() {
+        return (uri, httpMethod) -> forUri(uri).requestFactory.createRequest(uri, httpMethod);
+    }
+
+    /**
+     * Request factory routing each request to the pool of its downstream, writing request bodies straight to
+     * the connection rather than buffering them first. Such requests cannot be retried by the client itself.
+     */
+    public ClientHttpRequestFactory streamingRequestFactory() {
+        return (uri, httpMethod) -> forUri(uri).streamingRequestFactory.createRequest(uri, httpMethod);
+    }
+
+    String downstreamName(String url) {
+        return forUrl(url).name;
+    }
+
+    @Override
+    public void close() {
+        httpClients.forEach(httpClient -> {
+            try {
+                httpClient.close();
+            } catch (IOException e) {
+                log.warn("Failed to close http client", e);
+            }
+        });
+    }
+
+    private Downstream forUrl(String url) {
+        return forAuthority(authority(url));
+    }
+
+    private Downstream forUri(URI uri) {
+        return forAuthority(authority(uri));
+    }
+
+    private Downstream forAuthority(String authority) {
+        return authority == null
+            ? defaultDownstream
+            : downstreamsByAuthority.getOrDefault(authority, defaultDownstream);
+    }
+
+    private Downstream downstream(String name, Profile profile, boolean ownTimeouts, MeterRegistry meterRegistry) {
+        CloseableHttpClient httpClient = httpClient(name, profile, meterRegistry);
+        httpClients.add(httpClient);
+        Request.Options options = ownTimeouts
+            ? new Request.Options(
+                profile.getConnectTimeout().toMillis(), TimeUnit.MILLISECONDS,
+                profile.getSocketTimeout().toMillis(), TimeUnit.MILLISECONDS,
+                true
+            )
+            : null;
+        HttpComponentsClientHttpRequestFactory streamingRequestFactory =
+            new HttpComponentsClientHttpRequestFactory(httpClient);
+        streamingRequestFactory.setBufferRequestBody(false);
+        return new Downstream(name, new ApacheHttpClient(httpClient), options,
+                              new HttpComponentsClientHttpRequestFactory(httpClient), streamingRequestFactory);
+    }
+
+    private static CloseableHttpClient httpClient(String name, Profile profile, MeterRegistry meterRegistry) {
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager(
+            RegistryBuilder.<ConnectionSocketFactory>create()
+                .register("http", PlainConnectionSocketFactory.getSocketFactory())
+                .register("https", SSLConnectionSocketFactory.getSystemSocketFactory())
+                .build()
+        );
+        connectionManager.setMaxTotal(profile.getMaxTotal());
+        connectionManager.setDefaultMaxPerRoute(profile.getMaxPerRoute());
+        connectionManager.setDefaultSocketConfig(
+            SocketConfig.custom().setSoTimeout((int) profile.getSocketTimeout().toMillis()).build());
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, name).bindTo(meterRegistry);
+
+        long keepAlive = profile.getKeepAlive().toMillis();
+        return HttpClientBuilder
+            .create()
+            .useSystemProperties()
+            .setConnectionManager(connectionManager)
+            .setDefaultRequestConfig(RequestConfig.custom()
+                                         .setConnectTimeout((int) profile.getConnectTimeout().toMillis())
+                                         .setConnectionRequestTimeout(
+                                             (int) profile.getConnectionRequestTimeout().toMillis())
+                                         .setSocketTimeout((int) profile.getSocketTimeout().toMillis())
+                                         .build())
+            .setKeepAliveStrategy((response, context) -> {
+                long requested = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+                return requested > 0 ? Math.min(requested, keepAlive) : keepAlive;
+            })
+            .evictExpiredConnections()
+            .evictIdleConnections(profile.getIdleTimeout().toMillis(), TimeUnit.MILLISECONDS)
+            .setRequestExecutor(MicrometerHttpRequestExecutor.builder(meterRegistry)
+                                    .tags(Tags.of("downstream", name))
+                                    .build())
+            .build();
+    }
+
+    static String authority(String url) {
+        if (url == null || url.isBlank()) {
+            return null;
+        }
+        try {
+            return authority(URI.create(url.trim()));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static String authority(URI uri) {
+        if (uri.getScheme() == null || uri.getHost() == null) {
+            return null;
+        }
+        String scheme = uri.getScheme().toLowerCase(Locale.ROOT);
+        int port = uri.getPort();
+        if (port == -1) {
+            port = "https".equals(scheme) ? 443 : 80;
+        }
+        return scheme + "://" + uri.getHost().toLowerCase(Locale.ROOT) + ":" + port;
+    }
+
+    @RequiredArgsConstructor
+    private static final class Downstream {
+
+        private final String name;
+        private final Client feignClient;
+        private final Request.Options options;
+        private final ClientHttpRequestFactory requestFactory;
+        private final ClientHttpRequestFactory streamingRequestFactory;
+
+        /**
+         * Feign passes its own timeouts with every request, which win over the pool's unless the profile
+         * sets some of its own.
+         */
+        private Response execute(Request request, Request.Options requestOptions) throws IOException {
+            return feignClient.execute(
+                request,
+                options == null
+                    ? requestOptions
+                    : new Request.Options(
+                        options.connectTimeout(), options.connectTimeoutUnit(),
+                        options.readTimeout(), options.readTimeoutUnit(),
+                        requestOptions.isFollowRedirects()
+                    )
+            );
+        }
+    }
+}
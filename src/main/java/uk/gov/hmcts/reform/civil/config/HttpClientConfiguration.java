@@ -1,43 +1,30 @@
 package uk.gov.hmcts.reform.civil.config;
 
 import feign.Client;
-import feign.httpclient.ApacheHttpClient;
-import org.apache.http.client.config.RequestConfig;
-import org.apache.http.impl.client.CloseableHttpClient;
-import org.apache.http.impl.client.HttpClientBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
+import uk.gov.hmcts.reform.civil.config.properties.http.HttpClientProperties;
 
 @Configuration
 public class HttpClientConfiguration {
 
     @Bean
-    public Client getFeignHttpClient() {
-        return new ApacheHttpClient(getHttpClient());
+    public DownstreamHttpClients downstreamHttpClients(HttpClientProperties properties, MeterRegistry meterRegistry) {
+        return new DownstreamHttpClients(properties, meterRegistry);
     }
 
     @Bean
-    public RestTemplate restTemplate() {
-        RestTemplate restTemplate = new RestTemplate();
-        restTemplate.setRequestFactory(new HttpComponentsClientHttpRequestFactory(getHttpClient()));
-        return restTemplate;
+    public Client getFeignHttpClient(DownstreamHttpClients downstreamHttpClients) {
+        return downstreamHttpClients.feignClient();
     }
 
-    private CloseableHttpClient getHttpClient() {
-        int timeout = 10000;
-        RequestConfig config = RequestConfig.custom()
-            .setConnectTimeout(timeout)
-            .setConnectionRequestTimeout(timeout)
-            .setSocketTimeout(timeout)
-            .build();
-
-        return HttpClientBuilder
-            .create()
-            .useSystemProperties()
-            .setDefaultRequestConfig(config)
-            .build();
+    @Bean
+    public RestTemplate restTemplate(DownstreamHttpClients downstreamHttpClients) {
+        RestTemplate restTemplate = new RestTemplate();
+        restTemplate.setRequestFactory(downstreamHttpClients.requestFactory());
+        return restTemplate;
     }
 
 }
@@ -0,0 +1,33 @@
+package uk.gov.hmcts.reform.civil.config.properties.docmosis;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "docmosis.render-cache")
+public class RenderedDocumentCacheProperties {
+
+    /**
+     * Reuses a document already rendered and uploaded for the same template and template data.
+     */
+    private boolean enabled;
+
+    /**
+     * Also keeps rendered documents in the reference database, so they are reused by every instance.
+     */
+    private boolean persistent;
+
+    /**
+     * Number of documents kept in memory by each instance.
+     */
+    private long maximumSize = 1000;
+
+    /**
+     * Time a rendered document is reused for.
+     */
+    private Duration expireAfter = Duration.ofHours(24);
+}
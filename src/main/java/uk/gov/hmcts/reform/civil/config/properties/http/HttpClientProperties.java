@@ -0,0 +1,84 @@
+package uk.gov.hmcts.reform.civil.config.properties.http;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "http-client")
+public class HttpClientProperties {
+
+    /**
+     * Settings of the client used for any host without a downstream profile, and for settings a profile leaves out.
+     */
+    private Profile defaults = Profile.defaults();
+
+    /**
+     * Client profiles by downstream name, each matched to requests by the scheme, host and port of its url.
+     */
+    private Map<String, Profile> downstreams = new LinkedHashMap<>();
+
+    @Data
+    public static class Profile {
+
+        private String url;
+        private Integer maxTotal;
+        private Integer maxPerRoute;
+        private Duration connectTimeout;
+        private Duration socketTimeout;
+        /**
+         * Time to wait for a connection from the pool.
+         */
+        private Duration connectionRequestTimeout;
+        /**
+         * Longest time an idle connection is kept alive, unless the server asks for less.
+         */
+        private Duration keepAlive;
+        /**
+         * Idle connections are closed in the background once idle for this long.
+         */
+        private Duration idleTimeout;
+
+        static Profile defaults() {
+            Profile profile = new Profile();
+            profile.setMaxTotal(50);
+            profile.setMaxPerRoute(20);
+            profile.setConnectTimeout(Duration.ofSeconds(10));
+            profile.setSocketTimeout(Duration.ofSeconds(10));
+            profile.setConnectionRequestTimeout(Duration.ofSeconds(10));
+            profile.setKeepAlive(Duration.ofSeconds(30));
+            profile.setIdleTimeout(Duration.ofSeconds(60));
+            return profile;
+        }
+
+        /**
+         * Returns whether this profile sets its own timeouts, rather than taking them from the defaults.
+         */
+        public boolean hasTimeouts() {
+            return connectTimeout != null || socketTimeout != null;
+        }
+
+        /**
+         * Returns this profile with any settings it leaves out taken from the given defaults.
+         */
+        public Profile withDefaults(Profile defaults) {
+            Profile profile = new Profile();
+            profile.setUrl(url);
+            profile.setMaxTotal(maxTotal != null ? maxTotal : defaults.getMaxTotal());
+            profile.setMaxPerRoute(maxPerRoute != null ? maxPerRoute : defaults.getMaxPerRoute());
+            profile.setConnectTimeout(connectTimeout != null ? connectTimeout : defaults.getConnectTimeout());
+            profile.setSocketTimeout(socketTimeout != null ? socketTimeout : defaults.getSocketTimeout());
+            profile.setConnectionRequestTimeout(connectionRequestTimeout != null
+                                                    ? connectionRequestTimeout
+                                                    : defaults.getConnectionRequestTimeout());
+            profile.setKeepAlive(keepAlive != null ? keepAlive : defaults.getKeepAlive());
+            profile.setIdleTimeout(idleTimeout != null ? idleTimeout : defaults.getIdleTimeout());
+            return profile;
+        }
+    }
+}
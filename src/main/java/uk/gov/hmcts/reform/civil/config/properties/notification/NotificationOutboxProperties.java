@@ -0,0 +1,59 @@
+package uk.gov.hmcts.reform.civil.config.properties.notification;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "notifications.outbox")
+public class NotificationOutboxProperties {
+
+    /**
+     * Queues emails in the reference database and sends them in the background instead of within the callback.
+     */
+    private boolean enabled;
+
+    /**
+     * Number of threads sending emails.
+     */
+    private int workers = 4;
+
+    /**
+     * Number of emails claimed from the outbox at a time.
+     */
+    private int batchSize = 50;
+
+    /**
+     * Maximum number of emails sent per second, across all workers of this instance.
+     */
+    private double permitsPerSecond = 20;
+
+    private int maxAttempts = 8;
+
+    private Duration pollInterval = Duration.ofSeconds(1);
+
+    /**
+     * Time an instance has to send a claimed batch before other instances may claim it again.
+     */
+    private Duration lease = Duration.ofMinutes(2);
+
+    /**
+     * Delay before the first retry, doubled for every further attempt up to the maximum backoff.
+     */
+    private Duration initialBackoff = Duration.ofSeconds(30);
+
+    private Duration maxBackoff = Duration.ofMinutes(30);
+
+    /**
+     * Emails with the same reference, recipient and template queued within this window are dropped as duplicates.
+     */
+    private Duration deduplicationWindow = Duration.ofHours(24);
+
+    /**
+     * Time sent emails are kept in the outbox.
+     */
+    private Duration retention = Duration.ofDays(7);
+}
@@ -0,0 +1,33 @@
+package uk.gov.hmcts.reform.civil.config.properties.organisation;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "organisation.cache")
+public class OrganisationCacheProperties {
+
+    /**
+     * Number of organisations kept by each instance.
+     */
+    private long maximumSize = 1000;
+
+    /**
+     * Time an organisation found in PRD is kept for.
+     */
+    private Duration expireAfter = Duration.ofMinutes(30);
+
+    /**
+     * Time an organisation which PRD did not find is remembered as missing.
+     */
+    private Duration notFoundExpireAfter = Duration.ofMinutes(1);
+
+    /**
+     * Age after which a cached organisation is reloaded in the background on its next lookup.
+     */
+    private Duration refreshAfter = Duration.ofMinutes(5);
+}
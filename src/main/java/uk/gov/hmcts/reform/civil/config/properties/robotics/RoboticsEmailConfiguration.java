@@ -12,4 +12,5 @@ public class RoboticsEmailConfiguration {
     private String sender;
     private String recipient;
     private String multipartyrecipient;
+    private boolean gzipAttachment;
 }
@@ -0,0 +1,23 @@
+package uk.gov.hmcts.reform.civil.config.properties.tasks;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "external-task")
+public class ExternalTaskWorkersConfiguration {
+
+    /**
+     * Number of workers executing the tasks of a topic, topics not listed are executed one task at a time.
+     */
+    private Map<String, Integer> workers = new HashMap<>();
+
+    public int getWorkers(String topic) {
+        return Math.max(1, workers.getOrDefault(topic, 1));
+    }
+}
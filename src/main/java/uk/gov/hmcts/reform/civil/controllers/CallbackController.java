@@ -6,6 +6,7 @@ import io.swagger.annotations.ApiOperation;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -13,14 +14,17 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
 import uk.gov.hmcts.reform.ccd.client.model.CallbackRequest;
 import uk.gov.hmcts.reform.ccd.client.model.CallbackResponse;
 import uk.gov.hmcts.reform.civil.callback.CallbackHandlerFactory;
 import uk.gov.hmcts.reform.civil.callback.CallbackParams;
 import uk.gov.hmcts.reform.civil.callback.CallbackType;
 import uk.gov.hmcts.reform.civil.callback.CallbackVersion;
+import uk.gov.hmcts.reform.civil.helpers.CallbackCaseData;
 import uk.gov.hmcts.reform.civil.helpers.CaseDetailsConverter;
 
+import java.io.IOException;
 import java.util.Optional;
 import javax.validation.constraints.NotNull;
 
@@ -48,10 +52,18 @@ public class CallbackController {
     public CallbackResponse callback(
         @RequestHeader(HttpHeaders.AUTHORIZATION) String authorisation,
         @PathVariable("callback-type") String callbackType,
-        @NotNull @RequestBody CallbackRequest callback,
+        @NotNull @RequestBody byte[] body,
         @PathVariable("version") Optional<CallbackVersion> version,
         @PathVariable("page-id") Optional<String> pageId
     ) {
+        CallbackCaseData callbackCaseData;
+        try {
+            callbackCaseData = caseDetailsConverter.toCallbackCaseData(body);
+        } catch (IOException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unreadable callback request", e);
+        }
+        CallbackRequest callback = callbackCaseData.getCallbackRequest();
+
         log.info("Received callback from CCD, eventId: {}, callback type: {}, page id: {}, version: {}",
                  callback.getEventId(), callbackType, pageId, version
         );
@@ -62,7 +74,9 @@ public class CallbackController {
             .params(ImmutableMap.of(CallbackParams.Params.BEARER_TOKEN, authorisation))
             .version(version.orElse(null))
             .pageId(pageId.orElse(null))
-            .caseData(caseDetailsConverter.toCaseData(callback.getCaseDetails()))
+            .caseData(callbackCaseData.getCaseData())
+            .caseDataBeforeProjection(callbackCaseData.getCaseDataBeforeProjection())
+            .caseDataBefore(callbackCaseData.getCaseDataBefore())
             .build();
 
         return callbackHandlerFactory.dispatch(callbackParams);
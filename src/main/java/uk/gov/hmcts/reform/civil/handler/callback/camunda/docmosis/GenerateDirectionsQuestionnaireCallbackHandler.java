@@ -13,11 +13,14 @@ import uk.gov.hmcts.reform.civil.enums.RespondentResponseType;
 import uk.gov.hmcts.reform.civil.model.CaseData;
 import uk.gov.hmcts.reform.civil.model.common.Element;
 import uk.gov.hmcts.reform.civil.model.documents.CaseDocument;
+import uk.gov.hmcts.reform.civil.service.docmosis.ParallelDocumentGenerator;
 import uk.gov.hmcts.reform.civil.service.docmosis.dq.DirectionsQuestionnaireGenerator;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import static uk.gov.hmcts.reform.civil.callback.CallbackParams.Params.BEARER_TOKEN;
 import static uk.gov.hmcts.reform.civil.callback.CallbackType.ABOUT_TO_SUBMIT;
@@ -33,6 +36,7 @@ public class GenerateDirectionsQuestionnaireCallbackHandler extends CallbackHand
     private static final List<CaseEvent> EVENTS = Collections.singletonList(GENERATE_DIRECTIONS_QUESTIONNAIRE);
 
     private final DirectionsQuestionnaireGenerator directionsQuestionnaireGenerator;
+    private final ParallelDocumentGenerator parallelDocumentGenerator;
     private final ObjectMapper objectMapper;
 
     @Override
@@ -50,13 +54,19 @@ public class GenerateDirectionsQuestionnaireCallbackHandler extends CallbackHand
         CaseData.CaseDataBuilder caseDataBuilder = caseData.toBuilder();
 
         if (respondent2HasSameLegalRep(caseData) && NO == caseData.getRespondentResponseIsSame()) {
+            List<Supplier<CaseDocument>> generators = new ArrayList<>();
             if (isDefendant1DQResponse(caseData)) {
-                generateAndSet1V2SameSolDivergentResponsesDQ(callbackParams, caseData, caseDataBuilder, "ONE");
+                generators.add(() -> generate1V2SameSolDivergentResponsesDQ(callbackParams, caseData, "ONE"));
             }
 
             if (isDefendant2DQResponse(caseData)) {
-                generateAndSet1V2SameSolDivergentResponsesDQ(callbackParams, caseData, caseDataBuilder, "TWO");
+                generators.add(() -> generate1V2SameSolDivergentResponsesDQ(callbackParams, caseData, "TWO"));
             }
+
+            List<Element<CaseDocument>> systemGeneratedCaseDocuments = caseData.getSystemGeneratedCaseDocuments();
+            parallelDocumentGenerator.generate("directionsQuestionnaire", generators)
+                .forEach(directionsQuestionnaire -> systemGeneratedCaseDocuments.add(element(directionsQuestionnaire)));
+            caseDataBuilder.systemGeneratedCaseDocuments(systemGeneratedCaseDocuments);
         } else {
             generateAndSetDQ(callbackParams, caseData, caseDataBuilder);
         }
@@ -88,20 +98,13 @@ public class GenerateDirectionsQuestionnaireCallbackHandler extends CallbackHand
             && RespondentResponseType.FULL_DEFENCE.equals(caseData.getRespondent1ClaimResponseType());
     }
 
-    private void generateAndSet1V2SameSolDivergentResponsesDQ(CallbackParams callbackParams, CaseData caseData,
-                                                              CaseData.CaseDataBuilder caseDataBuilder,
-                                                              String defendantIdentifier) {
-        CaseDocument directionsQuestionnaire =
-            directionsQuestionnaireGenerator.generateDQFor1v2SingleSolDiffResponse(
+    private CaseDocument generate1V2SameSolDivergentResponsesDQ(CallbackParams callbackParams, CaseData caseData,
+                                                                String defendantIdentifier) {
+        return directionsQuestionnaireGenerator.generateDQFor1v2SingleSolDiffResponse(
             caseData,
             callbackParams.getParams().get(BEARER_TOKEN).toString(),
             defendantIdentifier
         );
-
-        List<Element<CaseDocument>> systemGeneratedCaseDocuments =
-            caseData.getSystemGeneratedCaseDocuments();
-        systemGeneratedCaseDocuments.add(element(directionsQuestionnaire));
-        caseDataBuilder.systemGeneratedCaseDocuments(systemGeneratedCaseDocuments);
     }
 
     private boolean respondent2HasSameLegalRep(CaseData caseData) {
@@ -1,6 +1,5 @@
 package uk.gov.hmcts.reform.civil.handler.callback.camunda.robotics;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.networknt.schema.ValidationMessage;
 import lombok.RequiredArgsConstructor;
 import uk.gov.hmcts.reform.ccd.client.model.AboutToStartOrSubmitCallbackResponse;
@@ -8,15 +7,17 @@ import uk.gov.hmcts.reform.ccd.client.model.CallbackResponse;
 import uk.gov.hmcts.reform.civil.callback.CallbackHandler;
 import uk.gov.hmcts.reform.civil.callback.CallbackParams;
 import uk.gov.hmcts.reform.civil.model.CaseData;
+import uk.gov.hmcts.reform.civil.model.robotics.EventHistory;
 import uk.gov.hmcts.reform.civil.model.robotics.RoboticsCaseData;
 import uk.gov.hmcts.reform.civil.model.robotics.RoboticsCaseDataSpec;
 import uk.gov.hmcts.reform.civil.service.robotics.JsonSchemaValidationService;
 import uk.gov.hmcts.reform.civil.service.robotics.RoboticsNotificationService;
+import uk.gov.hmcts.reform.civil.service.robotics.RoboticsPayload;
 import uk.gov.hmcts.reform.civil.service.robotics.exception.JsonSchemaValidationException;
-import uk.gov.hmcts.reform.civil.service.robotics.exception.RoboticsDataException;
 import uk.gov.hmcts.reform.civil.service.robotics.mapper.RoboticsDataMapper;
 import uk.gov.hmcts.reform.civil.service.robotics.mapper.RoboticsDataMapperForSpec;
 
+import java.util.Optional;
 import java.util.Set;
 
 import static java.lang.String.format;
@@ -32,32 +33,57 @@ public abstract class NotifyRoboticsHandler extends CallbackHandler {
     private final RoboticsDataMapperForSpec roboticsDataMapperForSpec;
 
     protected CallbackResponse notifyRobotics(CallbackParams callbackParams) {
-        RoboticsCaseData roboticsCaseData = null;
-        RoboticsCaseDataSpec roboticsCaseDataSpec = null;
+        RoboticsPayload payload;
+        EventHistory eventHistory;
         Set<ValidationMessage> errors = null;
 
         CaseData caseData = callbackParams.getCaseData();
         boolean multiPartyScenario = isMultiPartyScenario(caseData);
-        try {
 
-            if (caseData.getSuperClaimType() != null && caseData.getSuperClaimType().equals(SPEC_CLAIM)) {
-                roboticsCaseDataSpec = roboticsDataMapperForSpec.toRoboticsCaseData(caseData);
-            } else {
-                roboticsCaseData = roboticsDataMapper.toRoboticsCaseData(caseData);
-                errors = jsonSchemaValidationService.validate(roboticsCaseData.toJsonString());
+        if (caseData.getSuperClaimType() != null && caseData.getSuperClaimType().equals(SPEC_CLAIM)) {
+            RoboticsCaseDataSpec roboticsCaseDataSpec = roboticsDataMapperForSpec.toRoboticsCaseData(caseData);
+            eventHistory = roboticsCaseDataSpec.getEvents();
+            Optional<EventHistory> events = eventsToSend(caseData, eventHistory);
+            if (events.isEmpty()) {
+                return AboutToStartOrSubmitCallbackResponse.builder().build();
             }
-
-            if (errors == null || errors.isEmpty()) {
-                roboticsNotificationService.notifyRobotics(caseData, multiPartyScenario);
-            } else {
-                throw new JsonSchemaValidationException(
-                    format("Invalid RPA Json payload for %s", caseData.getLegacyCaseReference()),
-                    errors
-                );
+            roboticsCaseDataSpec.setEvents(events.get());
+            payload = RoboticsPayload.of(roboticsCaseDataSpec);
+        } else {
+            RoboticsCaseData roboticsCaseData = roboticsDataMapper.toRoboticsCaseData(caseData);
+            eventHistory = roboticsCaseData.getEvents();
+            Optional<EventHistory> events = eventsToSend(caseData, eventHistory);
+            if (events.isEmpty()) {
+                return AboutToStartOrSubmitCallbackResponse.builder().build();
             }
-        } catch (JsonProcessingException e) {
-            throw new RoboticsDataException(e.getMessage(), e);
+            roboticsCaseData.setEvents(events.get());
+            payload = RoboticsPayload.of(roboticsCaseData);
+            errors = jsonSchemaValidationService.validate(payload);
+        }
+
+        if (errors == null || errors.isEmpty()) {
+            roboticsNotificationService.notifyRobotics(caseData, multiPartyScenario, payload);
+            eventsSent(caseData, eventHistory);
+        } else {
+            throw new JsonSchemaValidationException(
+                format("Invalid RPA Json payload for %s", caseData.getLegacyCaseReference()),
+                errors
+            );
         }
         return AboutToStartOrSubmitCallbackResponse.builder().build();
     }
+
+    /**
+     * Returns the events of the case to send, or empty to skip the notification. All events are sent by default.
+     */
+    protected Optional<EventHistory> eventsToSend(CaseData caseData, EventHistory eventHistory) {
+        return Optional.of(eventHistory);
+    }
+
+    /**
+     * Called with the case's full event history once it has been sent.
+     */
+    protected void eventsSent(CaseData caseData, EventHistory eventHistory) {
+        // nothing to record by default
+    }
 }
@@ -4,13 +4,17 @@ import org.springframework.stereotype.Service;
 import uk.gov.hmcts.reform.civil.callback.Callback;
 import uk.gov.hmcts.reform.civil.callback.CallbackParams;
 import uk.gov.hmcts.reform.civil.callback.CaseEvent;
+import uk.gov.hmcts.reform.civil.model.CaseData;
+import uk.gov.hmcts.reform.civil.model.robotics.EventHistory;
 import uk.gov.hmcts.reform.civil.service.robotics.JsonSchemaValidationService;
+import uk.gov.hmcts.reform.civil.service.robotics.RoboticsDeltaFeedService;
 import uk.gov.hmcts.reform.civil.service.robotics.RoboticsNotificationService;
 import uk.gov.hmcts.reform.civil.service.robotics.mapper.RoboticsDataMapper;
 import uk.gov.hmcts.reform.civil.service.robotics.mapper.RoboticsDataMapperForSpec;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import static uk.gov.hmcts.reform.civil.callback.CallbackType.ABOUT_TO_SUBMIT;
 import static uk.gov.hmcts.reform.civil.callback.CaseEvent.NOTIFY_RPA_ON_CONTINUOUS_FEED;
@@ -21,13 +25,17 @@ public class NotifyRoboticsOnContinuousFeedHandler extends NotifyRoboticsHandler
     private static final List<CaseEvent> EVENTS = List.of(NOTIFY_RPA_ON_CONTINUOUS_FEED);
     public static final String TASK_ID = "NotifyRoboticsOnContinuousFeed";
 
+    private final Optional<RoboticsDeltaFeedService> roboticsDeltaFeedService;
+
     public NotifyRoboticsOnContinuousFeedHandler(
         RoboticsNotificationService roboticsNotificationService,
         JsonSchemaValidationService jsonSchemaValidationService,
         RoboticsDataMapper roboticsDataMapper,
-        RoboticsDataMapperForSpec roboticsDataMapperForSpec
+        RoboticsDataMapperForSpec roboticsDataMapperForSpec,
+        Optional<RoboticsDeltaFeedService> roboticsDeltaFeedService
     ) {
         super(roboticsNotificationService, jsonSchemaValidationService, roboticsDataMapper, roboticsDataMapperForSpec);
+        this.roboticsDeltaFeedService = roboticsDeltaFeedService;
     }
 
     @Override
@@ -37,6 +45,18 @@ public class NotifyRoboticsOnContinuousFeedHandler extends NotifyRoboticsHandler
         );
     }
 
+    @Override
+    protected Optional<EventHistory> eventsToSend(CaseData caseData, EventHistory eventHistory) {
+        return roboticsDeltaFeedService.isPresent()
+            ? roboticsDeltaFeedService.get().eventsToSend(caseData.getCcdCaseReference(), eventHistory)
+            : Optional.of(eventHistory);
+    }
+
+    @Override
+    protected void eventsSent(CaseData caseData, EventHistory eventHistory) {
+        roboticsDeltaFeedService.ifPresent(service -> service.eventsSent(caseData.getCcdCaseReference(), eventHistory));
+    }
+
     @Override
     public String camundaActivityId(CallbackParams callbackParams) {
         return TASK_ID;
@@ -36,8 +36,8 @@ public interface BaseExternalTaskHandler extends ExternalTaskHandler {
 
         try {
             log.info("External task '{}' started", topicName);
-            handleTask(externalTask);
-            completeTask(externalTask, externalTaskService);
+            VariableMap variables = handleTask(externalTask);
+            completeTask(externalTask, externalTaskService, variables);
         } catch (BpmnError e) {
             externalTaskService.handleBpmnError(externalTask, e.getErrorCode());
             log.error("Bpmn error for external task '{}'", topicName, e);
@@ -47,11 +47,12 @@ public interface BaseExternalTaskHandler extends ExternalTaskHandler {
         }
     }
 
-    private void completeTask(ExternalTask externalTask, ExternalTaskService externalTaskService) {
+    private void completeTask(ExternalTask externalTask, ExternalTaskService externalTaskService,
+                              VariableMap variables) {
         String topicName = externalTask.getTopicName();
 
         try {
-            ofNullable(getVariableMap()).ifPresentOrElse(
+            ofNullable(variables).ifPresentOrElse(
                 variableMap -> externalTaskService.complete(externalTask, variableMap),
                 () -> externalTaskService.complete(externalTask)
             );
@@ -99,19 +100,11 @@ public interface BaseExternalTaskHandler extends ExternalTaskHandler {
     }
 
     /**
-     * Defines a Map of variables to be added to an external task on completion.
-     * By default this is null, override to add values.
-     *
-     * @return the variables to add to the external task.
-     */
-    default VariableMap getVariableMap() {
-        return null;
-    }
-
-    /**
-     * Executed for each fetched and locked task.
+     * Executed for each fetched and locked task. Handlers are shared between concurrently executed tasks, so any
+     * state of a task is kept local and handed back through the returned variables.
      *
      * @param externalTask the external task to be handled.
+     * @return the variables to add to the external task on completion, or null when there are none.
      */
-    void handleTask(ExternalTask externalTask);
+    VariableMap handleTask(ExternalTask externalTask);
 }
@@ -41,10 +41,8 @@ public class CaseEventTaskHandler implements BaseExternalTaskHandler {
     private final ObjectMapper mapper;
     private final StateFlowEngine stateFlowEngine;
 
-    private CaseData data;
-
     @Override
-    public void handleTask(ExternalTask externalTask) {
+    public VariableMap handleTask(ExternalTask externalTask) {
         ExternalTaskInput variables = mapper.convertValue(externalTask.getAllVariables(), ExternalTaskInput.class);
         String caseId = variables.getCaseId();
         StartEventResponse startEventResponse = coreCaseDataService.startUpdate(caseId, variables.getCaseEvent());
@@ -59,11 +57,11 @@ public class CaseEventTaskHandler implements BaseExternalTaskHandler {
             flowState,
             startEventData
         );
-        data = coreCaseDataService.submitUpdate(caseId, caseDataContent);
+        CaseData data = coreCaseDataService.submitUpdate(caseId, caseDataContent);
+        return getVariableMap(data);
     }
 
-    @Override
-    public VariableMap getVariableMap() {
+    private VariableMap getVariableMap(CaseData data) {
         VariableMap variables = Variables.createVariables();
         var stateFlow = stateFlowEngine.evaluate(data);
         variables.putValue(FLOW_STATE, stateFlow.getState().getName());
@@ -3,13 +3,15 @@ package uk.gov.hmcts.reform.civil.handler.tasks;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.camunda.bpm.client.task.ExternalTask;
+import org.camunda.bpm.engine.variable.VariableMap;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
 import uk.gov.hmcts.reform.civil.event.DismissClaimEvent;
 import uk.gov.hmcts.reform.civil.service.search.CaseDismissedSearchService;
 
-import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -20,16 +22,23 @@ public class ClaimDismissedHandler implements BaseExternalTaskHandler {
     private final ApplicationEventPublisher applicationEventPublisher;
 
     @Override
-    public void handleTask(ExternalTask externalTask) {
-        List<CaseDetails> cases = caseSearchService.getCases();
-        log.info("Job '{}' found {} case(s)", externalTask.getTopicName(), cases.size());
+    public VariableMap handleTask(ExternalTask externalTask) {
+        AtomicInteger cases = new AtomicInteger();
+        try (Stream<CaseDetails> caseDetails = caseSearchService.streamCases()) {
+            caseDetails.forEach(caseDetail -> {
+                cases.incrementAndGet();
+                publishEvent(caseDetail);
+            });
+        }
+        log.info("Job '{}' found {} case(s)", externalTask.getTopicName(), cases.get());
+        return null;
+    }
 
-        cases.forEach(caseDetails -> {
-            try {
-                applicationEventPublisher.publishEvent(new DismissClaimEvent(caseDetails.getId()));
-            } catch (Exception e) {
-                log.error("Updating case with id: '{}' failed", caseDetails.getId(), e);
-            }
-        });
+    private void publishEvent(CaseDetails caseDetails) {
+        try {
+            applicationEventPublisher.publishEvent(new DismissClaimEvent(caseDetails.getId()));
+        } catch (Exception e) {
+            log.error("Updating case with id: '{}' failed", caseDetails.getId(), e);
+        }
     }
 }
@@ -29,10 +29,8 @@ public class PaymentTaskHandler implements BaseExternalTaskHandler {
     private final ObjectMapper objectMapper;
     private final StateFlowEngine stateFlowEngine;
 
-    private CaseData data;
-
     @Override
-    public void handleTask(ExternalTask externalTask) {
+    public VariableMap handleTask(ExternalTask externalTask) {
         Map<String, Object> allVariables = externalTask.getAllVariables();
         ExternalTaskInput externalTaskInput = objectMapper.convertValue(allVariables, ExternalTaskInput.class);
         String caseId = externalTaskInput.getCaseId();
@@ -40,11 +38,11 @@ public class PaymentTaskHandler implements BaseExternalTaskHandler {
                                                                                 externalTaskInput.getCaseEvent());
         BusinessProcess businessProcess = caseDetailsConverter.toCaseData(startEventResponse.getCaseDetails())
             .getBusinessProcess().updateActivityId(externalTask.getActivityId());
-        data = coreCaseDataService.submitUpdate(caseId, caseDataContent(startEventResponse, businessProcess));
+        CaseData data = coreCaseDataService.submitUpdate(caseId, caseDataContent(startEventResponse, businessProcess));
+        return getVariableMap(data);
     }
 
-    @Override
-    public VariableMap getVariableMap() {
+    private VariableMap getVariableMap(CaseData data) {
         VariableMap variables = Variables.createVariables();
         var stateFlow = stateFlowEngine.evaluate(data);
         variables.putValue(FLOW_STATE, stateFlow.getState().getName());
@@ -1,38 +1,139 @@
 package uk.gov.hmcts.reform.civil.handler.tasks;
 
-import lombok.RequiredArgsConstructor;
+import com.google.common.util.concurrent.RateLimiter;
+import io.micrometer.core.instrument.Metrics;
 import lombok.extern.slf4j.Slf4j;
 import org.camunda.bpm.client.task.ExternalTask;
+import org.camunda.bpm.engine.variable.VariableMap;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
 import uk.gov.hmcts.reform.civil.helpers.CaseDetailsConverter;
+import uk.gov.hmcts.reform.civil.model.BusinessProcess;
+import uk.gov.hmcts.reform.civil.model.CaseData;
 import uk.gov.hmcts.reform.civil.service.EventEmitterService;
 import uk.gov.hmcts.reform.civil.service.search.CaseReadyBusinessProcessSearchService;
 
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import javax.annotation.PreDestroy;
 
+/**
+ * Emits the camunda event of every case with a READY business process. Cases are dispatched by a bounded number of
+ * workers, at no more than the configured rate towards CCD and Camunda, and a failing case does not stop the others.
+ * Once every worker is busy and as many cases are queued, the task thread dispatches the next case itself.
+ */
 @Slf4j
-@RequiredArgsConstructor
 @Component
 @ConditionalOnExpression("${polling.event.emitter.enabled:true}")
 public class PollingEventEmitterHandler implements BaseExternalTaskHandler {
 
+    static final String METRIC_NAME = "civil.polling.event.emitter.cases";
+
+    enum DispatchResult {
+        DISPATCHED,
+        FAILED,
+        SKIPPED
+    }
+
     private final CaseReadyBusinessProcessSearchService caseSearchService;
     private final CaseDetailsConverter caseDetailsConverter;
     private final EventEmitterService eventEmitterService;
+    private final double dispatchesPerSecond;
+    private final ThreadPoolExecutor executor;
+
+    public PollingEventEmitterHandler(CaseReadyBusinessProcessSearchService caseSearchService,
+                                      CaseDetailsConverter caseDetailsConverter,
+                                      EventEmitterService eventEmitterService,
+                                      @Value("${polling.event.emitter.concurrency:4}") int concurrency,
+                                      @Value("${polling.event.emitter.dispatches-per-second:10}")
+                                          double dispatchesPerSecond) {
+        this.caseSearchService = caseSearchService;
+        this.caseDetailsConverter = caseDetailsConverter;
+        this.eventEmitterService = eventEmitterService;
+        this.dispatchesPerSecond = dispatchesPerSecond;
+        int workers = Math.max(1, concurrency);
+        this.executor = new ThreadPoolExecutor(
+            workers,
+            workers,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(workers),
+            new CustomizableThreadFactory("polling-event-emitter-"),
+            new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
 
     @Override
-    public void handleTask(ExternalTask externalTask) {
+    public VariableMap handleTask(ExternalTask externalTask) {
         List<CaseDetails> cases = caseSearchService.getCases();
         log.info("Job '{}' found {} case(s)", externalTask.getTopicName(), cases.size());
-        cases.stream()
-            .map(caseDetailsConverter::toCaseData)
-            .forEach(mappedCase -> eventEmitterService.emitBusinessProcessCamundaEvent(mappedCase, true));
+        if (cases.isEmpty()) {
+            return null;
+        }
+
+        Map<DispatchResult, Long> summary = dispatch(cases);
+        summary.forEach((result, count) -> Metrics.counter(METRIC_NAME, "result", result.name().toLowerCase())
+            .increment(count));
+        log.info("Job '{}' dispatched {} case(s), {} failed, {} skipped", externalTask.getTopicName(),
+                 summary.get(DispatchResult.DISPATCHED), summary.get(DispatchResult.FAILED),
+                 summary.get(DispatchResult.SKIPPED)
+        );
+        return null;
     }
 
     @Override
     public int getMaxAttempts() {
         return 1;
     }
+
+    private Map<DispatchResult, Long> dispatch(List<CaseDetails> cases) {
+        RateLimiter rateLimiter = RateLimiter.create(dispatchesPerSecond);
+        List<CompletableFuture<DispatchResult>> dispatches = cases.stream()
+            .map(caseDetails -> CompletableFuture.supplyAsync(() -> dispatch(caseDetails, rateLimiter), executor))
+            .collect(Collectors.toList());
+
+        Map<DispatchResult, Long> summary = new EnumMap<>(DispatchResult.class);
+        for (DispatchResult result : DispatchResult.values()) {
+            summary.put(result, 0L);
+        }
+        dispatches.stream()
+            .map(CompletableFuture::join)
+            .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()))
+            .forEach(summary::put);
+        return summary;
+    }
+
+    private DispatchResult dispatch(CaseDetails caseDetails, RateLimiter rateLimiter) {
+        try {
+            CaseData caseData = caseDetailsConverter.toCaseData(caseDetails);
+            BusinessProcess businessProcess = caseData.getBusinessProcess();
+            if (businessProcess == null || businessProcess.getCamundaEvent() == null) {
+                log.warn("Case {} has no business process to dispatch", caseDetails.getId());
+                return DispatchResult.SKIPPED;
+            }
+
+            rateLimiter.acquire();
+            return eventEmitterService.emitBusinessProcessCamundaEvent(caseData, true)
+                ? DispatchResult.DISPATCHED
+                : DispatchResult.FAILED;
+        } catch (Exception e) {
+            log.error("Dispatching business process failed for case {}", caseDetails.getId(), e);
+            return DispatchResult.FAILED;
+        }
+    }
 }
@@ -30,19 +30,13 @@ public class StartBusinessProcessTaskHandler implements BaseExternalTaskHandler
     private final ObjectMapper mapper;
     private final StateFlowEngine stateFlowEngine;
 
-    private VariableMap variables;
-
     @Override
-    public void handleTask(ExternalTask externalTask) {
+    public VariableMap handleTask(ExternalTask externalTask) {
         CaseData caseData = startBusinessProcess(externalTask);
-        variables = Variables.createVariables();
+        VariableMap variables = Variables.createVariables();
         var stateFlow = stateFlowEngine.evaluate(caseData);
         variables.putValue(FLOW_STATE, stateFlow.getState().getName());
         variables.putValue(FLOW_FLAGS, stateFlow.getFlags());
-    }
-
-    @Override
-    public VariableMap getVariableMap() {
         return variables;
     }
 
@@ -0,0 +1,16 @@
+package uk.gov.hmcts.reform.civil.helpers;
+
+import lombok.Value;
+import uk.gov.hmcts.reform.ccd.client.model.CallbackRequest;
+import uk.gov.hmcts.reform.civil.model.CaseData;
+
+import java.util.function.Supplier;
+
+@Value
+public class CallbackCaseData {
+
+    CallbackRequest callbackRequest;
+    CaseData caseData;
+    CaseData caseDataBeforeProjection;
+    Supplier<CaseData> caseDataBefore;
+}
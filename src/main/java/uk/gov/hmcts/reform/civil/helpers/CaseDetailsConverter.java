@@ -1,35 +1,271 @@
 package uk.gov.hmcts.reform.civil.helpers;
 
+import com.fasterxml.jackson.annotation.JacksonInject;
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.InjectableValues;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.google.common.base.Suppliers;
+import com.google.common.collect.ForwardingMap;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import uk.gov.hmcts.reform.ccd.client.model.CallbackRequest;
 import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
 import uk.gov.hmcts.reform.civil.enums.CaseState;
 import uk.gov.hmcts.reform.civil.model.CaseData;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static java.util.Collections.singletonMap;
 
 @Service
 public class CaseDetailsConverter {
 
+    /**
+     * Case data fields bound eagerly from case details before, all other fields are bound on demand.
+     */
+    public static final Set<String> CASE_DATA_BEFORE_PROJECTION = Set.of("businessProcess");
+
+    private static final String EVENT_ID = "event_id";
+    private static final String CASE_DETAILS = "case_details";
+    private static final String CASE_DETAILS_BEFORE = "case_details_before";
+    private static final Set<String> CASE_DATA_FIELDS = Set.of("case_data", "data");
+    private static final String CASE_DATA = "caseData";
+    private static final TypeReference<Map<String, Object>> CASE_DATA_MAP = new TypeReference<>() {};
+
     private final ObjectMapper objectMapper;
+    private final ObjectReader caseDetailsReader;
 
     public CaseDetailsConverter(ObjectMapper objectMapper) {
         this.objectMapper = objectMapper;
         this.objectMapper.setSerializationInclusion(JsonInclude.Include.NON_EMPTY);
+        this.caseDetailsReader = objectMapper.copy()
+            .addMixIn(CaseDetails.class, CaseDetailsDataMixIn.class)
+            .readerFor(CaseDetails.class);
     }
 
     public CaseData toCaseData(CaseDetails caseDetails) {
-        Map<String, Object> data = new HashMap<>(caseDetails.getData());
-        data.put("ccdCaseReference", caseDetails.getId());
-        if (caseDetails.getState() != null) {
-            data.put("ccdState", CaseState.valueOf(caseDetails.getState()));
-        }
-        return objectMapper.convertValue(data, CaseData.class);
+        return withCaseDetails(
+            objectMapper.convertValue(caseDetails.getData(), CaseData.class),
+            caseDetails.getId(),
+            caseDetails.getState()
+        );
     }
 
     public CaseData toCaseData(Map<String, Object> caseDataMap) {
         return objectMapper.convertValue(caseDataMap, CaseData.class);
     }
+
+    /**
+     * Converts only the given case data fields of the case details, all other fields are left unset.
+     */
+    public CaseData toCaseDataProjection(CaseDetails caseDetails, Set<String> fields) {
+        Map<String, Object> data = new HashMap<>();
+        Optional.ofNullable(caseDetails.getData()).orElse(Map.of()).forEach((field, value) -> {
+            if (fields.contains(field)) {
+                data.put(field, value);
+            }
+        });
+        return withCaseDetails(objectMapper.convertValue(data, CaseData.class), caseDetails.getId(),
+                               caseDetails.getState()
+        );
+    }
+
+    /**
+     * Binds a raw callback request body in a single streaming pass. The case data of the case details is bound
+     * straight to {@link CaseData}, without materialising it as a map first; of the case details before only the
+     * {@link #CASE_DATA_BEFORE_PROJECTION} fields are, the full case data before is bound when first asked for.
+     * The data maps of the {@link CallbackRequest} are only parsed, from their part of the body, once a handler
+     * reads them.
+     */
+    public CallbackCaseData toCallbackCaseData(byte[] callbackRequest) throws IOException {
+        String eventId = null;
+        CallbackCaseDetails caseDetails = null;
+        CallbackCaseDetails caseDetailsBefore = null;
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(callbackRequest)) {
+            expectObject(parser.nextToken());
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                parser.nextToken();
+                if (EVENT_ID.equals(field)) {
+                    eventId = parser.getValueAsString();
+                } else if (CASE_DETAILS.equals(field)) {
+                    caseDetails = readCaseDetails(parser, callbackRequest, null);
+                } else if (CASE_DETAILS_BEFORE.equals(field)) {
+                    caseDetailsBefore = readCaseDetails(parser, callbackRequest, CASE_DATA_BEFORE_PROJECTION);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+
+        CallbackRequest request = CallbackRequest.builder()
+            .eventId(eventId)
+            .caseDetails(caseDetails == null ? null : caseDetails.caseDetails)
+            .caseDetailsBefore(caseDetailsBefore == null ? null : caseDetailsBefore.caseDetails)
+            .build();
+        CallbackCaseDetails before = caseDetailsBefore;
+        Supplier<CaseData> caseDataBefore = before == null
+            ? () -> null
+            : Suppliers.memoize(() -> readCaseDataBefore(before));
+        return new CallbackCaseData(
+            request,
+            caseDetails == null ? null : caseDetails.caseData,
+            before == null ? null : before.caseData,
+            caseDataBefore
+        );
+    }
+
+    /**
+     * Binds the metadata of the case details, and the given fields of its case data, while only noting where
+     * in the body the case data is.
+     */
+    private CallbackCaseDetails readCaseDetails(JsonParser parser, byte[] body, Set<String> fields)
+        throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectObject(parser.currentToken());
+
+        TokenBuffer metadata = new TokenBuffer(objectMapper, false);
+        metadata.writeStartObject();
+        BodyRange data = null;
+        CaseData caseData = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if (CASE_DATA_FIELDS.contains(field)) {
+                if (value != JsonToken.VALUE_NULL) {
+                    int start = (int) parser.getTokenLocation().getByteOffset();
+                    caseData = readCaseData(parser, fields);
+                    data = new BodyRange(body, start, (int) parser.getCurrentLocation().getByteOffset() - start);
+                }
+            } else {
+                metadata.writeFieldName(field);
+                metadata.copyCurrentStructure(parser);
+            }
+        }
+        metadata.writeEndObject();
+
+        CaseDetails caseDetails = caseDetailsReader
+            .with(new InjectableValues.Std(singletonMap(CASE_DATA, data == null ? null : new LazyCaseData(data))))
+            .readValue(metadata.asParser());
+        return new CallbackCaseDetails(
+            caseDetails,
+            data,
+            withCaseDetails(caseData, caseDetails.getId(), caseDetails.getState())
+        );
+    }
+
+    private CaseData readCaseDataBefore(CallbackCaseDetails caseDetailsBefore) {
+        BodyRange data = caseDetailsBefore.data;
+        try {
+            CaseData caseData = data == null
+                ? null
+                : objectMapper.readValue(data.body, data.offset, data.length, CaseData.class);
+            return withCaseDetails(
+                caseData,
+                caseDetailsBefore.caseDetails.getId(),
+                caseDetailsBefore.caseDetails.getState()
+            );
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private CaseData readCaseData(JsonParser parser, Set<String> fields) throws IOException {
+        if (fields == null) {
+            return objectMapper.readValue(parser, CaseData.class);
+        }
+        expectObject(parser.currentToken());
+
+        TokenBuffer projection = new TokenBuffer(objectMapper, false);
+        projection.writeStartObject();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            if (fields.contains(field)) {
+                projection.writeFieldName(field);
+                projection.copyCurrentStructure(parser);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        projection.writeEndObject();
+        return objectMapper.readValue(projection.asParser(), CaseData.class);
+    }
+
+    private static CaseData withCaseDetails(CaseData caseData, Long id, String state) {
+        CaseData.CaseDataBuilder builder = caseData == null ? CaseData.builder() : caseData.toBuilder();
+        builder.ccdCaseReference(id);
+        if (state != null) {
+            builder.ccdState(CaseState.valueOf(state));
+        }
+        return builder.build();
+    }
+
+    private static void expectObject(JsonToken token) throws IOException {
+        if (token != JsonToken.START_OBJECT) {
+            throw new IOException("Expected a JSON object but found " + token);
+        }
+    }
+
+    /**
+     * Binds the case details without their data, which is injected instead.
+     */
+    private abstract static class CaseDetailsDataMixIn {
+
+        @JacksonInject(CASE_DATA)
+        private Map<String, Object> data;
+    }
+
+    @RequiredArgsConstructor
+    private static final class BodyRange {
+
+        private final byte[] body;
+        private final int offset;
+        private final int length;
+    }
+
+    @RequiredArgsConstructor
+    private static final class CallbackCaseDetails {
+
+        private final CaseDetails caseDetails;
+        private final BodyRange data;
+        private final CaseData caseData;
+    }
+
+    /**
+     * Case data map parsed from its part of the callback request body when first used.
+     */
+    private final class LazyCaseData extends ForwardingMap<String, Object> {
+
+        private final Supplier<Map<String, Object>> delegate;
+
+        private LazyCaseData(BodyRange data) {
+            this.delegate = Suppliers.memoize(() -> {
+                try {
+                    return objectMapper.readValue(data.body, data.offset, data.length, CASE_DATA_MAP);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+
+        @Override
+        protected Map<String, Object> delegate() {
+            return delegate.get();
+        }
+    }
 }
@@ -0,0 +1,41 @@
+package uk.gov.hmcts.reform.civil.launchdarkly;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Snapshot of the flags seen by one unit of work, i.e. a callback request or an external task. Each flag is
+ * evaluated at most once, for the same LaunchDarkly user, and keeps its value until the unit of work ends.
+ */
+public final class FeatureFlags implements AutoCloseable {
+
+    private final Consumer<FeatureFlags> onClose;
+    private final Map<String, Boolean> values = new ConcurrentHashMap<>();
+    private final AtomicInteger evaluations = new AtomicInteger();
+
+    FeatureFlags(Consumer<FeatureFlags> onClose) {
+        this.onClose = onClose;
+    }
+
+    boolean get(String key, Supplier<Boolean> evaluation) {
+        return values.computeIfAbsent(key, k -> {
+            evaluations.incrementAndGet();
+            return evaluation.get();
+        });
+    }
+
+    /**
+     * Returns the number of flags evaluated against LaunchDarkly for this snapshot.
+     */
+    public int getEvaluations() {
+        return evaluations.get();
+    }
+
+    @Override
+    public void close() {
+        onClose.accept(this);
+    }
+}
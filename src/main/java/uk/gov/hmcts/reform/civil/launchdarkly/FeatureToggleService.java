@@ -2,19 +2,45 @@ package uk.gov.hmcts.reform.civil.launchdarkly;
 
 import com.launchdarkly.sdk.LDUser;
 import com.launchdarkly.sdk.server.interfaces.LDClientInterface;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Metrics;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.function.Consumer;
 
+import static org.springframework.web.context.request.RequestAttributes.SCOPE_REQUEST;
+
+/**
+ * Evaluates LaunchDarkly flags. Within a request, or a unit of work opened with {@link #openSnapshot()}, flags are
+ * served from a {@link FeatureFlags} snapshot, so e.g. the state flow and the event history mapper see the same
+ * value however often they ask. Elsewhere every call is evaluated afresh.
+ */
 @Slf4j
 @Service
 public class FeatureToggleService {
 
+    static final String METRIC_NAME = "civil.launchdarkly.evaluations";
+    static final String RPA_CONTINUOUS_FEED = "rpaContinuousFeed";
+    static final String ORGANISATION_ONBOARDED = "isOrganisationOnboarded";
+
+    /**
+     * Flags evaluated up front for every snapshot, being needed by nearly every callback.
+     */
+    private static final List<String> SNAPSHOT_FLAGS = List.of(RPA_CONTINUOUS_FEED);
+    private static final String REQUEST_ATTRIBUTE = FeatureFlags.class.getName();
+
     private final LDClientInterface internalClient;
     private final String environment;
+    private final ThreadLocal<FeatureFlags> threadFlags = new ThreadLocal<>();
+    private final Counter evaluations = Metrics.counter(METRIC_NAME);
 
     @Autowired
     public FeatureToggleService(LDClientInterface internalClient, @Value("${launchdarkly.env}") String environment) {
@@ -24,28 +50,96 @@ public class FeatureToggleService {
     }
 
     public boolean isFeatureEnabled(String feature) {
-        return internalClient.boolVariation(feature, createLDUser().build(), false);
+        FeatureFlags flags = currentFlags();
+        if (flags == null) {
+            return boolVariation(feature, createLDUser().build());
+        }
+        return flags.get(feature, () -> boolVariation(feature, createLDUser().build()));
     }
 
     public boolean isFeatureEnabled(String feature, LDUser user) {
-        return internalClient.boolVariation(feature, user, false);
+        return boolVariation(feature, user);
     }
 
     public boolean isOrganisationOnboarded(String orgId) {
-        LDUser ldUser = createLDUser().custom("orgId", orgId).build();
-        return internalClient.boolVariation("isOrganisationOnboarded", ldUser, false);
+        FeatureFlags flags = currentFlags();
+        if (flags == null) {
+            return boolVariation(ORGANISATION_ONBOARDED, createLDUser().custom("orgId", orgId).build());
+        }
+        return flags.get(ORGANISATION_ONBOARDED + ":" + orgId, () -> boolVariation(
+            ORGANISATION_ONBOARDED, createLDUser().custom("orgId", orgId).build()));
     }
 
     public boolean isRpaContinuousFeedEnabled() {
-        return internalClient.boolVariation("rpaContinuousFeed", createLDUser().build(), false);
+        return isFeatureEnabled(RPA_CONTINUOUS_FEED);
     }
 
+    /**
+     * The user flags are evaluated for. It carries no per-call attributes, so every evaluation is made for the same
+     * user and LaunchDarkly can summarise them rather than index a new user each time.
+     */
     public LDUser.Builder createLDUser() {
         return new LDUser.Builder("civil-service")
-            .custom("timestamp", String.valueOf(System.currentTimeMillis()))
             .custom("environment", environment);
     }
 
+    /**
+     * Opens a snapshot of flags for a unit of work run outside of a request on the current thread, e.g. an external
+     * task, until the snapshot is closed. Returns null when the thread already has one, which try-with-resources
+     * skips.
+     */
+    public FeatureFlags openSnapshot() {
+        if (threadFlags.get() != null) {
+            return null;
+        }
+        FeatureFlags flags = snapshot(closed -> {
+            threadFlags.remove();
+            record("task", closed);
+        });
+        threadFlags.set(flags);
+        return flags;
+    }
+
+    private FeatureFlags currentFlags() {
+        FeatureFlags flags = threadFlags.get();
+        if (flags != null) {
+            return flags;
+        }
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        // The same attributes are handed to the threads generating documents in parallel for the request
+        synchronized (attributes) {
+            flags = (FeatureFlags) attributes.getAttribute(REQUEST_ATTRIBUTE, SCOPE_REQUEST);
+            if (flags == null) {
+                flags = snapshot(closed -> record("request", closed));
+                attributes.setAttribute(REQUEST_ATTRIBUTE, flags, SCOPE_REQUEST);
+                attributes.registerDestructionCallback(REQUEST_ATTRIBUTE, flags::close, SCOPE_REQUEST);
+            }
+            return flags;
+        }
+    }
+
+    private FeatureFlags snapshot(Consumer<FeatureFlags> onClose) {
+        FeatureFlags flags = new FeatureFlags(onClose);
+        SNAPSHOT_FLAGS.forEach(feature -> flags.get(feature, () -> boolVariation(feature, createLDUser().build())));
+        return flags;
+    }
+
+    private static void record(String unit, FeatureFlags flags) {
+        DistributionSummary.builder(METRIC_NAME + ".per.unit")
+            .description("LaunchDarkly evaluations made for one request or external task")
+            .tag("unit", unit)
+            .register(Metrics.globalRegistry)
+            .record(flags.getEvaluations());
+    }
+
+    private boolean boolVariation(String feature, LDUser user) {
+        evaluations.increment();
+        return internalClient.boolVariation(feature, user, false);
+    }
+
     private void close() {
         try {
             internalClient.close();
@@ -9,18 +9,55 @@ import static net.minidev.json.JSONValue.toJSONString;
 
 public class Query {
 
+    private static final String SORT_FIELD = "reference";
+
     private final QueryBuilder queryBuilder;
     private final List<String> dataToReturn;
     private final int startIndex;
+    private final Integer size;
+    private final boolean searchAfterPage;
+    private final Long searchAfter;
 
     public Query(QueryBuilder queryBuilder, List<String> dataToReturn, int startIndex) {
+        this(queryBuilder, dataToReturn, startIndex, null, false, null);
+    }
+
+    private Query(QueryBuilder queryBuilder, List<String> dataToReturn, int startIndex, Integer size,
+                  boolean searchAfterPage, Long searchAfter) {
         Objects.requireNonNull(queryBuilder, "QueryBuilder cannot be null in search");
         if (startIndex < 0) {
             throw new IllegalArgumentException("Start index cannot be less than 0");
         }
+        if (size != null && size < 1) {
+            throw new IllegalArgumentException("Size cannot be less than 1");
+        }
         this.queryBuilder = queryBuilder;
         this.dataToReturn = dataToReturn;
         this.startIndex = startIndex;
+        this.size = size;
+        this.searchAfterPage = searchAfterPage;
+        this.searchAfter = searchAfter;
+    }
+
+    /**
+     * Returns this query limited to the given number of cases.
+     *
+     * @param size the number of cases in the page.
+     * @return the query for the page.
+     */
+    public Query withSize(int size) {
+        return new Query(queryBuilder, dataToReturn, startIndex, size, searchAfterPage, searchAfter);
+    }
+
+    /**
+     * Returns the page of this query which is sorted on case reference and starts after the given reference.
+     *
+     * @param reference the last case reference of the previous page, or null for the first page.
+     * @param size      the number of cases in the page.
+     * @return the query for the page.
+     */
+    public Query searchAfter(Long reference, int size) {
+        return new Query(queryBuilder, dataToReturn, 0, size, true, reference);
     }
 
     @Override
@@ -28,6 +65,9 @@ public class Query {
         return "{"
             + "\"query\": " + queryBuilder.toString() + ", "
             + "\"_source\": " + toJSONString(dataToReturn) + ", "
+            + (size == null ? "" : "\"size\": " + size + ", ")
+            + (searchAfterPage ? "\"sort\": [{\"" + SORT_FIELD + "\": \"asc\"}], " : "")
+            + (searchAfter == null ? "" : "\"search_after\": [" + searchAfter + "], ")
             + "\"from\": " + startIndex
             + "}";
     }
@@ -0,0 +1,79 @@
+package uk.gov.hmcts.reform.civil.repositories;
+
+import org.jdbi.v3.sqlobject.config.RegisterConstructorMapper;
+import org.jdbi.v3.sqlobject.customizer.Bind;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
+import org.jdbi.v3.sqlobject.statement.SqlUpdate;
+import org.jdbi.v3.sqlobject.transaction.Transaction;
+
+import java.util.List;
+
+public interface NotificationOutboxRepository {
+
+    /**
+     * Queues an email unless one with the same reference, recipient and template was queued within the window.
+     * Concurrent calls for the same email are serialised on an advisory lock held until the transaction ends,
+     * so the second one sees the row the first inserted.
+     * A null reference is rejected rather than queued: it would take no lock and match no queued email, so the
+     * email would silently never be deduplicated.
+     */
+    @Transaction
+    default int enqueue(String reference, String targetEmail, String templateId, String parameters,
+                        long windowSeconds) {
+        if (reference == null) {
+            throw new IllegalArgumentException("Email with template " + templateId + " has no reference");
+        }
+        lockEmail(reference, targetEmail, templateId);
+        return insertUnlessQueued(reference, targetEmail, templateId, parameters, windowSeconds);
+    }
+
+    @SqlQuery("SELECT 1 FROM pg_advisory_xact_lock(hashtext(:reference || :targetEmail || :templateId))")
+    int lockEmail(@Bind("reference") String reference,
+                  @Bind("targetEmail") String targetEmail,
+                  @Bind("templateId") String templateId);
+
+    @SqlUpdate("INSERT INTO notification_outbox (reference, target_email, template_id, parameters)"
+        + " SELECT :reference, :targetEmail, :templateId, :parameters"
+        + " WHERE NOT EXISTS (SELECT 1 FROM notification_outbox"
+        + " WHERE reference = :reference AND target_email = :targetEmail AND template_id = :templateId"
+        + " AND created_at > now() - :windowSeconds * interval '1 second')")
+    int insertUnlessQueued(@Bind("reference") String reference,
+                           @Bind("targetEmail") String targetEmail,
+                           @Bind("templateId") String templateId,
+                           @Bind("parameters") String parameters,
+                           @Bind("windowSeconds") long windowSeconds);
+
+    /**
+     * Leases due emails to the caller; any not completed before the lease runs out are claimed again.
+     */
+    @SqlQuery("UPDATE notification_outbox"
+        + " SET attempts = attempts + 1, next_attempt_at = now() + :leaseSeconds * interval '1 second'"
+        + " WHERE id IN (SELECT id FROM notification_outbox"
+        + " WHERE status = 'PENDING' AND next_attempt_at <= now()"
+        + " ORDER BY next_attempt_at LIMIT :limit FOR UPDATE SKIP LOCKED)"
+        + " RETURNING id, reference, target_email, template_id, parameters, attempts, created_at")
+    @RegisterConstructorMapper(OutboxNotification.class)
+    List<OutboxNotification> claim(@Bind("limit") int limit, @Bind("leaseSeconds") long leaseSeconds);
+
+    @SqlUpdate("UPDATE notification_outbox SET status = 'SENT', sent_at = now(), last_error = NULL WHERE id = :id")
+    void markSent(@Bind("id") long id);
+
+    @SqlUpdate("UPDATE notification_outbox"
+        + " SET next_attempt_at = now() + :delaySeconds * interval '1 second', last_error = :error WHERE id = :id")
+    void retryLater(@Bind("id") long id, @Bind("delaySeconds") long delaySeconds, @Bind("error") String error);
+
+    @SqlUpdate("UPDATE notification_outbox SET status = 'FAILED', last_error = :error WHERE id = :id")
+    void markFailed(@Bind("id") long id, @Bind("error") String error);
+
+    @SqlQuery("SELECT count(*) FROM notification_outbox WHERE status = 'PENDING'")
+    long countPending();
+
+    @SqlQuery("SELECT CAST(COALESCE(EXTRACT(EPOCH FROM now() - min(created_at)), 0) AS BIGINT)"
+        + " FROM notification_outbox WHERE status = 'PENDING'")
+    long oldestPendingSeconds();
+
+    @SqlUpdate("DELETE FROM notification_outbox"
+        + " WHERE status = 'SENT' AND sent_at < now() - :ageSeconds * interval '1 second'")
+    int deleteSent(@Bind("ageSeconds") long ageSeconds);
+
+}
@@ -0,0 +1,36 @@
+package uk.gov.hmcts.reform.civil.repositories;
+
+import lombok.Value;
+import org.jdbi.v3.core.mapper.reflect.ColumnName;
+import org.jdbi.v3.core.mapper.reflect.JdbiConstructor;
+
+import java.time.Instant;
+
+@Value
+public class OutboxNotification {
+
+    long id;
+    String reference;
+    String targetEmail;
+    String templateId;
+    String parameters;
+    int attempts;
+    Instant createdAt;
+
+    @JdbiConstructor
+    public OutboxNotification(@ColumnName("id") long id,
+                              @ColumnName("reference") String reference,
+                              @ColumnName("target_email") String targetEmail,
+                              @ColumnName("template_id") String templateId,
+                              @ColumnName("parameters") String parameters,
+                              @ColumnName("attempts") int attempts,
+                              @ColumnName("created_at") Instant createdAt) {
+        this.id = id;
+        this.reference = reference;
+        this.targetEmail = targetEmail;
+        this.templateId = templateId;
+        this.parameters = parameters;
+        this.attempts = attempts;
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,44 @@
+package uk.gov.hmcts.reform.civil.repositories;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.IntFunction;
+
+/**
+ * Hands out reference numbers from blocks reserved from a sequence, so that only one in every block of claims needs
+ * a round trip to the database. Numbers are formatted as the database functions do, e.g. 1 becomes 000DC001.
+ * Numbers reserved but not handed out before shutdown are skipped, as numbers of rolled back transactions already are.
+ */
+public class ReferenceNumberAllocator {
+
+    private final IntFunction<List<Long>> reserve;
+    private final int blockSize;
+    private final String infix;
+    private final Deque<Long> reserved = new ArrayDeque<>();
+
+    public ReferenceNumberAllocator(IntFunction<List<Long>> reserve, int blockSize, String infix) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("Block size cannot be less than 1");
+        }
+        this.reserve = reserve;
+        this.blockSize = blockSize;
+        this.infix = infix;
+    }
+
+    public synchronized String next() {
+        if (reserved.isEmpty()) {
+            reserved.addAll(reserve.apply(blockSize));
+        }
+        Long number = reserved.poll();
+        if (number == null) {
+            throw new IllegalStateException("No reference numbers could be reserved");
+        }
+        return format(number);
+    }
+
+    private String format(long number) {
+        String digits = String.format("%06d", number);
+        return digits.substring(0, 3) + infix + digits.substring(3);
+    }
+}
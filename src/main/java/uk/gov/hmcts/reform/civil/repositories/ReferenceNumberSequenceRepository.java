@@ -0,0 +1,16 @@
+package uk.gov.hmcts.reform.civil.repositories;
+
+import org.jdbi.v3.sqlobject.customizer.Bind;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
+
+import java.util.List;
+
+public interface ReferenceNumberSequenceRepository {
+
+    @SqlQuery("SELECT nextval('damages_claims_reference_number_seq') FROM generate_series(1, :count)")
+    List<Long> reserveReferenceNumbers(@Bind("count") int count);
+
+    @SqlQuery("SELECT nextval('claim_SPEC_legal_rep_reference_number_seq') FROM generate_series(1, :count)")
+    List<Long> reserveSpecReferenceNumbers(@Bind("count") int count);
+
+}
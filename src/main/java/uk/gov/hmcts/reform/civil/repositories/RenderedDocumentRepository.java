@@ -0,0 +1,25 @@
+package uk.gov.hmcts.reform.civil.repositories;
+
+import org.jdbi.v3.sqlobject.customizer.Bind;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
+import org.jdbi.v3.sqlobject.statement.SqlUpdate;
+
+import java.util.Optional;
+
+public interface RenderedDocumentRepository {
+
+    @SqlQuery("SELECT document FROM rendered_document"
+        + " WHERE cache_key = :cacheKey AND created_at > now() - :maxAgeSeconds * interval '1 second'")
+    Optional<String> findDocument(@Bind("cacheKey") String cacheKey, @Bind("maxAgeSeconds") long maxAgeSeconds);
+
+    @SqlUpdate("INSERT INTO rendered_document (cache_key, template, document)"
+        + " VALUES (:cacheKey, :template, :document)"
+        + " ON CONFLICT (cache_key) DO UPDATE SET document = :document, created_at = now()")
+    void save(@Bind("cacheKey") String cacheKey,
+              @Bind("template") String template,
+              @Bind("document") String document);
+
+    @SqlUpdate("DELETE FROM rendered_document WHERE created_at < now() - :ageSeconds * interval '1 second'")
+    int deleteOlderThan(@Bind("ageSeconds") long ageSeconds);
+
+}
@@ -0,0 +1,19 @@
+package uk.gov.hmcts.reform.civil.repositories;
+
+import lombok.Value;
+import org.jdbi.v3.core.mapper.reflect.ColumnName;
+import org.jdbi.v3.core.mapper.reflect.JdbiConstructor;
+
+@Value
+public class RoboticsFeedProgress {
+
+    int lastSequence;
+    String eventsDigest;
+
+    @JdbiConstructor
+    public RoboticsFeedProgress(@ColumnName("last_sequence") int lastSequence,
+                                @ColumnName("events_digest") String eventsDigest) {
+        this.lastSequence = lastSequence;
+        this.eventsDigest = eventsDigest;
+    }
+}
@@ -0,0 +1,24 @@
+package uk.gov.hmcts.reform.civil.repositories;
+
+import org.jdbi.v3.sqlobject.config.RegisterConstructorMapper;
+import org.jdbi.v3.sqlobject.customizer.Bind;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
+import org.jdbi.v3.sqlobject.statement.SqlUpdate;
+
+import java.util.Optional;
+
+public interface RoboticsFeedProgressRepository {
+
+    @SqlQuery("SELECT last_sequence, events_digest FROM rpa_feed_progress WHERE case_reference = :caseReference")
+    @RegisterConstructorMapper(RoboticsFeedProgress.class)
+    Optional<RoboticsFeedProgress> findByCaseReference(@Bind("caseReference") long caseReference);
+
+    @SqlUpdate("INSERT INTO rpa_feed_progress (case_reference, last_sequence, events_digest)"
+        + " VALUES (:caseReference, :lastSequence, :eventsDigest)"
+        + " ON CONFLICT (case_reference) DO UPDATE"
+        + " SET last_sequence = :lastSequence, events_digest = :eventsDigest, updated_at = now()")
+    void save(@Bind("caseReference") long caseReference,
+              @Bind("lastSequence") int lastSequence,
+              @Bind("eventsDigest") String eventsDigest);
+
+}
@@ -0,0 +1,67 @@
+package uk.gov.hmcts.reform.civil.security;
+
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.nimbusds.jwt.JWTParser;
+
+import java.text.ParseException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Date;
+import java.util.function.BiFunction;
+
+import static uk.gov.hmcts.reform.civil.security.JwtGrantedAuthoritiesConverter.BEARER;
+
+/**
+ * Expires cache entries holding a JWT shortly before the token's exp claim, so a cached token is never handed out
+ * after IDAM would reject it. Entries whose token has no readable exp claim fall back to a fixed lifetime.
+ */
+public class JwtExpiry<K, V> implements Expiry<K, V> {
+
+    private final BiFunction<K, V, String> token;
+    private final Duration fallbackLifetime;
+    private final Duration margin;
+    private final Clock clock;
+
+    public JwtExpiry(BiFunction<K, V, String> token, Duration fallbackLifetime, Duration margin, Clock clock) {
+        this.token = token;
+        this.fallbackLifetime = fallbackLifetime;
+        this.margin = margin;
+        this.clock = clock;
+    }
+
+    @Override
+    public long expireAfterCreate(K key, V value, long currentTime) {
+        return lifetime(token.apply(key, value)).toNanos();
+    }
+
+    @Override
+    public long expireAfterUpdate(K key, V value, long currentTime, long currentDuration) {
+        return lifetime(token.apply(key, value)).toNanos();
+    }
+
+    @Override
+    public long expireAfterRead(K key, V value, long currentTime, long currentDuration) {
+        return currentDuration;
+    }
+
+    Duration lifetime(String bearerToken) {
+        Date expirationTime = expirationTime(bearerToken);
+        if (expirationTime == null) {
+            return fallbackLifetime;
+        }
+        Duration lifetime = Duration.between(clock.instant(), expirationTime.toInstant()).minus(margin);
+        return lifetime.isNegative() ? Duration.ZERO : lifetime;
+    }
+
+    private static Date expirationTime(String bearerToken) {
+        if (bearerToken == null) {
+            return null;
+        }
+        String jwt = bearerToken.startsWith(BEARER) ? bearerToken.substring(BEARER.length()) : bearerToken;
+        try {
+            return JWTParser.parse(jwt).getJWTClaimsSet().getExpirationTime();
+        } catch (ParseException e) {
+            return null;
+        }
+    }
+}
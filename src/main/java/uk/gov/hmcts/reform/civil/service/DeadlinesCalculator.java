@@ -47,10 +47,7 @@ public class DeadlinesCalculator {
     }
 
     public LocalDate calculateFirstWorkingDay(LocalDate date) {
-        while (!workingDayIndicator.isWorkingDay(date)) {
-            date = date.plusDays(1);
-        }
-        return date;
+        return workingDayIndicator.getNextWorkingDay(date);
     }
 
     private boolean is4pmOrAfter(LocalDateTime dateOfService) {
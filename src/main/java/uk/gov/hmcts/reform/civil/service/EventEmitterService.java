@@ -18,7 +18,12 @@ public class EventEmitterService {
     private final ApplicationEventPublisher applicationEventPublisher;
     private final RuntimeService runtimeService;
 
-    public void emitBusinessProcessCamundaEvent(CaseData caseData, boolean dispatchProcess) {
+    /**
+     * Emits the camunda event of the case's business process, failures are logged rather than thrown.
+     *
+     * @return true when the event was emitted, false when emitting it failed.
+     */
+    public boolean emitBusinessProcessCamundaEvent(CaseData caseData, boolean dispatchProcess) {
         var caseId = caseData.getCcdCaseReference();
         var businessProcess = caseData.getBusinessProcess();
         var camundaEvent = businessProcess.getCamundaEvent();
@@ -33,10 +38,12 @@ public class EventEmitterService {
             }
 
             log.info("Camunda event emitted successfully");
+            return true;
         } catch (Exception ex) {
             log.error(format("Emitting %s camunda event failed for case: %d, message: %s",
                              camundaEvent, caseId, ex.getMessage()
             ));
+            return false;
         }
     }
 }
@@ -0,0 +1,240 @@
+package uk.gov.hmcts.reform.civil.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.util.concurrent.RateLimiter;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import uk.gov.hmcts.reform.civil.config.properties.notification.NotificationOutboxProperties;
+import uk.gov.hmcts.reform.civil.repositories.NotificationOutboxRepository;
+import uk.gov.hmcts.reform.civil.repositories.OutboxNotification;
+import uk.gov.service.notify.NotificationClient;
+import uk.gov.service.notify.NotificationClientException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+/**
+ * Durable queue of GOV.UK Notify emails, kept in the reference database. Callbacks only insert the email;
+ * a poller claims due emails in batches and a pool of workers sends them, rate limited, retrying failures
+ * with an exponential backoff. Claims are leases, so emails held by an instance which dies are sent by another.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(prefix = "notifications.outbox", name = "enabled", havingValue = "true")
+public class NotificationOutbox {
+
+    static final String METRIC_NAME = "civil.notifications.outbox";
+    private static final TypeReference<Map<String, String>> PARAMETERS = new TypeReference<>() {};
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final NotificationClient notificationClient;
+    private final ObjectMapper objectMapper;
+    private final NotificationOutboxProperties properties;
+    private final Clock clock;
+    private final RateLimiter rateLimiter;
+    private final ExecutorService workers;
+    private final Timer sendTimer = Metrics.timer(METRIC_NAME + ".send");
+    private final Timer deliveryTimer = Metrics.timer(METRIC_NAME + ".delivery");
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong oldestPendingSeconds = new AtomicLong();
+    private ScheduledExecutorService poller;
+
+    @Autowired
+    public NotificationOutbox(NotificationOutboxRepository notificationOutboxRepository,
+                              NotificationClient notificationClient,
+                              ObjectMapper objectMapper,
+                              NotificationOutboxProperties properties) {
+        this(notificationOutboxRepository, notificationClient, objectMapper, properties, Clock.systemUTC());
+    }
+
+    NotificationOutbox(NotificationOutboxRepository notificationOutboxRepository,
+                       NotificationClient notificationClient,
+                       ObjectMapper objectMapper,
+                       NotificationOutboxProperties properties,
+                       Clock clock) {
+        this.notificationOutboxRepository = notificationOutboxRepository;
+        this.notificationClient = notificationClient;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.clock = clock;
+        this.rateLimiter = RateLimiter.create(properties.getPermitsPerSecond());
+        this.workers = Executors.newFixedThreadPool(
+            Math.max(1, properties.getWorkers()), new CustomizableThreadFactory("notification-outbox-"));
+        Metrics.gauge(METRIC_NAME + ".pending", pending);
+        Metrics.gauge(METRIC_NAME + ".lag.seconds", oldestPendingSeconds);
+    }
+
+    @PostConstruct
+    void start() {
+        poller = Executors.newSingleThreadScheduledExecutor(
+            new CustomizableThreadFactory("notification-outbox-poller-"));
+        long pollInterval = properties.getPollInterval().toMillis();
+        poller.scheduleWithFixedDelay(this::poll, pollInterval, pollInterval, TimeUnit.MILLISECONDS);
+        poller.scheduleWithFixedDelay(this::purge, 1, 60, TimeUnit.MINUTES);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (poller != null) {
+            poller.shutdownNow();
+        }
+        workers.shutdown();
+    }
+
+    /**
+     * Queues the email, returning false when it duplicates one queued within the deduplication window.
+     * The reference is required, being what duplicates are found by.
+     */
+    public boolean enqueue(String targetEmail, String emailTemplate, Map<String, String> parameters, String reference) {
+        boolean queued = notificationOutboxRepository.enqueue(
+            reference,
+            targetEmail,
+            emailTemplate,
+            toJson(parameters),
+            properties.getDeduplicationWindow().toSeconds()
+        ) > 0;
+        Metrics.counter(METRIC_NAME, "result", queued ? "queued" : "duplicate").increment();
+        if (!queued) {
+            log.info("Email {} with template {} has already been queued", reference, emailTemplate);
+        }
+        return queued;
+    }
+
+    /**
+     * Claims and sends one batch of due emails, returning the number claimed.
+     */
+    int drain() {
+        List<OutboxNotification> batch = notificationOutboxRepository.claim(
+            properties.getBatchSize(), properties.getLease().toSeconds());
+        CompletableFuture.allOf(
+            batch.stream()
+                .map(notification -> CompletableFuture.runAsync(() -> send(notification), workers))
+                .toArray(CompletableFuture[]::new)
+        ).join();
+        return batch.size();
+    }
+
+    private void poll() {
+        try {
+            while (drain() == properties.getBatchSize()) {
+                log.debug("Claimed a full batch of emails, draining the outbox further");
+            }
+            pending.set(notificationOutboxRepository.countPending());
+            oldestPendingSeconds.set(notificationOutboxRepository.oldestPendingSeconds());
+        } catch (RuntimeException e) {
+            log.error("Failed to drain notification outbox", e);
+        }
+    }
+
+    private void purge() {
+        try {
+            int deleted = notificationOutboxRepository.deleteSent(properties.getRetention().toSeconds());
+            log.debug("Deleted {} sent emails from the outbox", deleted);
+        } catch (RuntimeException e) {
+            log.warn("Failed to delete sent emails from notification outbox", e);
+        }
+    }
+
+    private void send(OutboxNotification notification) {
+        rateLimiter.acquire();
+        Timer.Sample sample = Timer.start();
+        try {
+            notificationClient.sendEmail(
+                notification.getTemplateId(),
+                notification.getTargetEmail(),
+                fromJson(notification.getParameters()),
+                notification.getReference()
+            );
+            sample.stop(sendTimer);
+        } catch (NotificationClientException e) {
+            sample.stop(sendTimer);
+            failed(notification, isPermanent(e.getHttpResult()), e);
+            return;
+        } catch (RuntimeException e) {
+            failed(notification, false, e);
+            return;
+        }
+        sent(notification);
+    }
+
+    private void sent(OutboxNotification notification) {
+        try {
+            notificationOutboxRepository.markSent(notification.getId());
+        } catch (RuntimeException e) {
+            // Notify has the email, so it is not retried; it is only claimed again once its lease runs out
+            log.error("Sent email {} but failed to mark it as sent", notification.getReference(), e);
+            Metrics.counter(METRIC_NAME, "result", "unrecorded").increment();
+            return;
+        }
+        deliveryTimer.record(Duration.between(notification.getCreatedAt(), clock.instant()));
+        Metrics.counter(METRIC_NAME, "result", "sent").increment();
+    }
+
+    private void failed(OutboxNotification notification, boolean permanent, Exception e) {
+        String error = abbreviate(e.getMessage());
+        if (permanent || notification.getAttempts() >= properties.getMaxAttempts()) {
+            log.error("Giving up on email {} after {} attempts", notification.getReference(),
+                      notification.getAttempts(), e);
+            notificationOutboxRepository.markFailed(notification.getId(), error);
+            Metrics.counter(METRIC_NAME, "result", "failed").increment();
+        } else {
+            Duration delay = backoff(notification.getAttempts());
+            log.warn("Failed to send email {}, retrying in {}", notification.getReference(), delay, e);
+            notificationOutboxRepository.retryLater(notification.getId(), delay.toSeconds(), error);
+            Metrics.counter(METRIC_NAME, "result", "retry").increment();
+        }
+    }
+
+    Duration backoff(int attempts) {
+        Duration delay = properties.getInitialBackoff().multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(properties.getMaxBackoff()) > 0 ? properties.getMaxBackoff() : delay;
+    }
+
+    /**
+     * Client errors other than rate limiting will fail the same way again.
+     */
+    private static boolean isPermanent(int httpResult) {
+        return httpResult >= 400 && httpResult < 500 && httpResult != 429;
+    }
+
+    private String toJson(Map<String, String> parameters) {
+        try {
+            return objectMapper.writeValueAsString(parameters == null ? Map.of() : parameters);
+        } catch (JsonProcessingException e) {
+            throw new NotificationException(e);
+        }
+    }
+
+    private Map<String, String> fromJson(String parameters) {
+        try {
+            return objectMapper.readValue(parameters, PARAMETERS);
+        } catch (JsonProcessingException e) {
+            throw new NotificationException(e);
+        }
+    }
+
+    private static String abbreviate(String message) {
+        if (message == null || message.length() <= MAX_ERROR_LENGTH) {
+            return message;
+        }
+        return message.substring(0, MAX_ERROR_LENGTH);
+    }
+}
@@ -6,19 +6,28 @@ import uk.gov.service.notify.NotificationClient;
 import uk.gov.service.notify.NotificationClientException;
 
 import java.util.Map;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
 public class NotificationService {
 
     private final NotificationClient notificationClient;
+    private final Optional<NotificationOutbox> notificationOutbox;
 
+    /**
+     * Sends the email, or only queues it when the notification outbox is enabled.
+     */
     public void sendMail(
         String targetEmail,
         String emailTemplate,
         Map<String, String> parameters,
         String reference
     ) {
+        if (notificationOutbox.isPresent()) {
+            notificationOutbox.get().enqueue(targetEmail, emailTemplate, parameters, reference);
+            return;
+        }
         try {
             notificationClient.sendEmail(emailTemplate, targetEmail, parameters, reference);
         } catch (NotificationClientException e) {
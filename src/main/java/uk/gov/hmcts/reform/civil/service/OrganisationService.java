@@ -1,28 +1,58 @@
 package uk.gov.hmcts.reform.civil.service;
 
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import feign.FeignException;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
+import uk.gov.hmcts.reform.ccd.model.OrganisationPolicy;
 import uk.gov.hmcts.reform.civil.config.PrdAdminUserConfiguration;
+import uk.gov.hmcts.reform.civil.config.properties.organisation.OrganisationCacheProperties;
+import uk.gov.hmcts.reform.civil.model.CaseData;
 import uk.gov.hmcts.reform.prd.client.OrganisationApi;
 import uk.gov.hmcts.reform.prd.model.Organisation;
 
+import java.time.Duration;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static java.util.Optional.ofNullable;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class OrganisationService {
 
+    public static final String ORGANISATION_CACHE = "organisationCache";
+
     private final OrganisationApi organisationApi;
     private final AuthTokenGenerator authTokenGenerator;
     private final UserService userService;
     private final PrdAdminUserConfiguration userConfig;
 
+    private final Timer prdLatency = Metrics.timer("civil.prd.organisation.requests");
+    private final AsyncLoadingCache<String, Optional<Organisation>> organisations;
+
+    public OrganisationService(OrganisationApi organisationApi,
+                               AuthTokenGenerator authTokenGenerator,
+                               UserService userService,
+                               PrdAdminUserConfiguration userConfig,
+                               OrganisationCacheProperties cacheProperties) {
+        this.organisationApi = organisationApi;
+        this.authTokenGenerator = authTokenGenerator;
+        this.userService = userService;
+        this.userConfig = userConfig;
+        this.organisations = organisationCache(cacheProperties);
+    }
+
     //WARNING! below function findOrganisation is being used by both damages and specified claims,
     // changes to this code may break one of the claim journeys, check with respective teams before changing it
 
@@ -39,12 +69,79 @@ public class OrganisationService {
     //WARNING! below function findOrganisationById is being used by both damages and specified claims,
     // changes to this code may break one of the claim journeys, check with respective teams before changing it
     public Optional<Organisation> findOrganisationById(String id) {
+        if (id == null) {
+            return fetchOrganisationById(null);
+        }
+        return organisations.synchronous().get(id);
+    }
+
+    /**
+     * Fetches every organisation referenced by the organisation policies of the case in parallel, so that the
+     * lookups made while building documents and requests for the case are served from the cache. Failures are
+     * left for those lookups to report.
+     */
+    public void prefetchOrganisations(CaseData caseData) {
+        Set<String> ids = Stream.of(
+                caseData.getApplicant1OrganisationPolicy(),
+                caseData.getRespondent1OrganisationPolicy(),
+                caseData.getRespondent2OrganisationPolicy()
+            )
+            .filter(Objects::nonNull)
+            .map(OrganisationPolicy::getOrganisation)
+            .filter(Objects::nonNull)
+            .map(organisation -> organisation.getOrganisationID())
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet());
+        if (ids.isEmpty()) {
+            return;
+        }
+        try {
+            organisations.getAll(ids).join();
+        } catch (CompletionException ex) {
+            log.warn("Failed to prefetch organisations {}", ids, ex.getCause());
+        }
+    }
+
+    private Optional<Organisation> fetchOrganisationById(String id) {
         String authToken = userService.getAccessToken(userConfig.getUsername(), userConfig.getPassword());
         try {
-            return ofNullable(organisationApi.findOrganisationById(authToken, authTokenGenerator.generate(), id));
+            return prdLatency.record(() -> ofNullable(
+                organisationApi.findOrganisationById(authToken, authTokenGenerator.generate(), id)));
         } catch (FeignException.NotFound ex) {
             log.error("Organisation not found", ex);
             return Optional.empty();
         }
     }
+
+    private AsyncLoadingCache<String, Optional<Organisation>> organisationCache(
+        OrganisationCacheProperties properties) {
+        AsyncLoadingCache<String, Optional<Organisation>> cache = Caffeine.newBuilder()
+            .maximumSize(properties.getMaximumSize())
+            .expireAfter(new Expiry<String, Optional<Organisation>>() {
+                @Override
+                public long expireAfterCreate(String id, Optional<Organisation> organisation, long currentTime) {
+                    Duration ttl = organisation.isPresent()
+                        ? properties.getExpireAfter()
+                        : properties.getNotFoundExpireAfter();
+                    return ttl.toNanos();
+                }
+
+                @Override
+                public long expireAfterUpdate(String id, Optional<Organisation> organisation, long currentTime,
+                                              long currentDuration) {
+                    return expireAfterCreate(id, organisation, currentTime);
+                }
+
+                @Override
+                public long expireAfterRead(String id, Optional<Organisation> organisation, long currentTime,
+                                            long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .refreshAfterWrite(properties.getRefreshAfter())
+            .recordStats()
+            .buildAsync(this::fetchOrganisationById);
+        CaffeineCacheMetrics.monitor(Metrics.globalRegistry, cache.synchronous(), ORGANISATION_CACHE);
+        return cache;
+    }
 }
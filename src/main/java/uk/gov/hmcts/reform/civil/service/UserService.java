@@ -1,28 +1,75 @@
 package uk.gov.hmcts.reform.civil.service;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.ToString;
+import lombok.Value;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import uk.gov.hmcts.reform.civil.security.JwtExpiry;
 import uk.gov.hmcts.reform.idam.client.IdamClient;
 import uk.gov.hmcts.reform.idam.client.models.UserInfo;
 
+import java.time.Clock;
+import java.time.Duration;
+
 @Service
 public class UserService {
 
+    public static final String USER_INFO_CACHE = "userInfoCache";
+    public static final String ACCESS_TOKEN_CACHE = "accessTokenCache";
+
+    static final Duration TOKEN_FALLBACK_LIFETIME = Duration.ofHours(1);
+    static final Duration TOKEN_EXPIRY_MARGIN = Duration.ofMinutes(1);
+    static final Duration TOKEN_REFRESH_BEFORE_EXPIRY = Duration.ofMinutes(10);
+    private static final int MAXIMUM_ACCESS_TOKENS = 100;
+
     private final IdamClient idamClient;
+    private final LoadingCache<Credentials, String> accessTokens;
 
     @Autowired
     public UserService(IdamClient idamClient) {
+        this(idamClient, Clock.systemUTC());
+    }
+
+    UserService(IdamClient idamClient, Clock clock) {
         this.idamClient = idamClient;
+        this.accessTokens = Caffeine.newBuilder()
+            .maximumSize(MAXIMUM_ACCESS_TOKENS)
+            .expireAfter(new JwtExpiry<Credentials, String>(
+                (credentials, token) -> token, TOKEN_FALLBACK_LIFETIME, TOKEN_EXPIRY_MARGIN, clock))
+            .recordStats()
+            .build(credentials -> idamClient.getAccessToken(credentials.getUsername(), credentials.getPassword()));
+        CaffeineCacheMetrics.monitor(Metrics.globalRegistry, accessTokens, ACCESS_TOKEN_CACHE);
     }
 
-    @Cacheable(value = "userInfoCache")
+    @Cacheable(value = USER_INFO_CACHE)
     public UserInfo getUserInfo(String bearerToken) {
         return idamClient.getUserInfo(bearerToken);
     }
 
-    @Cacheable(value = "accessTokenCache")
+    /**
+     * Returns the cached access token of a system user, fetching a new token in the background once the cached one
+     * is close to expiry so callers are not held up by IDAM.
+     */
     public String getAccessToken(String username, String password) {
-        return idamClient.getAccessToken(username, password);
+        Credentials credentials = new Credentials(username, password);
+        String accessToken = accessTokens.get(credentials);
+        accessTokens.policy().expireVariably()
+            .flatMap(expiry -> expiry.getExpiresAfter(credentials))
+            .filter(remaining -> remaining.compareTo(TOKEN_REFRESH_BEFORE_EXPIRY) < 0)
+            .ifPresent(remaining -> accessTokens.refresh(credentials));
+        return accessToken;
+    }
+
+    @Value
+    private static class Credentials {
+
+        String username;
+        @ToString.Exclude
+        String password;
     }
 }
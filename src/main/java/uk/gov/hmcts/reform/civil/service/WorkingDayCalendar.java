@@ -0,0 +1,63 @@
+package uk.gov.hmcts.reform.civil.service;
+
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.function.Predicate;
+
+/**
+ * Immutable index of the non-working days in a range of dates, held as a bitset by epoch day, so that working day
+ * lookups within the range do not walk the calendar day by day.
+ */
+class WorkingDayCalendar {
+
+    private final long firstEpochDay;
+    private final int length;
+    private final BitSet nonWorkingDays;
+
+    WorkingDayCalendar(LocalDate from, LocalDate to, Predicate<LocalDate> isNonWorkingDay) {
+        this.firstEpochDay = from.toEpochDay();
+        this.length = (int) (to.toEpochDay() - firstEpochDay) + 1;
+        this.nonWorkingDays = new BitSet(length);
+
+        LocalDate date = from;
+        for (int index = 0; index < length; index++) {
+            nonWorkingDays.set(index, isNonWorkingDay.test(date));
+            date = date.plusDays(1);
+        }
+    }
+
+    boolean covers(LocalDate date) {
+        long index = date.toEpochDay() - firstEpochDay;
+        return index >= 0 && index < length;
+    }
+
+    boolean isWorkingDay(LocalDate date) {
+        return !nonWorkingDays.get(index(date));
+    }
+
+    /**
+     * Returns the given date if it is a working day, otherwise the first working day after it, or null when there is
+     * no working day after it within the range.
+     */
+    LocalDate nextWorkingDay(LocalDate date) {
+        int index = nonWorkingDays.nextClearBit(index(date));
+        return index < length ? toDate(index) : null;
+    }
+
+    /**
+     * Returns the given date if it is a working day, otherwise the last working day before it, or null when there is
+     * no working day before it within the range.
+     */
+    LocalDate previousWorkingDay(LocalDate date) {
+        int index = nonWorkingDays.previousClearBit(index(date));
+        return index >= 0 ? toDate(index) : null;
+    }
+
+    private int index(LocalDate date) {
+        return (int) (date.toEpochDay() - firstEpochDay);
+    }
+
+    private LocalDate toDate(int index) {
+        return LocalDate.ofEpochDay(firstEpochDay + index);
+    }
+}
@@ -6,6 +6,8 @@ import uk.gov.hmcts.reform.civil.service.bankholidays.NonWorkingDaysCollection;
 import uk.gov.hmcts.reform.civil.service.bankholidays.PublicHolidaysCollection;
 
 import java.time.LocalDate;
+import java.util.Collections;
+import java.util.Set;
 
 import static java.time.DayOfWeek.SATURDAY;
 import static java.time.DayOfWeek.SUNDAY;
@@ -15,13 +17,22 @@ import static java.util.Objects.requireNonNull;
 @RequiredArgsConstructor
 public class WorkingDayIndicator {
 
+    private static final int YEARS_BEFORE = 2;
+    private static final int YEARS_AFTER = 3;
+
     private final PublicHolidaysCollection publicHolidaysCollection;
     private final NonWorkingDaysCollection nonWorkingDaysCollection;
 
+    private volatile Index index;
+
     /**
      * Verifies if given date is a working day in UK (England and Wales only).
      */
     public boolean isWorkingDay(LocalDate date) {
+        WorkingDayCalendar calendar = calendar();
+        if (calendar.covers(date)) {
+            return calendar.isWorkingDay(date);
+        }
         return !isWeekend(date)
             && !isPublicHoliday(date)
             && !isCustomNonWorkingDay(date);
@@ -42,12 +53,73 @@ public class WorkingDayIndicator {
     public LocalDate getNextWorkingDay(LocalDate date) {
         requireNonNull(date);
 
-        return isWorkingDay(date) ? date : getNextWorkingDay(date.plusDays(1));
+        WorkingDayCalendar calendar = calendar();
+        if (calendar.covers(date)) {
+            LocalDate nextWorkingDay = calendar.nextWorkingDay(date);
+            if (nextWorkingDay != null) {
+                return nextWorkingDay;
+            }
+        }
+        while (!isWorkingDay(date)) {
+            date = date.plusDays(1);
+        }
+        return date;
     }
 
     public LocalDate getPreviousWorkingDay(LocalDate date) {
         requireNonNull(date);
 
-        return isWorkingDay(date) ? date : getPreviousWorkingDay(date.minusDays(1));
+        WorkingDayCalendar calendar = calendar();
+        if (calendar.covers(date)) {
+            LocalDate previousWorkingDay = calendar.previousWorkingDay(date);
+            if (previousWorkingDay != null) {
+                return previousWorkingDay;
+            }
+        }
+        while (!isWorkingDay(date)) {
+            date = date.minusDays(1);
+        }
+        return date;
+    }
+
+    /**
+     * Returns the calendar built from the current public holidays, building a new one and swapping it in whole
+     * whenever the public holidays collection hands out a different set of holidays.
+     */
+    private WorkingDayCalendar calendar() {
+        Set<LocalDate> publicHolidays = publicHolidaysCollection.getPublicHolidays();
+        Index current = index;
+        if (current != null && current.publicHolidays == publicHolidays) {
+            return current.calendar;
+        }
+        Index rebuilt = new Index(publicHolidays, buildCalendar(publicHolidays));
+        index = rebuilt;
+        return rebuilt.calendar;
+    }
+
+    private WorkingDayCalendar buildCalendar(Set<LocalDate> publicHolidays) {
+        LocalDate today = LocalDate.now();
+        LocalDate from = today.minusYears(YEARS_BEFORE);
+        LocalDate to = today.plusYears(YEARS_AFTER);
+        if (!publicHolidays.isEmpty()) {
+            LocalDate lastPublicHoliday = Collections.max(publicHolidays);
+            to = lastPublicHoliday.isAfter(to) ? lastPublicHoliday : to;
+        }
+        return new WorkingDayCalendar(
+            from.withDayOfYear(1),
+            to.withMonth(12).withDayOfMonth(31),
+            date -> isWeekend(date) || publicHolidays.contains(date) || isCustomNonWorkingDay(date)
+        );
+    }
+
+    private static class Index {
+
+        private final Set<LocalDate> publicHolidays;
+        private final WorkingDayCalendar calendar;
+
+        Index(Set<LocalDate> publicHolidays, WorkingDayCalendar calendar) {
+            this.publicHolidays = publicHolidays;
+            this.calendar = calendar;
+        }
     }
 }
@@ -1,5 +1,6 @@
 package uk.gov.hmcts.reform.civil.service.bankholidays;
 
+import com.google.common.base.Suppliers;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.reform.civil.helpers.ResourceReader;
@@ -7,27 +8,32 @@ import uk.gov.hmcts.reform.civil.helpers.ResourceReader;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
-import java.util.function.Predicate;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 @Service
 public class NonWorkingDaysCollection {
 
-    private final String dataResource;
+    private final Supplier<Set<String>> nonWorkingDays;
 
     public NonWorkingDaysCollection(@Value("${nonworking-days.datafile}") String dataSource) {
-        this.dataResource = dataSource;
+        this.nonWorkingDays = Suppliers.memoize(() -> readNonWorkingDays(dataSource));
     }
 
     public boolean contains(LocalDate date) {
-        final String isoDate = date.format(DateTimeFormatter.ISO_LOCAL_DATE);
+        return nonWorkingDays.get().contains(date.format(DateTimeFormatter.ISO_LOCAL_DATE));
+    }
+
+    private static Set<String> readNonWorkingDays(String dataResource) {
         try {
             String data = ResourceReader.readString(dataResource);
             return Arrays.stream(data.split("[\r\n]+"))
                 .map(String::trim)
-                .anyMatch(Predicate.isEqual(isoDate));
+                .collect(Collectors.toUnmodifiableSet());
         } catch (IllegalStateException e) {
             // thrown from ResourceReader#readString
-            return false;
+            return Set.of();
         }
     }
 }
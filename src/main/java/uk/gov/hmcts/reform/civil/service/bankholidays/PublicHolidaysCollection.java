@@ -1,38 +1,160 @@
 package uk.gov.hmcts.reform.civil.service.bankholidays;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Metrics;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
+import uk.gov.hmcts.reform.civil.helpers.ResourceReader;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import static org.springframework.util.StringUtils.hasText;
 
 /**
  * Stores all public holidays retrieved from Gov uk API: https://www.gov.uk/bank-holidays.json
+ * The holidays are loaded at startup from the last persisted snapshot, or the snapshot bundled with the service,
+ * and refreshed from the API in the background, so that deadline calculations never wait on the API.
  */
+@Slf4j
 @Service
 public class PublicHolidaysCollection {
 
+    static final String BUNDLED_SNAPSHOT = "/bank-holidays-snapshot.json";
+    static final String LAST_REFRESHED_METRIC = "civil.bank.holidays.last.refreshed";
+
     private final BankHolidaysApi bankHolidaysApi;
-    private Set<LocalDate> cachedPublicHolidays;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String snapshotPath;
+    private final Duration refreshInterval;
+    private volatile Set<LocalDate> cachedPublicHolidays;
+    private volatile Instant lastRefreshed;
+    private ScheduledExecutorService scheduler;
 
-    @Autowired
     public PublicHolidaysCollection(BankHolidaysApi bankHolidaysApi) {
+        this(bankHolidaysApi, null, Duration.ofHours(24));
+    }
+
+    @Autowired
+    public PublicHolidaysCollection(BankHolidaysApi bankHolidaysApi,
+                                    @Value("${bankHolidays.snapshot.path:}") String snapshotPath,
+                                    @Value("${bankHolidays.refresh-interval:PT24H}") Duration refreshInterval) {
         this.bankHolidaysApi = bankHolidaysApi;
+        this.snapshotPath = snapshotPath;
+        this.refreshInterval = refreshInterval;
+        Metrics.gauge(LAST_REFRESHED_METRIC, this, PublicHolidaysCollection::lastRefreshedEpochSeconds);
     }
 
-    private Set<LocalDate> retrieveAllPublicHolidays() {
-        BankHolidays bankHolidays = bankHolidaysApi.retrieveAll();
+    @PostConstruct
+    void warmUp() {
+        cachedPublicHolidays = loadSnapshot();
+        scheduler = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("bank-holidays-"));
+        scheduler.scheduleWithFixedDelay(this::refresh, 0, refreshInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
 
-        return bankHolidays.englandAndWales.events.stream()
-            .map(item -> item.date)
-            .collect(Collectors.toSet());
+    @PreDestroy
+    void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
     }
 
     public Set<LocalDate> getPublicHolidays() {
+        Set<LocalDate> publicHolidays = cachedPublicHolidays;
+        if (publicHolidays == null) {
+            publicHolidays = loadPublicHolidays();
+        }
+        return publicHolidays;
+    }
+
+    /**
+     * Retrieves the public holidays from the API and swaps them in, keeping the current holidays when the API fails.
+     */
+    void refresh() {
+        try {
+            Set<LocalDate> publicHolidays = retrieveAllPublicHolidays();
+            cachedPublicHolidays = publicHolidays;
+            lastRefreshed = Instant.now();
+            persistSnapshot(publicHolidays);
+        } catch (RuntimeException e) {
+            log.warn("Failed to refresh public holidays, keeping the previous ones", e);
+        }
+    }
+
+    private synchronized Set<LocalDate> loadPublicHolidays() {
+        if (cachedPublicHolidays == null) {
+            refresh();
+        }
         if (cachedPublicHolidays == null) {
-            cachedPublicHolidays = retrieveAllPublicHolidays();
+            cachedPublicHolidays = loadSnapshot();
         }
         return cachedPublicHolidays;
     }
+
+    private Set<LocalDate> retrieveAllPublicHolidays() {
+        return toPublicHolidays(bankHolidaysApi.retrieveAll());
+    }
+
+    private Set<LocalDate> loadSnapshot() {
+        if (hasText(snapshotPath) && Files.isReadable(Path.of(snapshotPath))) {
+            try {
+                return toPublicHolidays(objectMapper.readValue(Path.of(snapshotPath).toFile(), BankHolidays.class));
+            } catch (IOException | RuntimeException e) {
+                log.warn("Failed to read public holidays snapshot {}, using the bundled one", snapshotPath, e);
+            }
+        }
+        try {
+            return toPublicHolidays(objectMapper.readValue(
+                ResourceReader.readString(BUNDLED_SNAPSHOT), BankHolidays.class));
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to read bundled public holidays snapshot", e);
+        }
+    }
+
+    private void persistSnapshot(Set<LocalDate> publicHolidays) {
+        if (!hasText(snapshotPath)) {
+            return;
+        }
+        List<Map<String, String>> events = publicHolidays.stream()
+            .sorted()
+            .map(date -> Map.of("date", date.toString()))
+            .collect(Collectors.toList());
+        try {
+            Path target = Path.of(snapshotPath);
+            Path temporary = Files.createTempFile(target.toAbsolutePath().getParent(), "bank-holidays", ".json");
+            objectMapper.writeValue(temporary.toFile(), Map.of(
+                BankHolidays.Countries.ENGLAND_AND_WALES, Map.of("events", events)));
+            Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to persist public holidays snapshot {}", snapshotPath, e);
+        }
+    }
+
+    private static Set<LocalDate> toPublicHolidays(BankHolidays bankHolidays) {
+        return bankHolidays.englandAndWales.events.stream()
+            .map(item -> item.date)
+            .collect(Collectors.toUnmodifiableSet());
+    }
+
+    private double lastRefreshedEpochSeconds() {
+        Instant refreshed = lastRefreshed;
+        return refreshed == null ? Double.NaN : refreshed.getEpochSecond();
+    }
 }
@@ -0,0 +1,10 @@
+package uk.gov.hmcts.reform.civil.service.docmosis;
+
+public class DocumentGenerationRejectedException extends RuntimeException {
+
+    public static final String MESSAGE_TEMPLATE = "Rendering of %s rejected, Docmosis is at capacity.";
+
+    public DocumentGenerationRejectedException(DocmosisTemplates template, Throwable t) {
+        super(String.format(MESSAGE_TEMPLATE, template.name()), t);
+    }
+}
@@ -1,12 +1,15 @@
 package uk.gov.hmcts.reform.civil.service.docmosis;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
@@ -14,42 +17,132 @@ import uk.gov.hmcts.reform.civil.config.DocmosisConfiguration;
 import uk.gov.hmcts.reform.civil.model.common.MappableObject;
 import uk.gov.hmcts.reform.civil.model.docmosis.DocmosisDocument;
 import uk.gov.hmcts.reform.civil.model.docmosis.DocmosisRequest;
+import uk.gov.hmcts.reform.civil.service.documentmanagement.SpooledDocument;
 
 import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import javax.annotation.PreDestroy;
 
+/**
+ * Renders documents with Docmosis. Every render runs on a pool sized to what Docmosis can take at once, with a
+ * bounded queue in front of it; once that is full further renders are rejected straight away rather than holding
+ * request threads until they time out.
+ */
 @Service
 @Slf4j
-@RequiredArgsConstructor
 public class DocumentGeneratorService {
 
     public static final String API_RENDER = "/rs/render";
+    static final String METRIC_NAME = "civil.docmosis.render";
+
     private final RestTemplate restTemplate;
     private final DocmosisConfiguration configuration;
     private final ObjectMapper mapper;
+    private final ThreadPoolExecutor renderPool;
+    private final int spoolThreshold;
+
+    public DocumentGeneratorService(RestTemplate restTemplate,
+                                    DocmosisConfiguration configuration,
+                                    ObjectMapper mapper,
+                                    @Value("${docmosis.render.concurrency:8}") int concurrency,
+                                    @Value("${docmosis.render.queue-capacity:16}") int queueCapacity,
+                                    @Value("${docmosis.render.spool-threshold:1048576}") int spoolThreshold) {
+        this.restTemplate = restTemplate;
+        this.configuration = configuration;
+        this.mapper = mapper;
+        this.spoolThreshold = spoolThreshold;
+        this.renderPool = new ThreadPoolExecutor(
+            Math.max(1, concurrency),
+            Math.max(1, concurrency),
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+            new CustomizableThreadFactory("docmosis-render-"),
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+        Metrics.gauge(METRIC_NAME + ".queue.depth", renderPool, pool -> pool.getQueue().size());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        renderPool.shutdown();
+    }
 
     public DocmosisDocument generateDocmosisDocument(MappableObject templateData, DocmosisTemplates template) {
         return generateDocmosisDocument(templateData.toMap(mapper), template);
     }
 
     public DocmosisDocument generateDocmosisDocument(Map<String, Object> templateData, DocmosisTemplates template) {
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
+        return join(renderAsync(templateData, template));
+    }
 
-        DocmosisRequest requestBody = DocmosisRequest.builder()
-            .templateName(template.getTemplate())
-            .data(templateData)
-            .outputFormat("pdf")
-            .outputName("IGNORED")
-            .accessKey(configuration.getAccessKey())
-            .build();
+    /**
+     * Renders the document into a spool as Docmosis sends it, rather than into a byte array, so it can be
+     * uploaded without the whole of it being held in memory. The caller must close the document.
+     */
+    public SpooledDocument generateSpooledDocument(MappableObject templateData, DocmosisTemplates template) {
+        Map<String, Object> data = templateData.toMap(mapper);
+        return join(submit(template, () -> renderSpooled(data, template)));
+    }
+
+    /**
+     * Starts rendering the document, so the caller can carry on, e.g. building the data of another document.
+     *
+     * @throws DocumentGenerationRejectedException when as many renders are already queued as allowed.
+     */
+    public CompletableFuture<DocmosisDocument> renderAsync(MappableObject templateData, DocmosisTemplates template) {
+        return renderAsync(templateData.toMap(mapper), template);
+    }
 
-        HttpEntity<DocmosisRequest> request = new HttpEntity<>(requestBody, headers);
+    /**
+     * Starts rendering the document, so the caller can carry on, e.g. building the data of another document.
+     *
+     * @throws DocumentGenerationRejectedException when as many renders are already queued as allowed.
+     */
+    public CompletableFuture<DocmosisDocument> renderAsync(Map<String, Object> templateData,
+                                                           DocmosisTemplates template) {
+        return submit(template, () -> render(templateData, template));
+    }
+
+    private <T> CompletableFuture<T> submit(DocmosisTemplates template, Supplier<T> render) {
+        Timer queueTimer = Metrics.timer(METRIC_NAME + ".queue", "template", template.name());
+        Timer renderTimer = Metrics.timer(METRIC_NAME, "template", template.name());
+        long submitted = System.nanoTime();
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                queueTimer.record(System.nanoTime() - submitted, TimeUnit.NANOSECONDS);
+                return renderTimer.record(render);
+            }, renderPool);
+        } catch (RejectedExecutionException e) {
+            Metrics.counter(METRIC_NAME + ".rejected", "template", template.name()).increment();
+            log.warn("Rejected rendering of {}, {} renders already queued", template, renderPool.getQueue().size());
+            throw new DocumentGenerationRejectedException(template, e);
+        }
+    }
 
+    private static <T> T join(CompletableFuture<T> render) {
+        try {
+            return render.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private DocmosisDocument render(Map<String, Object> templateData, DocmosisTemplates template) {
         byte[] response;
 
         try {
             response = restTemplate.exchange(configuration.getUrl() + API_RENDER,
-                                             HttpMethod.POST, request, byte[].class
+                                             HttpMethod.POST, request(templateData, template), byte[].class
             ).getBody();
         } catch (HttpClientErrorException ex) {
             log.error("Docmosis document generation failed for " + ex.getMessage());
@@ -58,4 +151,33 @@ public class DocumentGeneratorService {
 
         return new DocmosisDocument(template.getDocumentTitle(), response);
     }
+
+    private SpooledDocument renderSpooled(Map<String, Object> templateData, DocmosisTemplates template) {
+        try {
+            return restTemplate.execute(
+                configuration.getUrl() + API_RENDER,
+                HttpMethod.POST,
+                restTemplate.httpEntityCallback(request(templateData, template)),
+                response -> SpooledDocument.copyOf(response.getBody(), spoolThreshold)
+            );
+        } catch (HttpClientErrorException ex) {
+            log.error("Docmosis document generation failed for " + ex.getMessage());
+            throw ex;
+        }
+    }
+
+    private HttpEntity<DocmosisRequest> request(Map<String, Object> templateData, DocmosisTemplates template) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+
+        DocmosisRequest requestBody = DocmosisRequest.builder()
+            .templateName(template.getTemplate())
+            .data(templateData)
+            .outputFormat("pdf")
+            .outputName("IGNORED")
+            .accessKey(configuration.getAccessKey())
+            .build();
+
+        return new HttpEntity<>(requestBody, headers);
+    }
 }
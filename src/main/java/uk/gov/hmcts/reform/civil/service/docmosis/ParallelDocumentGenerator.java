@@ -0,0 +1,96 @@
+package uk.gov.hmcts.reform.civil.service.docmosis;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import javax.annotation.PreDestroy;
+
+/**
+ * Generates the documents of a callback concurrently, each rendering and uploading on a worker of a bounded pool.
+ * Workers see the attributes of the calling request, so they share its state flow evaluations and feature flags.
+ * Once every worker is busy and as many documents are queued, the calling thread generates the next one itself.
+ */
+@Component
+public class ParallelDocumentGenerator {
+
+    static final String METRIC_NAME = "civil.documents.generation";
+
+    private final ThreadPoolExecutor executor;
+
+    public ParallelDocumentGenerator(@Value("${document-generation.threads:4}") int threads) {
+        int workers = Math.max(1, threads);
+        this.executor = new ThreadPoolExecutor(
+            workers,
+            workers,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(workers),
+            new CustomizableThreadFactory("document-generation-"),
+            new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * Generates the documents, returning them in the order of their generators once all have been generated.
+     * A single document is generated on the calling thread.
+     *
+     * @param document  the kind of document generated, to tag the timing of each generation by.
+     * @param generators the generators of each document.
+     */
+    public <T> List<T> generate(String document, List<Supplier<T>> generators) {
+        Timer timer = Metrics.timer(METRIC_NAME, "document", document);
+        if (generators.size() == 1) {
+            return List.of(timer.record(generators.get(0)));
+        }
+
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        List<CompletableFuture<T>> documents = generators.stream()
+            .map(generator -> CompletableFuture.supplyAsync(
+                () -> withRequestAttributes(requestAttributes, () -> timer.record(generator)),
+                executor
+            ))
+            .collect(Collectors.toList());
+
+        try {
+            return documents.stream()
+                .map(CompletableFuture::join)
+                .collect(Collectors.toList());
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private static <T> T withRequestAttributes(RequestAttributes requestAttributes, Supplier<T> generator) {
+        RequestAttributes previous = RequestContextHolder.getRequestAttributes();
+        if (previous == requestAttributes) {
+            return generator.get();
+        }
+        RequestContextHolder.setRequestAttributes(requestAttributes);
+        try {
+            return generator.get();
+        } finally {
+            RequestContextHolder.setRequestAttributes(previous);
+        }
+    }
+}
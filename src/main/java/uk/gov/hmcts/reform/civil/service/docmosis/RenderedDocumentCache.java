@@ -0,0 +1,153 @@
+package uk.gov.hmcts.reform.civil.service.docmosis;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.hash.Hashing;
+import io.micrometer.core.instrument.Metrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import uk.gov.hmcts.reform.civil.config.properties.docmosis.RenderedDocumentCacheProperties;
+import uk.gov.hmcts.reform.civil.model.common.MappableObject;
+import uk.gov.hmcts.reform.civil.model.documents.CaseDocument;
+import uk.gov.hmcts.reform.civil.repositories.RenderedDocumentRepository;
+
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+/**
+ * Documents already rendered and uploaded, by a hash of their template and template data. A retried generation
+ * event finds the document uploaded by the earlier attempt instead of rendering and uploading it again.
+ * Documents are kept in memory, and in the reference database when persistent, for the configured time.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(prefix = "docmosis.render-cache", name = "enabled", havingValue = "true")
+public class RenderedDocumentCache {
+
+    static final String METRIC_NAME = "civil.docmosis.render.cache";
+
+    private final ObjectMapper objectMapper;
+    private final ObjectMapper canonicalMapper;
+    private final Optional<RenderedDocumentRepository> renderedDocumentRepository;
+    private final RenderedDocumentCacheProperties properties;
+    private final Cache<String, CaseDocument> documents;
+    private ScheduledExecutorService purger;
+
+    public RenderedDocumentCache(ObjectMapper objectMapper,
+                                 Optional<RenderedDocumentRepository> renderedDocumentRepository,
+                                 RenderedDocumentCacheProperties properties) {
+        this.objectMapper = objectMapper;
+        this.canonicalMapper = objectMapper.copy().configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+        this.renderedDocumentRepository = renderedDocumentRepository.filter(repository -> properties.isPersistent());
+        this.properties = properties;
+        this.documents = Caffeine.newBuilder()
+            .maximumSize(properties.getMaximumSize())
+            .expireAfterWrite(properties.getExpireAfter())
+            .build();
+    }
+
+    @PostConstruct
+    void start() {
+        if (renderedDocumentRepository.isPresent()) {
+            purger = Executors.newSingleThreadScheduledExecutor(
+                new CustomizableThreadFactory("rendered-document-purger-"));
+            purger.scheduleWithFixedDelay(this::purge, 1, 60, TimeUnit.MINUTES);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (purger != null) {
+            purger.shutdownNow();
+        }
+    }
+
+    /**
+     * Returns the document rendered and uploaded for the same template and template data, or generates it.
+     */
+    public CaseDocument computeIfAbsent(MappableObject templateData, DocmosisTemplates template,
+                                       Supplier<CaseDocument> generator) {
+        String key = key(templateData, template);
+        Optional<CaseDocument> cached = find(key);
+        if (cached.isPresent()) {
+            Metrics.counter(METRIC_NAME, "result", "hit", "template", template.name()).increment();
+            log.info("Reusing {} document {} rendered before", template, cached.get().getDocumentName());
+            return cached.get();
+        }
+
+        Metrics.counter(METRIC_NAME, "result", "miss", "template", template.name()).increment();
+        CaseDocument document = generator.get();
+        documents.put(key, document);
+        renderedDocumentRepository.ifPresent(repository -> save(repository, key, template, document));
+        return document;
+    }
+
+    String key(MappableObject templateData, DocmosisTemplates template) {
+        try {
+            byte[] data = canonicalMapper.writeValueAsBytes(templateData.toMap(objectMapper));
+            return Hashing.sha256().newHasher()
+                .putUnencodedChars(template.name())
+                .putByte((byte) 0)
+                .putBytes(data)
+                .hash()
+                .toString();
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Template data of " + template + " cannot be hashed", e);
+        }
+    }
+
+    private Optional<CaseDocument> find(String key) {
+        CaseDocument document = documents.getIfPresent(key);
+        if (document != null || renderedDocumentRepository.isEmpty()) {
+            return Optional.ofNullable(document);
+        }
+        try {
+            Optional<CaseDocument> persisted = renderedDocumentRepository.get()
+                .findDocument(key, properties.getExpireAfter().toSeconds())
+                .map(this::fromJson);
+            persisted.ifPresent(found -> documents.put(key, found));
+            return persisted;
+        } catch (RuntimeException e) {
+            log.warn("Failed to look up rendered document, rendering it again", e);
+            return Optional.empty();
+        }
+    }
+
+    private void save(RenderedDocumentRepository repository, String key, DocmosisTemplates template,
+                      CaseDocument document) {
+        try {
+            repository.save(key, template.name(), objectMapper.writeValueAsString(document));
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("Failed to keep rendered {} document", template, e);
+        }
+    }
+
+    private CaseDocument fromJson(String document) {
+        try {
+            return objectMapper.readValue(document, CaseDocument.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Rendered document cannot be read", e);
+        }
+    }
+
+    private void purge() {
+        renderedDocumentRepository.ifPresent(repository -> {
+            try {
+                int deleted = repository.deleteOlderThan(properties.getExpireAfter().toSeconds());
+                log.debug("Deleted {} expired rendered documents", deleted);
+            } catch (RuntimeException e) {
+                log.warn("Failed to delete expired rendered documents", e);
+            }
+        });
+    }
+}
@@ -17,6 +17,14 @@ public class RepresentativeService {
 
     private final OrganisationService organisationService;
 
+    /**
+     * Loads the organisations of all the parties of the case together, so that the representatives of a document
+     * are then read from the cache. Call once per document, before getting its representatives.
+     */
+    public void prefetchOrganisations(CaseData caseData) {
+        organisationService.prefetchOrganisations(caseData);
+    }
+
     public Representative getRespondent1Representative(CaseData caseData) {
         if (caseData.getRespondent1OrganisationPolicy() != null) {
             var organisationId = caseData.getRespondent1OrganisationPolicy().getOrganisation().getOrganisationID();
@@ -5,22 +5,23 @@ import org.springframework.stereotype.Service;
 import uk.gov.hmcts.reform.civil.enums.MultiPartyScenario;
 import uk.gov.hmcts.reform.civil.model.CaseData;
 import uk.gov.hmcts.reform.civil.model.LitigationFriend;
-import uk.gov.hmcts.reform.civil.model.docmosis.DocmosisDocument;
 import uk.gov.hmcts.reform.civil.model.docmosis.aos.AcknowledgementOfClaimForm;
 import uk.gov.hmcts.reform.civil.model.docmosis.common.Party;
 import uk.gov.hmcts.reform.civil.model.documents.CaseDocument;
 import uk.gov.hmcts.reform.civil.model.documents.DocumentType;
-import uk.gov.hmcts.reform.civil.model.documents.PDF;
 import uk.gov.hmcts.reform.civil.service.docmosis.DocmosisTemplates;
 import uk.gov.hmcts.reform.civil.service.docmosis.DocumentGeneratorService;
+import uk.gov.hmcts.reform.civil.service.docmosis.RenderedDocumentCache;
 import uk.gov.hmcts.reform.civil.service.docmosis.RepresentativeService;
 import uk.gov.hmcts.reform.civil.service.docmosis.TemplateDataGenerator;
 import uk.gov.hmcts.reform.civil.service.documentmanagement.DocumentManagementService;
+import uk.gov.hmcts.reform.civil.service.documentmanagement.SpooledDocument;
 import uk.gov.hmcts.reform.civil.utils.DocmosisTemplateDataUtils;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 import static java.util.Optional.ofNullable;
 import static uk.gov.hmcts.reform.civil.enums.MultiPartyScenario.ONE_V_TWO_ONE_LEGAL_REP;
@@ -36,22 +37,32 @@ public class AcknowledgementOfClaimGenerator implements TemplateDataGenerator<Ac
     private final DocumentManagementService documentManagementService;
     private final DocumentGeneratorService documentGeneratorService;
     private final RepresentativeService representativeService;
+    private final Optional<RenderedDocumentCache> renderedDocumentCache;
 
     public CaseDocument generate(CaseData caseData, String authorisation) {
+        representativeService.prefetchOrganisations(caseData);
         AcknowledgementOfClaimForm templateData = getTemplateDataForAcknowldgeClaim(caseData);
         DocmosisTemplates docmosisTemplate =
             getMultiPartyScenario(caseData) == ONE_V_TWO_ONE_LEGAL_REP ? N9_MULTIPARTY_SAME_SOL : N11;
-        DocmosisDocument docmosisDocument =
-            documentGeneratorService.generateDocmosisDocument(templateData, docmosisTemplate);
 
-        return documentManagementService.uploadDocument(
-            authorisation,
-            new PDF(
+        return renderedDocumentCache
+            .map(cache -> cache.computeIfAbsent(templateData, docmosisTemplate, () ->
+                renderAndUpload(caseData, authorisation, templateData, docmosisTemplate)))
+            .orElseGet(() -> renderAndUpload(caseData, authorisation, templateData, docmosisTemplate));
+    }
+
+    private CaseDocument renderAndUpload(CaseData caseData, String authorisation,
+                                         AcknowledgementOfClaimForm templateData,
+                                         DocmosisTemplates docmosisTemplate) {
+        try (SpooledDocument document =
+                 documentGeneratorService.generateSpooledDocument(templateData, docmosisTemplate)) {
+            return documentManagementService.uploadDocument(
+                authorisation,
                 getFileName(caseData, docmosisTemplate),
-                docmosisDocument.getBytes(),
-                DocumentType.ACKNOWLEDGEMENT_OF_CLAIM
-            )
-        );
+                DocumentType.ACKNOWLEDGEMENT_OF_CLAIM,
+                document
+            );
+        }
     }
 
     private String getFileName(CaseData caseData, DocmosisTemplates docmosisTemplate) {
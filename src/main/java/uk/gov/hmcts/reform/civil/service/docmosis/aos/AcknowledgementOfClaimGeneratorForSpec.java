@@ -29,6 +29,7 @@ public class AcknowledgementOfClaimGeneratorForSpec
     private final RepresentativeService representativeService;
 
     public CaseDocument generate(CaseData caseData, String authorisation) {
+        representativeService.prefetchOrganisations(caseData);
         AcknowledgementOfClaimFormForSpec templateData = getTemplateData(caseData);
 
         DocmosisDocument docmosisDocument = documentGeneratorService.generateDocmosisDocument(templateData, N10);
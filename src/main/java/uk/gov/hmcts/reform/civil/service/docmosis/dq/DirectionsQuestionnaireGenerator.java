@@ -13,7 +13,6 @@ import uk.gov.hmcts.reform.civil.enums.dq.Language;
 import uk.gov.hmcts.reform.civil.model.BusinessProcess;
 import uk.gov.hmcts.reform.civil.model.CaseData;
 import uk.gov.hmcts.reform.civil.model.LitigationFriend;
-import uk.gov.hmcts.reform.civil.model.docmosis.DocmosisDocument;
 import uk.gov.hmcts.reform.civil.model.docmosis.common.Party;
 import uk.gov.hmcts.reform.civil.model.docmosis.dq.DirectionsQuestionnaireForm;
 import uk.gov.hmcts.reform.civil.model.docmosis.dq.Expert;
@@ -23,7 +22,6 @@ import uk.gov.hmcts.reform.civil.model.docmosis.dq.WelshLanguageRequirements;
 import uk.gov.hmcts.reform.civil.model.docmosis.dq.Witnesses;
 import uk.gov.hmcts.reform.civil.model.documents.CaseDocument;
 import uk.gov.hmcts.reform.civil.model.documents.DocumentType;
-import uk.gov.hmcts.reform.civil.model.documents.PDF;
 import uk.gov.hmcts.reform.civil.model.dq.DQ;
 import uk.gov.hmcts.reform.civil.model.dq.DisclosureReport;
 import uk.gov.hmcts.reform.civil.model.dq.FurtherInformation;
@@ -34,9 +32,11 @@ import uk.gov.hmcts.reform.civil.model.dq.Respondent1DQ;
 import uk.gov.hmcts.reform.civil.model.dq.Witness;
 import uk.gov.hmcts.reform.civil.service.docmosis.DocmosisTemplates;
 import uk.gov.hmcts.reform.civil.service.docmosis.DocumentGeneratorService;
+import uk.gov.hmcts.reform.civil.service.docmosis.RenderedDocumentCache;
 import uk.gov.hmcts.reform.civil.service.docmosis.RepresentativeService;
 import uk.gov.hmcts.reform.civil.service.docmosis.TemplateDataGenerator;
 import uk.gov.hmcts.reform.civil.service.documentmanagement.DocumentManagementService;
+import uk.gov.hmcts.reform.civil.service.documentmanagement.SpooledDocument;
 import uk.gov.hmcts.reform.civil.service.flowstate.StateFlowEngine;
 import uk.gov.hmcts.reform.civil.utils.DocmosisTemplateDataUtils;
 import uk.gov.hmcts.reform.civil.utils.ElementUtils;
@@ -48,6 +48,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import static java.util.Optional.ofNullable;
@@ -74,10 +75,11 @@ public class DirectionsQuestionnaireGenerator implements TemplateDataGenerator<D
     private final DocumentGeneratorService documentGeneratorService;
     private final StateFlowEngine stateFlowEngine;
     private final RepresentativeService representativeService;
+    private final Optional<RenderedDocumentCache> renderedDocumentCache;
 
     public CaseDocument generate(CaseData caseData, String authorisation) {
+        representativeService.prefetchOrganisations(caseData);
         DocmosisTemplates templateId;
-        DocmosisDocument docmosisDocument;
         DirectionsQuestionnaireForm templateData;
         if (SuperClaimType.SPEC_CLAIM.equals(caseData.getSuperClaimType())) {
             templateId = DocmosisTemplates.DEFENDANT_RESPONSE_SPEC;
@@ -86,14 +88,8 @@ public class DirectionsQuestionnaireGenerator implements TemplateDataGenerator<D
         }
 
         templateData = getTemplateData(caseData);
-        docmosisDocument = documentGeneratorService.generateDocmosisDocument(templateData, templateId);
 
-        return documentManagementService.uploadDocument(
-            authorisation,
-            new PDF(getFileName(caseData, templateId), docmosisDocument.getBytes(),
-                    DocumentType.DIRECTIONS_QUESTIONNAIRE
-            )
-        );
+        return renderAndUpload(caseData, authorisation, templateData, templateId, templateId);
     }
 
     private DocmosisTemplates getDocmosisTemplate(CaseData caseData) {
@@ -125,6 +121,7 @@ public class DirectionsQuestionnaireGenerator implements TemplateDataGenerator<D
     public CaseDocument generateDQFor1v2SingleSolDiffResponse(CaseData caseData,
                                                               String authorisation,
                                                               String respondent) {
+        representativeService.prefetchOrganisations(caseData);
         DocmosisTemplates templateId = TWO_V_ONE.equals(MultiPartyScenario
                                                             .getMultiPartyScenario(caseData)) ? N181_2V1 : N181;
         DirectionsQuestionnaireForm templateData;
@@ -137,13 +134,25 @@ public class DirectionsQuestionnaireGenerator implements TemplateDataGenerator<D
             throw new IllegalArgumentException("Respondent argument is expected to be one of ONE or TWO");
         }
 
-        DocmosisDocument docmosisDocument = documentGeneratorService.generateDocmosisDocument(templateData, N181);
-        return documentManagementService.uploadDocument(
-            authorisation,
-            new PDF(getFileName(caseData, templateId), docmosisDocument.getBytes(),
-                    DocumentType.DIRECTIONS_QUESTIONNAIRE
-            )
-        );
+        return renderAndUpload(caseData, authorisation, templateData, N181, templateId);
+    }
+
+    private CaseDocument renderAndUpload(CaseData caseData, String authorisation,
+                                         DirectionsQuestionnaireForm templateData,
+                                         DocmosisTemplates template, DocmosisTemplates fileNameTemplate) {
+        Supplier<CaseDocument> generator = () -> {
+            try (SpooledDocument document = documentGeneratorService.generateSpooledDocument(templateData, template)) {
+                return documentManagementService.uploadDocument(
+                    authorisation,
+                    getFileName(caseData, fileNameTemplate),
+                    DocumentType.DIRECTIONS_QUESTIONNAIRE,
+                    document
+                );
+            }
+        };
+        return renderedDocumentCache
+            .map(cache -> cache.computeIfAbsent(templateData, template, generator))
+            .orElseGet(generator);
     }
 
     private String getFileName(CaseData caseData, DocmosisTemplates templateId) {
@@ -6,17 +6,17 @@ import uk.gov.hmcts.reform.civil.enums.MultiPartyScenario;
 import uk.gov.hmcts.reform.civil.model.CaseData;
 import uk.gov.hmcts.reform.civil.model.LitigationFriend;
 import uk.gov.hmcts.reform.civil.model.SolicitorReferences;
-import uk.gov.hmcts.reform.civil.model.docmosis.DocmosisDocument;
 import uk.gov.hmcts.reform.civil.model.docmosis.common.Party;
 import uk.gov.hmcts.reform.civil.model.docmosis.sealedclaim.SealedClaimForm;
 import uk.gov.hmcts.reform.civil.model.documents.CaseDocument;
 import uk.gov.hmcts.reform.civil.model.documents.DocumentType;
-import uk.gov.hmcts.reform.civil.model.documents.PDF;
 import uk.gov.hmcts.reform.civil.service.docmosis.DocmosisTemplates;
 import uk.gov.hmcts.reform.civil.service.docmosis.DocumentGeneratorService;
+import uk.gov.hmcts.reform.civil.service.docmosis.RenderedDocumentCache;
 import uk.gov.hmcts.reform.civil.service.docmosis.RepresentativeService;
 import uk.gov.hmcts.reform.civil.service.docmosis.TemplateDataGenerator;
 import uk.gov.hmcts.reform.civil.service.documentmanagement.DocumentManagementService;
+import uk.gov.hmcts.reform.civil.service.documentmanagement.SpooledDocument;
 import uk.gov.hmcts.reform.civil.utils.DocmosisTemplateDataUtils;
 
 import java.util.ArrayList;
@@ -38,21 +38,33 @@ public class SealedClaimFormGenerator implements TemplateDataGenerator<SealedCla
     private final DocumentManagementService documentManagementService;
     private final DocumentGeneratorService documentGeneratorService;
     private final RepresentativeService representativeService;
+    private final Optional<RenderedDocumentCache> renderedDocumentCache;
 
     public CaseDocument generate(CaseData caseData, String authorisation) {
+        representativeService.prefetchOrganisations(caseData);
         SealedClaimForm templateData = getTemplateData(caseData);
 
         DocmosisTemplates docmosisTemplate = getDocmosisTemplate(caseData);
 
-        DocmosisDocument docmosisDocument = documentGeneratorService.generateDocmosisDocument(
+        return renderedDocumentCache
+            .map(cache -> cache.computeIfAbsent(templateData, docmosisTemplate, () ->
+                renderAndUpload(caseData, authorisation, templateData, docmosisTemplate)))
+            .orElseGet(() -> renderAndUpload(caseData, authorisation, templateData, docmosisTemplate));
+    }
+
+    private CaseDocument renderAndUpload(CaseData caseData, String authorisation, SealedClaimForm templateData,
+                                         DocmosisTemplates docmosisTemplate) {
+        try (SpooledDocument document = documentGeneratorService.generateSpooledDocument(
             templateData,
             docmosisTemplate
-        );
-
-        return documentManagementService.uploadDocument(
-            authorisation,
-            new PDF(getFileName(docmosisTemplate, caseData), docmosisDocument.getBytes(), DocumentType.SEALED_CLAIM)
-        );
+        )) {
+            return documentManagementService.uploadDocument(
+                authorisation,
+                getFileName(docmosisTemplate, caseData),
+                DocumentType.SEALED_CLAIM,
+                document
+            );
+        }
     }
 
     private String getFileName(DocmosisTemplates docmosisTemplate, CaseData caseData) {
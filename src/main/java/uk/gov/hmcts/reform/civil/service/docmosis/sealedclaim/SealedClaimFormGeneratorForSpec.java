@@ -51,6 +51,7 @@ public class SealedClaimFormGeneratorForSpec implements TemplateDataGenerator<Se
     private final DeadlinesCalculator deadlinesCalculator;
 
     public CaseDocument generate(CaseData caseData, String authorisation) {
+        representativeService.prefetchOrganisations(caseData);
         SealedClaimFormForSpec templateData = getTemplateData(caseData);
 
         DocmosisDocument docmosisDocument = documentGeneratorService.generateDocmosisDocument(templateData, N2);
@@ -1,12 +1,40 @@
 package uk.gov.hmcts.reform.civil.service.documentmanagement;
 
 import uk.gov.hmcts.reform.civil.model.documents.CaseDocument;
+import uk.gov.hmcts.reform.civil.model.documents.DocumentType;
 import uk.gov.hmcts.reform.civil.model.documents.PDF;
 
+import java.io.IOException;
+import java.io.InputStream;
+
 public interface DocumentManagementService {
 
     CaseDocument uploadDocument(String authorisation, PDF pdf);
 
     byte[] downloadDocument(String authorisation, String documentPath);
 
+    /**
+     * Uploads a spooled document. Implementations which cannot stream it read it into a {@link PDF}.
+     */
+    default CaseDocument uploadDocument(String authorisation, String fileName, DocumentType documentType,
+                                        SpooledDocument document) {
+        try {
+            return uploadDocument(authorisation, new PDF(fileName, document.toByteArray(), documentType));
+        } catch (IOException e) {
+            throw new DocumentUploadException(fileName, e);
+        }
+    }
+
+    /**
+     * Opens the binary of the document, which the caller must close. Implementations which cannot stream it
+     * download it into a byte array.
+     */
+    default InputStream downloadDocumentStream(String authorisation, String documentPath) {
+        try {
+            return SpooledDocument.of(downloadDocument(authorisation, documentPath)).toInputStream();
+        } catch (IOException e) {
+            throw new DocumentDownloadException(documentPath, e);
+        }
+    }
+
 }
@@ -0,0 +1,99 @@
+package uk.gov.hmcts.reform.civil.service.documentmanagement;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.RestTemplate;
+import uk.gov.hmcts.reform.ccd.document.am.model.Classification;
+import uk.gov.hmcts.reform.ccd.document.am.model.UploadResponse;
+import uk.gov.hmcts.reform.civil.config.DownstreamHttpClients;
+
+/**
+ * Moves document binaries to and from the document store without copying them onto the heap. The Feign clients
+ * of the document store take multipart files as byte arrays and return binaries as byte array resources, so
+ * this talks to the same endpoints over a rest template which writes and reads the bodies as streams.
+ */
+@Component
+public class DocumentStreamingClient {
+
+    static final String UPLOAD_PATH = "/cases/documents";
+    static final String SERVICE_AUTHORIZATION = "ServiceAuthorization";
+    static final String USER_ROLES = "user-roles";
+    static final String USER_ID = "user-id";
+    private static final String FILES_NAME = "files";
+    private static final String CIVIL = "CIVIL";
+
+    private final RestTemplate restTemplate;
+    private final String caseDocumentAmUrl;
+    private final String documentManagementUrl;
+    private final int spoolThreshold;
+
+    @Autowired
+    public DocumentStreamingClient(DownstreamHttpClients downstreamHttpClients,
+                                   @Value("${case_document_am.url}") String caseDocumentAmUrl,
+                                   @Value("${document_management.url:}") String documentManagementUrl,
+                                   @Value("${document_management.spoolThreshold:1048576}") int spoolThreshold) {
+        this(
+            new RestTemplate(downstreamHttpClients.streamingRequestFactory()),
+            caseDocumentAmUrl,
+            documentManagementUrl,
+            spoolThreshold
+        );
+    }
+
+    DocumentStreamingClient(RestTemplate restTemplate, String caseDocumentAmUrl, String documentManagementUrl,
+                            int spoolThreshold) {
+        this.restTemplate = restTemplate;
+        this.caseDocumentAmUrl = caseDocumentAmUrl;
+        this.documentManagementUrl = documentManagementUrl;
+        this.spoolThreshold = spoolThreshold;
+    }
+
+    /**
+     * Uploads the document to the case document store, writing the binary to the request as it is read.
+     */
+    public UploadResponse upload(String authorisation, String serviceAuthorisation, String fileName,
+                                 SpooledDocument document) {
+        HttpHeaders filePart = new HttpHeaders();
+        filePart.setContentType(MediaType.APPLICATION_PDF);
+
+        MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
+        body.add("classification", Classification.RESTRICTED.toString());
+        body.add("caseTypeId", CIVIL);
+        body.add("jurisdictionId", CIVIL);
+        body.add(FILES_NAME, new HttpEntity<>(document.asResource(fileName), filePart));
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.MULTIPART_FORM_DATA);
+        headers.set(HttpHeaders.AUTHORIZATION, authorisation);
+        headers.set(SERVICE_AUTHORIZATION, serviceAuthorisation);
+
+        return restTemplate.postForObject(
+            caseDocumentAmUrl + UPLOAD_PATH, new HttpEntity<>(body, headers), UploadResponse.class);
+    }
+
+    /**
+     * Downloads the binary at the given path of the document store, spooling it as it arrives.
+     */
+    public SpooledDocument download(String authorisation, String serviceAuthorisation, String userRoles,
+                                    String userId, String binaryPath) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.AUTHORIZATION, authorisation);
+        headers.set(SERVICE_AUTHORIZATION, serviceAuthorisation);
+        headers.set(USER_ROLES, userRoles);
+        headers.set(USER_ID, userId);
+
+        return restTemplate.execute(
+            documentManagementUrl + "/" + binaryPath,
+            HttpMethod.GET,
+            request -> request.getHeaders().addAll(headers),
+            response -> SpooledDocument.copyOf(response.getBody(), spoolThreshold)
+        );
+    }
+}
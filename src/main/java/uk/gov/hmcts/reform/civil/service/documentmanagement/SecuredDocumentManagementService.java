@@ -18,12 +18,14 @@ import uk.gov.hmcts.reform.ccd.document.am.model.DocumentUploadRequest;
 import uk.gov.hmcts.reform.ccd.document.am.model.UploadResponse;
 import uk.gov.hmcts.reform.civil.config.DocumentManagementConfiguration;
 import uk.gov.hmcts.reform.civil.model.documents.CaseDocument;
+import uk.gov.hmcts.reform.civil.model.documents.DocumentType;
 import uk.gov.hmcts.reform.civil.model.documents.PDF;
 import uk.gov.hmcts.reform.civil.service.UserService;
 import uk.gov.hmcts.reform.document.DocumentDownloadClientApi;
 import uk.gov.hmcts.reform.document.utils.InMemoryMultipartFile;
 import uk.gov.hmcts.reform.idam.client.models.UserInfo;
 
+import java.io.InputStream;
 import java.net.URI;
 import java.time.LocalDateTime;
 import java.util.Collections;
@@ -47,6 +49,7 @@ public class SecuredDocumentManagementService implements DocumentManagementServi
     private final UserService userService;
     private final DocumentManagementConfiguration documentManagementConfiguration;
     private final CaseDocumentClientApi caseDocumentClientApi;
+    private final DocumentStreamingClient documentStreamingClient;
 
     @Retryable(value = {DocumentUploadException.class}, backoff = @Backoff(delay = 200))
     @Override
@@ -75,25 +78,56 @@ public class SecuredDocumentManagementService implements DocumentManagementServi
                 .findFirst()
                 .orElseThrow(() -> new DocumentUploadException(originalFileName));
 
-            return CaseDocument.builder()
-                .documentLink(uk.gov.hmcts.reform.civil.model.documents.Document.builder()
-                                  .documentUrl(document.links.self.href)
-                                  .documentBinaryUrl(document.links.binary.href)
-                                  .documentFileName(originalFileName)
-                                  .documentHash(document.hashToken)
-                                  .build())
-                .documentName(originalFileName)
-                .documentType(pdf.getDocumentType())
-                .createdDatetime(LocalDateTime.now())
-                .documentSize(document.size)
-                .createdBy(CREATED_BY)
-                .build();
+            return toCaseDocument(document, originalFileName, pdf.getDocumentType());
         } catch (Exception ex) {
             log.error("Failed uploading file {}", originalFileName, ex);
             throw new DocumentUploadException(originalFileName, ex);
         }
     }
 
+    /**
+     * Uploads the document as it is read from its spool, rather than from a multipart file held in memory.
+     */
+    @Retryable(value = {DocumentUploadException.class}, backoff = @Backoff(delay = 200))
+    @Override
+    public CaseDocument uploadDocument(String authorisation, String fileName, DocumentType documentType,
+                                       SpooledDocument spooledDocument) {
+        log.info("Uploading file {} of {} bytes", fileName, spooledDocument.size());
+        try {
+            UploadResponse response = documentStreamingClient.upload(
+                authorisation,
+                authTokenGenerator.generate(),
+                fileName,
+                spooledDocument
+            );
+
+            Document document = response.getDocuments().stream()
+                .findFirst()
+                .orElseThrow(() -> new DocumentUploadException(fileName));
+
+            return toCaseDocument(document, fileName, documentType);
+        } catch (Exception ex) {
+            log.error("Failed uploading file {}", fileName, ex);
+            throw new DocumentUploadException(fileName, ex);
+        }
+    }
+
+    private CaseDocument toCaseDocument(Document document, String fileName, DocumentType documentType) {
+        return CaseDocument.builder()
+            .documentLink(uk.gov.hmcts.reform.civil.model.documents.Document.builder()
+                              .documentUrl(document.links.self.href)
+                              .documentBinaryUrl(document.links.binary.href)
+                              .documentFileName(fileName)
+                              .documentHash(document.hashToken)
+                              .build())
+            .documentName(fileName)
+            .documentType(documentType)
+            .createdDatetime(LocalDateTime.now())
+            .documentSize(document.size)
+            .createdBy(CREATED_BY)
+            .build();
+    }
+
     @Retryable(value = DocumentDownloadException.class, backoff = @Backoff(delay = 200))
     @Override
     public byte[] downloadDocument(String authorisation, String documentPath) {
@@ -108,7 +142,7 @@ public class SecuredDocumentManagementService implements DocumentManagementServi
                 authTokenGenerator.generate(),
                 userRoles,
                 userInfo.getUid(),
-                URI.create(documentMetadata.links.binary.href).getPath().replaceFirst("/", "")
+                getBinaryPath(documentMetadata)
             );
 
             return Optional.ofNullable(responseEntity.getBody())
@@ -121,6 +155,31 @@ public class SecuredDocumentManagementService implements DocumentManagementServi
         }
     }
 
+    /**
+     * Downloads the binary into a spool, so the caller reads it without it being held in memory as a whole.
+     */
+    @Retryable(value = DocumentDownloadException.class, backoff = @Backoff(delay = 200))
+    @Override
+    public InputStream downloadDocumentStream(String authorisation, String documentPath) {
+        log.info("Downloading document {} as a stream", documentPath);
+        try {
+            UserInfo userInfo = userService.getUserInfo(authorisation);
+            String userRoles = String.join(",", this.documentManagementConfiguration.getUserRoles());
+            Document documentMetadata = getDocumentMetaData(authorisation, documentPath);
+
+            return documentStreamingClient.download(
+                authorisation,
+                authTokenGenerator.generate(),
+                userRoles,
+                userInfo.getUid(),
+                getBinaryPath(documentMetadata)
+            ).toInputStream();
+        } catch (Exception ex) {
+            log.error("Failed downloading document {}", documentPath, ex);
+            throw new DocumentDownloadException(documentPath, ex);
+        }
+    }
+
     public Document getDocumentMetaData(String authorisation, String documentPath) {
         log.info("Getting metadata for file {}", documentPath);
 
@@ -137,6 +196,10 @@ public class SecuredDocumentManagementService implements DocumentManagementServi
         }
     }
 
+    private String getBinaryPath(Document documentMetadata) {
+        return URI.create(documentMetadata.links.binary.href).getPath().replaceFirst("/", "");
+    }
+
     private UUID getDocumentIdFromSelfHref(String selfHref) {
         return UUID.fromString(selfHref.substring(selfHref.length() - DOC_UUID_LENGTH));
     }
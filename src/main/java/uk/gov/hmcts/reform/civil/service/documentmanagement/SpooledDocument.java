@@ -0,0 +1,155 @@
+package uk.gov.hmcts.reform.civil.service.documentmanagement;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.core.io.Resource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Binary of a document passing through the service, e.g. from Docmosis to the document store. Content up to
+ * a threshold is kept in memory and anything larger is spilled to a temporary file, so a large document is never
+ * held on the heap as a whole. It can be read any number of times; closing it deletes the temporary file.
+ */
+@Slf4j
+public final class SpooledDocument implements InputStreamSource, AutoCloseable {
+
+    public static final int DEFAULT_THRESHOLD = 1024 * 1024;
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    private final byte[] bytes;
+    private final Path file;
+    private final long size;
+
+    private SpooledDocument(byte[] bytes, Path file, long size) {
+        this.bytes = bytes;
+        this.file = file;
+        this.size = size;
+    }
+
+    public static SpooledDocument of(byte[] bytes) {
+        byte[] content = bytes == null ? new byte[0] : bytes;
+        return new SpooledDocument(content, null, content.length);
+    }
+
+    /**
+     * Reads the content to its end, spilling it to a temporary file once it grows past the threshold.
+     * The content stream is left open.
+     */
+    public static SpooledDocument copyOf(InputStream content, int threshold) throws IOException {
+        if (content == null) {
+            return of(null);
+        }
+        ByteArrayOutputStream memory = new ByteArrayOutputStream(Math.max(0, Math.min(threshold, BUFFER_SIZE)));
+        byte[] buffer = new byte[BUFFER_SIZE];
+        int read;
+        while ((read = content.read(buffer)) != -1) {
+            if (memory.size() + read > threshold) {
+                return spill(memory, buffer, read, content);
+            }
+            memory.write(buffer, 0, read);
+        }
+        return of(memory.toByteArray());
+    }
+
+    private static SpooledDocument spill(ByteArrayOutputStream memory, byte[] buffer, int read, InputStream content)
+        throws IOException {
+        Path file = Files.createTempFile("civil-document-", ".tmp");
+        try (OutputStream out = Files.newOutputStream(file)) {
+            memory.writeTo(out);
+            out.write(buffer, 0, read);
+            long size = memory.size() + read + content.transferTo(out);
+            return new SpooledDocument(null, file, size);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        return bytes != null ? new ByteArrayInputStream(bytes) : Files.newInputStream(file);
+    }
+
+    /**
+     * Hands the content over as a stream which closes this document once it is itself closed.
+     */
+    public InputStream toInputStream() throws IOException {
+        return new FilterInputStream(getInputStream()) {
+            @Override
+            public void close() throws IOException {
+                try {
+                    super.close();
+                } finally {
+                    SpooledDocument.this.close();
+                }
+            }
+        };
+    }
+
+    /**
+     * Copies the whole content onto the heap, for clients which only take a byte array.
+     */
+    public byte[] toByteArray() throws IOException {
+        return bytes != null ? bytes : Files.readAllBytes(file);
+    }
+
+    /**
+     * The content as a resource with a known length, which a multipart request writes out as it goes.
+     */
+    public Resource asResource(String fileName) {
+        return new AbstractResource() {
+            @Override
+            public String getDescription() {
+                return "Document " + fileName;
+            }
+
+            @Override
+            public String getFilename() {
+                return fileName;
+            }
+
+            @Override
+            public long contentLength() {
+                return size;
+            }
+
+            @Override
+            public InputStream getInputStream() throws IOException {
+                return SpooledDocument.this.getInputStream();
+            }
+        };
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public boolean isSpilled() {
+        return file != null;
+    }
+
+    Path getFile() {
+        return file;
+    }
+
+    @Override
+    public void close() {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Failed to delete spooled document {}", file, e);
+        }
+    }
+}
@@ -6,13 +6,20 @@ import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
 import uk.gov.hmcts.reform.civil.callback.CaseEvent;
 import uk.gov.hmcts.reform.civil.helpers.CaseDetailsConverter;
 import uk.gov.hmcts.reform.civil.model.CaseData;
-import uk.gov.hmcts.reform.civil.stateflow.StateFlow;
+import uk.gov.hmcts.reform.civil.stateflow.StateFlowEvaluation;
 
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static java.util.Collections.emptyList;
+import static java.util.Collections.emptySet;
+import static java.util.Collections.unmodifiableSet;
 import static java.util.Map.entry;
 import static uk.gov.hmcts.reform.civil.callback.CaseEvent.ACKNOWLEDGEMENT_OF_SERVICE;
 import static uk.gov.hmcts.reform.civil.callback.CaseEvent.ACKNOWLEDGE_CLAIM;
@@ -564,8 +571,17 @@ public class FlowStateAllowedEventService {
         )
     );
 
+    private static final Map<String, FlowState.Main> FLOW_STATES_BY_FULL_NAME = Arrays.stream(FlowState.Main.values())
+        .collect(Collectors.toUnmodifiableMap(FlowState.Main::fullName, Function.identity()));
+
+    private static final Map<FlowState.Main, Set<CaseEvent>> ALLOWED_EVENTS_BY_FLOW_STATE =
+        compile(ALLOWED_EVENTS_ON_FLOW_STATE);
+
+    private static final Map<FlowState.Main, Set<CaseEvent>> ALLOWED_EVENTS_BY_FLOW_STATE_SPEC =
+        compile(ALLOWED_EVENTS_ON_FLOW_STATE_SPEC);
+
     public FlowState getFlowState(CaseData caseData) {
-        StateFlow stateFlow = stateFlowEngine.evaluate(caseData);
+        StateFlowEvaluation stateFlow = stateFlowEngine.evaluate(caseData);
         return FlowState.fromFullName(stateFlow.getState().getName());
     }
 
@@ -574,28 +590,32 @@ public class FlowStateAllowedEventService {
     }
 
     public boolean isAllowedOnState(String stateFullName, CaseEvent caseEvent) {
-        return ALLOWED_EVENTS_ON_FLOW_STATE
-            .getOrDefault(stateFullName, emptyList())
-            .contains(caseEvent);
+        return allowedEvents(ALLOWED_EVENTS_BY_FLOW_STATE, stateFullName).contains(caseEvent);
     }
 
     public boolean isAllowedOnStateForSpec(String stateFullName, CaseEvent caseEvent) {
-        return ALLOWED_EVENTS_ON_FLOW_STATE_SPEC
-            .getOrDefault(stateFullName, emptyList())
-            .contains(caseEvent);
+        return allowedEvents(ALLOWED_EVENTS_BY_FLOW_STATE_SPEC, stateFullName).contains(caseEvent);
     }
 
     public boolean isAllowed(CaseDetails caseDetails, CaseEvent caseEvent) {
-        CaseData caseData = caseDetailsConverter.toCaseData(caseDetails);
+        return isAllowed(caseDetailsConverter.toCaseData(caseDetails), caseEvent);
+    }
 
-        if ((caseData.getSuperClaimType() != null && caseData.getSuperClaimType().equals(SPEC_CLAIM))
-            || caseEvent.equals(CREATE_CLAIM_SPEC)) {
-            StateFlow stateFlow = stateFlowEngine.evaluateSpec(caseDetails);
-            return isAllowedOnStateForSpec(stateFlow.getState().getName(), caseEvent);
-        } else {
-            StateFlow stateFlow = stateFlowEngine.evaluate(caseDetails);
-            return isAllowedOnState(stateFlow.getState().getName(), caseEvent);
-        }
+    /**
+     * Pass the case data the callback handlers evaluate, so the state flow evaluation is shared with them within
+     * the request.
+     */
+    public boolean isAllowed(CaseData caseData, CaseEvent caseEvent) {
+        return allowedEvents(caseData, isSpecClaim(caseData) || caseEvent == CREATE_CLAIM_SPEC).contains(caseEvent);
+    }
+
+    /**
+     * Returns every event allowed on the case from a single evaluation of its state flow. CREATE_CLAIM_SPEC is only
+     * reported for specified claims; use {@link #isAllowed(CaseDetails, CaseEvent)} to check it on other cases.
+     */
+    public Set<CaseEvent> getAllowedEvents(CaseDetails caseDetails) {
+        CaseData caseData = caseDetailsConverter.toCaseData(caseDetails);
+        return allowedEvents(caseData, isSpecClaim(caseData));
     }
 
     public List<String> getAllowedStates(CaseEvent caseEvent) {
@@ -610,4 +630,36 @@ public class FlowStateAllowedEventService {
             .map(Map.Entry::getKey)
             .collect(Collectors.toList());
     }
+
+    private Set<CaseEvent> allowedEvents(CaseData caseData, boolean spec) {
+        if (spec) {
+            StateFlowEvaluation stateFlow = stateFlowEngine.evaluateSpec(caseData);
+            return allowedEvents(ALLOWED_EVENTS_BY_FLOW_STATE_SPEC, stateFlow.getState().getName());
+        }
+        StateFlowEvaluation stateFlow = stateFlowEngine.evaluate(caseData);
+        return allowedEvents(ALLOWED_EVENTS_BY_FLOW_STATE, stateFlow.getState().getName());
+    }
+
+    private static boolean isSpecClaim(CaseData caseData) {
+        return SPEC_CLAIM.equals(caseData.getSuperClaimType());
+    }
+
+    private static Set<CaseEvent> allowedEvents(Map<FlowState.Main, Set<CaseEvent>> allowedEvents,
+                                                String stateFullName) {
+        FlowState.Main flowState = FLOW_STATES_BY_FULL_NAME.get(stateFullName);
+        if (flowState == null) {
+            return emptySet();
+        }
+        return allowedEvents.getOrDefault(flowState, emptySet());
+    }
+
+    private static Map<FlowState.Main, Set<CaseEvent>> compile(Map<String, List<CaseEvent>> allowedEvents) {
+        Map<FlowState.Main, Set<CaseEvent>> compiled = new EnumMap<>(FlowState.Main.class);
+        allowedEvents.forEach((stateFullName, caseEvents) -> {
+            Set<CaseEvent> events = EnumSet.noneOf(CaseEvent.class);
+            events.addAll(caseEvents);
+            compiled.put(FLOW_STATES_BY_FULL_NAME.get(stateFullName), unmodifiableSet(events));
+        });
+        return compiled;
+    }
 }
@@ -1,13 +1,15 @@
 package uk.gov.hmcts.reform.civil.service.flowstate;
 
-import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
 import uk.gov.hmcts.reform.civil.helpers.CaseDetailsConverter;
 import uk.gov.hmcts.reform.civil.launchdarkly.FeatureToggleService;
 import uk.gov.hmcts.reform.civil.model.CaseData;
+import uk.gov.hmcts.reform.civil.stateflow.CompiledStateFlow;
 import uk.gov.hmcts.reform.civil.stateflow.StateFlow;
 import uk.gov.hmcts.reform.civil.stateflow.StateFlowBuilder;
+import uk.gov.hmcts.reform.civil.stateflow.StateFlowEvaluation;
+import uk.gov.hmcts.reform.civil.stateflow.grammar.Build;
 import uk.gov.hmcts.reform.civil.stateflow.model.State;
 
 import java.util.Map;
@@ -104,13 +106,30 @@ import static uk.gov.hmcts.reform.civil.service.flowstate.FlowState.Main.TAKEN_O
 import static uk.gov.hmcts.reform.civil.service.flowstate.FlowState.Main.TAKEN_OFFLINE_UNREPRESENTED_UNREGISTERED_DEFENDANT;
 
 @Component
-@RequiredArgsConstructor
 public class StateFlowEngine {
 
     private final CaseDetailsConverter caseDetailsConverter;
     private final FeatureToggleService featureToggleService;
+    private final CompiledStateFlow unspecFlow;
+    private final CompiledStateFlow specFlow;
+    private final StateFlowEvaluationCache evaluationCache = new StateFlowEvaluationCache();
+
+    public StateFlowEngine(CaseDetailsConverter caseDetailsConverter, FeatureToggleService featureToggleService) {
+        this.caseDetailsConverter = caseDetailsConverter;
+        this.featureToggleService = featureToggleService;
+        this.unspecFlow = compile(DRAFT);
+        this.specFlow = compile(SPEC_DRAFT);
+    }
 
     public StateFlow build(FlowState.Main initialState) {
+        return define(initialState).build();
+    }
+
+    public CompiledStateFlow compile(FlowState.Main initialState) {
+        return define(initialState).compile();
+    }
+
+    private Build define(FlowState.Main initialState) {
         return StateFlowBuilder.<FlowState.Main>flow(FLOW_NAME)
             .initial(initialState)
             .transitionTo(CLAIM_SUBMITTED).onlyIf(claimSubmittedOneRespondentRepresentative)
@@ -308,27 +327,26 @@ public class StateFlowEngine {
             .state(TAKEN_OFFLINE_UNREPRESENTED_UNREGISTERED_DEFENDANT)
             .state(TAKEN_OFFLINE_PAST_APPLICANT_RESPONSE_DEADLINE)
             .state(TAKEN_OFFLINE_AFTER_CLAIM_DETAILS_NOTIFIED)
-            .state(TAKEN_OFFLINE_AFTER_CLAIM_NOTIFIED)
-            .build();
+            .state(TAKEN_OFFLINE_AFTER_CLAIM_NOTIFIED);
     }
 
-    public StateFlow evaluate(CaseDetails caseDetails) {
+    public StateFlowEvaluation evaluate(CaseDetails caseDetails) {
         return evaluate(caseDetailsConverter.toCaseData(caseDetails));
     }
 
-    public StateFlow evaluate(CaseData caseData) {
+    public StateFlowEvaluation evaluate(CaseData caseData) {
         if (caseData.getSuperClaimType() != null && caseData.getSuperClaimType().equals(SPEC_CLAIM)) {
-            return build(SPEC_DRAFT).evaluate(caseData);
+            return evaluationCache.evaluate(specFlow, caseData);
         }
-        return build(DRAFT).evaluate(caseData);
+        return evaluationCache.evaluate(unspecFlow, caseData);
     }
 
-    public StateFlow evaluateSpec(CaseDetails caseDetails) {
+    public StateFlowEvaluation evaluateSpec(CaseDetails caseDetails) {
         return evaluateSpec(caseDetailsConverter.toCaseData(caseDetails));
     }
 
-    public StateFlow evaluateSpec(CaseData caseData) {
-        return build(SPEC_DRAFT).evaluate(caseData);
+    public StateFlowEvaluation evaluateSpec(CaseData caseData) {
+        return evaluationCache.evaluate(specFlow, caseData);
     }
 
     public boolean hasTransitionedTo(CaseDetails caseDetails, FlowState.Main state) {
@@ -0,0 +1,99 @@
+package uk.gov.hmcts.reform.civil.service.flowstate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import uk.gov.hmcts.reform.civil.model.CaseData;
+import uk.gov.hmcts.reform.civil.stateflow.CompiledStateFlow;
+import uk.gov.hmcts.reform.civil.stateflow.StateFlowEvaluation;
+
+import java.util.LinkedList;
+
+import static org.springframework.web.context.request.RequestAttributes.SCOPE_REQUEST;
+
+/**
+ * Memoizes state flow evaluations for the duration of a single callback request, so the aspect,
+ * handlers and generators which evaluate the same case share one result.
+ * CaseData carries no version, so an evaluation is only reused when it was made against the same
+ * CaseData instance; comparing case data by value would cost about as much as evaluating it again.
+ * Outside of a request (e.g. Camunda external tasks) every evaluation is computed afresh.
+ */
+class StateFlowEvaluationCache {
+
+    static final String METRIC_NAME = "civil.stateflow.evaluations";
+
+    private static final String REQUEST_ATTRIBUTE = StateFlowEvaluationCache.class.getName();
+    private static final int MAX_ENTRIES_PER_REQUEST = 8;
+
+    private final Counter hits = Metrics.counter(METRIC_NAME, "cache", "hit");
+    private final Counter misses = Metrics.counter(METRIC_NAME, "cache", "miss");
+
+    StateFlowEvaluation evaluate(CompiledStateFlow flow, CaseData caseData) {
+        Entries entries = requestEntries();
+        if (entries == null) {
+            return flow.evaluate(caseData);
+        }
+
+        StateFlowEvaluation cached = entries.find(flow, caseData);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+
+        misses.increment();
+        StateFlowEvaluation stateFlow = flow.evaluate(caseData);
+        entries.add(new Entry(flow, caseData, stateFlow));
+        return stateFlow;
+    }
+
+    private Entries requestEntries() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        // The same attributes are handed to the threads generating documents in parallel for the request
+        synchronized (attributes) {
+            Entries entries = (Entries) attributes.getAttribute(REQUEST_ATTRIBUTE, SCOPE_REQUEST);
+            if (entries == null) {
+                entries = new Entries();
+                attributes.setAttribute(REQUEST_ATTRIBUTE, entries, SCOPE_REQUEST);
+            }
+            return entries;
+        }
+    }
+
+    private static class Entries {
+
+        private final LinkedList<Entry> values = new LinkedList<>();
+
+        synchronized StateFlowEvaluation find(CompiledStateFlow flow, CaseData caseData) {
+            for (Entry entry : values) {
+                if (entry.flow == flow && entry.caseData == caseData) {
+                    return entry.stateFlow;
+                }
+            }
+            return null;
+        }
+
+        synchronized void add(Entry entry) {
+            if (values.size() == MAX_ENTRIES_PER_REQUEST) {
+                values.removeFirst();
+            }
+            values.addLast(entry);
+        }
+    }
+
+    private static class Entry {
+
+        private final CompiledStateFlow flow;
+        private final CaseData caseData;
+        private final StateFlowEvaluation stateFlow;
+
+        Entry(CompiledStateFlow flow, CaseData caseData, StateFlowEvaluation stateFlow) {
+            this.flow = flow;
+            this.caseData = caseData;
+            this.stateFlow = stateFlow;
+        }
+    }
+}
@@ -3,15 +3,24 @@ package uk.gov.hmcts.reform.civil.service.robotics;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.networknt.schema.JsonSchema;
 import com.networknt.schema.JsonSchemaFactory;
 import com.networknt.schema.SpecVersion;
 import com.networknt.schema.ValidationMessage;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import uk.gov.hmcts.reform.civil.model.robotics.ToJsonString;
 import uk.gov.hmcts.reform.civil.service.robotics.exception.JsonSchemaValidationException;
 import uk.gov.hmcts.reform.civil.utils.ResourceReader;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.lang.String.format;
 
@@ -19,12 +28,21 @@ import static java.lang.String.format;
 @Service
 public class JsonSchemaValidationService {
 
+    static final String METRIC_NAME = "civil.robotics.schema.validation";
+
+    private static final JsonSchemaFactory SCHEMA_FACTORY = JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V7);
+    // configured as ToJsonString#toJsonString, so payloads validate as they are sent
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private final Map<String, CompiledSchema> schemas = new ConcurrentHashMap<>();
     private String jsonSchemaFile;
     private String jsonSchemaFileForSpec;
 
     public JsonSchemaValidationService() {
         this.jsonSchemaFile = "schema/rpa-json-schema.json";
         this.jsonSchemaFileForSpec = "schema/rpa-json-schema-spec.json";
+        getSchema(jsonSchemaFile);
+        getSchema(jsonSchemaFileForSpec);
     }
 
     public JsonSchemaValidationService(String jsonSchemaFile) {
@@ -53,20 +71,63 @@ public class JsonSchemaValidationService {
         return validate(payload, jsonSchemaFile);
     }
 
+    /**
+     * Validates the payload against the default schema as a JSON tree, without writing it out as a string first.
+     */
+    public Set<ValidationMessage> validate(ToJsonString payload) {
+        return validate(getJsonNodeFromPayload(payload), jsonSchemaFile);
+    }
+
+    /**
+     * Validates an already written payload against the default schema, reading the tree straight from its buffer.
+     */
+    public Set<ValidationMessage> validate(RoboticsPayload payload) {
+        return validate(getJsonNodeFromPayload(payload), jsonSchemaFile);
+    }
+
     public Set<ValidationMessage> validate(String body, String jsonSchemaFileName) {
-        String jsonSchemaContents = readJsonSchema(jsonSchemaFileName);
-        var jsonSchema = JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V7).getSchema(jsonSchemaContents);
-        return jsonSchema.validate(getJsonNodeFromStringContent(body));
+        return validate(getJsonNodeFromStringContent(body), jsonSchemaFileName);
+    }
+
+    private Set<ValidationMessage> validate(JsonNode payload, String jsonSchemaFileName) {
+        CompiledSchema compiledSchema = getSchema(jsonSchemaFileName);
+        return compiledSchema.timer.record(() -> compiledSchema.schema.validate(payload));
+    }
+
+    private CompiledSchema getSchema(String jsonSchemaFileName) {
+        return schemas.computeIfAbsent(
+            jsonSchemaFileName,
+            fileName -> new CompiledSchema(
+                SCHEMA_FACTORY.getSchema(readJsonSchema(fileName)),
+                Metrics.timer(METRIC_NAME, "schema", fileName)
+            )
+        );
     }
 
     private JsonNode getJsonNodeFromStringContent(String content) {
         try {
-            return new ObjectMapper().readTree(content);
+            return OBJECT_MAPPER.readTree(content);
         } catch (JsonProcessingException e) {
             throw new JsonSchemaValidationException(e.getMessage(), e);
         }
     }
 
+    private JsonNode getJsonNodeFromPayload(ToJsonString payload) {
+        try {
+            return OBJECT_MAPPER.valueToTree(payload);
+        } catch (IllegalArgumentException e) {
+            throw new JsonSchemaValidationException(e.getMessage(), e);
+        }
+    }
+
+    private JsonNode getJsonNodeFromPayload(RoboticsPayload payload) {
+        try (InputStream content = payload.getInputStream()) {
+            return OBJECT_MAPPER.readTree(content);
+        } catch (IOException e) {
+            throw new JsonSchemaValidationException(e.getMessage(), e);
+        }
+    }
+
     private String readJsonSchema(String input) {
         try {
             return ResourceReader.readString(input);
@@ -78,4 +139,15 @@ public class JsonSchemaValidationService {
     public String getJsonSchemaFile() {
         return jsonSchemaFile;
     }
+
+    private static class CompiledSchema {
+
+        private final JsonSchema schema;
+        private final Timer timer;
+
+        CompiledSchema(JsonSchema schema, Timer timer) {
+            this.schema = schema;
+            this.timer = timer;
+        }
+    }
 }
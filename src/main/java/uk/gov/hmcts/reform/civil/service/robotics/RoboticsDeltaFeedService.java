@@ -0,0 +1,91 @@
+package uk.gov.hmcts.reform.civil.service.robotics;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import io.micrometer.core.instrument.Metrics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import uk.gov.hmcts.reform.civil.model.robotics.Event;
+import uk.gov.hmcts.reform.civil.model.robotics.EventHistory;
+import uk.gov.hmcts.reform.civil.repositories.RoboticsFeedProgress;
+import uk.gov.hmcts.reform.civil.repositories.RoboticsFeedProgressRepository;
+import uk.gov.hmcts.reform.civil.service.robotics.mapper.EventHistorySequencer;
+
+import java.util.List;
+import java.util.Optional;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Incremental mode of the RPA continuous feed. Records the last event sequence sent for each case and
+ * narrows later event histories down to the events sequenced after it.
+ *
+ * <p>The events already sent are fingerprinted by sequence, code, date received and party, but not by their
+ * text, which for some events embeds the date it was generated. Whenever that prefix no longer matches, e.g.
+ * because a back-dated event has been numbered in between, the full history is sent again.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "robotics.notification", name = "delta-feed", havingValue = "true")
+public class RoboticsDeltaFeedService {
+
+    static final String METRIC_NAME = "civil.robotics.feed";
+
+    private final RoboticsFeedProgressRepository roboticsFeedProgressRepository;
+    private final EventHistorySequencer eventHistorySequencer;
+
+    /**
+     * Returns the events of the case to send, or empty when nothing has been added since they were last sent.
+     */
+    public Optional<EventHistory> eventsToSend(Long caseReference, EventHistory eventHistory) {
+        Optional<RoboticsFeedProgress> progress = Optional.ofNullable(caseReference)
+            .flatMap(roboticsFeedProgressRepository::findByCaseReference);
+        if (progress.isEmpty()) {
+            return sending("full", eventHistory);
+        }
+
+        int lastSequence = progress.get().getLastSequence();
+        List<Event> events = eventHistorySequencer.sequencedEvents(eventHistory);
+        if (events.size() < lastSequence
+            || !digest(events.subList(0, lastSequence)).equals(progress.get().getEventsDigest())) {
+            log.info("Events sent for case {} up to sequence {} have changed, sending all events",
+                     caseReference, lastSequence);
+            return sending("full", eventHistory);
+        }
+        if (events.size() == lastSequence) {
+            Metrics.counter(METRIC_NAME, "mode", "skipped").increment();
+            return Optional.empty();
+        }
+        return sending("delta", eventHistorySequencer.eventsAfter(eventHistory, lastSequence));
+    }
+
+    /**
+     * Records the full event history of the case as sent.
+     */
+    public void eventsSent(Long caseReference, EventHistory eventHistory) {
+        List<Event> events = eventHistorySequencer.sequencedEvents(eventHistory);
+        if (caseReference == null || events.isEmpty()) {
+            return;
+        }
+        int lastSequence = events.get(events.size() - 1).getEventSequence();
+        roboticsFeedProgressRepository.save(caseReference, lastSequence, digest(events));
+    }
+
+    private static Optional<EventHistory> sending(String mode, EventHistory eventHistory) {
+        Metrics.counter(METRIC_NAME, "mode", mode).increment();
+        return Optional.of(eventHistory);
+    }
+
+    static String digest(List<Event> events) {
+        Hasher hasher = Hashing.sha256().newHasher();
+        events.forEach(event -> hasher
+            .putInt(event.getEventSequence())
+            .putString(String.valueOf(event.getEventCode()), UTF_8).putChar('|')
+            .putString(String.valueOf(event.getDateReceived()), UTF_8).putChar('|')
+            .putString(String.valueOf(event.getLitigiousPartyID()), UTF_8).putChar('\n'));
+        return hasher.hash().toString();
+    }
+}
@@ -1,6 +1,5 @@
 package uk.gov.hmcts.reform.civil.service.robotics;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -9,11 +8,9 @@ import uk.gov.hmcts.reform.civil.config.properties.robotics.RoboticsEmailConfigu
 import uk.gov.hmcts.reform.civil.model.CaseData;
 import uk.gov.hmcts.reform.civil.model.robotics.Event;
 import uk.gov.hmcts.reform.civil.model.robotics.EventHistory;
-import uk.gov.hmcts.reform.civil.model.robotics.RoboticsCaseData;
-import uk.gov.hmcts.reform.civil.model.robotics.RoboticsCaseDataSpec;
+import uk.gov.hmcts.reform.civil.sendgrid.EmailAttachment;
 import uk.gov.hmcts.reform.civil.sendgrid.EmailData;
 import uk.gov.hmcts.reform.civil.sendgrid.SendGridClient;
-import uk.gov.hmcts.reform.civil.service.robotics.exception.RoboticsDataException;
 import uk.gov.hmcts.reform.civil.service.robotics.mapper.RoboticsDataMapper;
 import uk.gov.hmcts.reform.civil.service.robotics.mapper.RoboticsDataMapperForSpec;
 
@@ -24,6 +21,7 @@ import javax.validation.constraints.NotNull;
 import static java.util.List.of;
 import static java.util.Objects.requireNonNull;
 import static uk.gov.hmcts.reform.civil.enums.SuperClaimType.SPEC_CLAIM;
+import static uk.gov.hmcts.reform.civil.sendgrid.EmailAttachment.gzip;
 import static uk.gov.hmcts.reform.civil.sendgrid.EmailAttachment.json;
 
 @Slf4j
@@ -39,66 +37,52 @@ public class RoboticsNotificationService {
 
     public void notifyRobotics(@NotNull CaseData caseData, boolean multiPartyScenario) {
         requireNonNull(caseData);
+        RoboticsPayload payload = SPEC_CLAIM.equals(caseData.getSuperClaimType())
+            ? RoboticsPayload.of(roboticsDataMapperForSpec.toRoboticsCaseData(caseData))
+            : RoboticsPayload.of(roboticsDataMapper.toRoboticsCaseData(caseData));
+        notifyRobotics(caseData, multiPartyScenario, payload);
+    }
+
+    /**
+     * Sends a payload which has already been written, e.g. for schema validation, without mapping it again.
+     */
+    public void notifyRobotics(@NotNull CaseData caseData, boolean multiPartyScenario, RoboticsPayload payload) {
+        requireNonNull(caseData);
+        requireNonNull(payload);
         EmailData emailData = !multiPartyScenario
-            ? prepareEmailData(caseData) : prepareEmailDataMultiParty(caseData);
+            ? prepareEmailData(caseData, payload) : prepareEmailDataMultiParty(caseData, payload);
         sendGridClient.sendEmail(roboticsEmailConfiguration.getSender(), emailData);
     }
 
-    private EmailData prepareEmailData(CaseData caseData) {
-        RoboticsCaseData roboticsCaseData;
-        RoboticsCaseDataSpec roboticsCaseDataSpec;
-        byte[] roboticsJsonData;
-        try {
-            if (null != caseData.getSuperClaimType() && caseData.getSuperClaimType().equals(SPEC_CLAIM)) {
-                roboticsCaseDataSpec = roboticsDataMapperForSpec.toRoboticsCaseData(caseData);
-                roboticsJsonData = roboticsCaseDataSpec.toJsonString().getBytes();
-            } else {
-                roboticsCaseData = roboticsDataMapper.toRoboticsCaseData(caseData);
-                roboticsJsonData = roboticsCaseData.toJsonString().getBytes();
-            }
-
-            String fileName = String.format("CaseData_%s.json", caseData.getLegacyCaseReference());
-
-            return EmailData.builder()
-                .message(String.format("Robotics case data JSON is attached for %s", caseData.getLegacyCaseReference()))
-                .subject(String.format("Robotics case data for %s", caseData.getLegacyCaseReference()))
-                .to(roboticsEmailConfiguration.getRecipient())
-                .attachments(of(json(roboticsJsonData, fileName)))
-                .build();
-        } catch (JsonProcessingException e) {
-            throw new RoboticsDataException(e.getMessage(), e);
-        }
+    private EmailData prepareEmailData(CaseData caseData, RoboticsPayload payload) {
+        return EmailData.builder()
+            .message(String.format("Robotics case data JSON is attached for %s", caseData.getLegacyCaseReference()))
+            .subject(String.format("Robotics case data for %s", caseData.getLegacyCaseReference()))
+            .to(roboticsEmailConfiguration.getRecipient())
+            .attachments(of(toAttachment(caseData, payload)))
+            .build();
+    }
+
+    private EmailData prepareEmailDataMultiParty(CaseData caseData, RoboticsPayload payload) {
+        String triggerEvent = findLatestEventTriggerReason(payload.getEvents());
+
+        return EmailData.builder()
+            .message(String.format(
+                "Multiparty claim data for %s",
+                caseData.getLegacyCaseReference() + " - " + caseData.getCcdState()))
+            .subject(String.format("Multiparty claim data for %s", caseData.getLegacyCaseReference()
+                + " - " + caseData.getCcdState() + " - " + triggerEvent))
+            .to(roboticsEmailConfiguration.getMultipartyrecipient())
+            .attachments(of(toAttachment(caseData, payload)))
+            .build();
     }
 
-    private EmailData prepareEmailDataMultiParty(CaseData caseData) {
-
-        byte[] roboticsJsonData;
-        try {
-            String fileName = String.format("CaseData_%s.json", caseData.getLegacyCaseReference());
-            String triggerEvent;
-
-            if (SPEC_CLAIM.equals(caseData.getSuperClaimType())) {
-                RoboticsCaseDataSpec roboticsCaseData = roboticsDataMapperForSpec.toRoboticsCaseData(caseData);
-                triggerEvent = findLatestEventTriggerReason(roboticsCaseData.getEvents());
-                roboticsJsonData = roboticsCaseData.toJsonString().getBytes();
-            } else {
-                RoboticsCaseData roboticsCaseData = roboticsDataMapper.toRoboticsCaseData(caseData);
-                triggerEvent = findLatestEventTriggerReason(roboticsCaseData.getEvents());
-                roboticsJsonData = roboticsCaseData.toJsonString().getBytes();
-            }
-
-            return EmailData.builder()
-                .message(String.format(
-                    "Multiparty claim data for %s",
-                    caseData.getLegacyCaseReference() + " - " + caseData.getCcdState()))
-                .subject(String.format("Multiparty claim data for %s", caseData.getLegacyCaseReference()
-                    + " - " + caseData.getCcdState() + " - " + triggerEvent))
-                .to(roboticsEmailConfiguration.getMultipartyrecipient())
-                .attachments(of(json(roboticsJsonData, fileName)))
-                .build();
-        } catch (JsonProcessingException e) {
-            throw new RoboticsDataException(e.getMessage(), e);
+    private EmailAttachment toAttachment(CaseData caseData, RoboticsPayload payload) {
+        String fileName = String.format("CaseData_%s.json", caseData.getLegacyCaseReference());
+        if (roboticsEmailConfiguration.isGzipAttachment()) {
+            return gzip(payload.gzip(), fileName + ".gz");
         }
+        return json(payload, fileName);
     }
 
     public static String findLatestEventTriggerReason(EventHistory eventHistory) {
@@ -0,0 +1,100 @@
+package uk.gov.hmcts.reform.civil.service.robotics;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.core.io.InputStreamSource;
+import uk.gov.hmcts.reform.civil.model.robotics.EventHistory;
+import uk.gov.hmcts.reform.civil.model.robotics.RoboticsCaseData;
+import uk.gov.hmcts.reform.civil.model.robotics.RoboticsCaseDataSpec;
+import uk.gov.hmcts.reform.civil.model.robotics.ToJsonString;
+import uk.gov.hmcts.reform.civil.service.robotics.exception.RoboticsDataException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Robotics case data written out as JSON exactly once. The buffer is read in place, so schema
+ * validation and the email attachment share it instead of each holding their own copy.
+ */
+public final class RoboticsPayload implements InputStreamSource {
+
+    // configured as ToJsonString#toJsonString, so the payload is byte for byte what was sent before
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().registerModule(new JavaTimeModule());
+    private static final int INITIAL_BUFFER_SIZE = 16 * 1024;
+
+    private final Buffer buffer;
+    private final EventHistory events;
+    private final boolean gzipped;
+
+    private RoboticsPayload(Buffer buffer, EventHistory events, boolean gzipped) {
+        this.buffer = buffer;
+        this.events = events;
+        this.gzipped = gzipped;
+    }
+
+    public static RoboticsPayload of(RoboticsCaseData roboticsCaseData) {
+        return new RoboticsPayload(write(roboticsCaseData), roboticsCaseData.getEvents(), false);
+    }
+
+    public static RoboticsPayload of(RoboticsCaseDataSpec roboticsCaseData) {
+        return new RoboticsPayload(write(roboticsCaseData), roboticsCaseData.getEvents(), false);
+    }
+
+    private static Buffer write(ToJsonString roboticsCaseData) {
+        Buffer buffer = new Buffer(INITIAL_BUFFER_SIZE);
+        try (JsonGenerator generator = OBJECT_MAPPER.getFactory().createGenerator(buffer)) {
+            OBJECT_MAPPER.writeValue(generator, roboticsCaseData);
+        } catch (IOException e) {
+            throw new RoboticsDataException(e.getMessage(), e);
+        }
+        return buffer;
+    }
+
+    /**
+     * Returns the payload compressed with gzip; the uncompressed buffer is left untouched.
+     */
+    public RoboticsPayload gzip() {
+        if (gzipped) {
+            return this;
+        }
+        Buffer compressed = new Buffer(Math.max(buffer.size() / 4, 512));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            buffer.writeTo(gzip);
+        } catch (IOException e) {
+            throw new RoboticsDataException(e.getMessage(), e);
+        }
+        return new RoboticsPayload(compressed, events, true);
+    }
+
+    @Override
+    public InputStream getInputStream() {
+        return buffer.getInputStream();
+    }
+
+    public int size() {
+        return buffer.size();
+    }
+
+    public boolean isGzipped() {
+        return gzipped;
+    }
+
+    public EventHistory getEvents() {
+        return events;
+    }
+
+    private static final class Buffer extends ByteArrayOutputStream {
+
+        Buffer(int size) {
+            super(size);
+        }
+
+        synchronized InputStream getInputStream() {
+            return new ByteArrayInputStream(buf, 0, count);
+        }
+    }
+}
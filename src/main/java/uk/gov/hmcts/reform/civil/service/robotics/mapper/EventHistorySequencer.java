@@ -19,6 +19,10 @@ import static org.springframework.util.CollectionUtils.isEmpty;
 @Component
 public class EventHistorySequencer {
 
+    /**
+     * Numbers the events in order of receipt. The sort is stable and events are flattened in a fixed order,
+     * so the same case always gets the same numbering and events received later are numbered after it.
+     */
     public EventHistory sortEvents(EventHistory eventHistory) {
         requireNonNull(eventHistory);
         List<Event> events = flatEvents(eventHistory);
@@ -26,6 +30,26 @@ public class EventHistorySequencer {
         return prepareEventHistory(prepareSequenceId(events));
     }
 
+    /**
+     * Returns the events of an already sequenced history in sequence order.
+     */
+    public List<Event> sequencedEvents(EventHistory eventHistory) {
+        requireNonNull(eventHistory);
+        List<Event> events = flatEvents(eventHistory);
+        events.removeIf(event -> event.getEventSequence() == null);
+        events.sort(Comparator.comparing(Event::getEventSequence));
+        return events;
+    }
+
+    /**
+     * Returns a history of the events sequenced after the given sequence number, keeping their numbers.
+     */
+    public EventHistory eventsAfter(EventHistory eventHistory, int sequence) {
+        return prepareEventHistory(sequencedEvents(eventHistory).stream()
+                                       .filter(event -> event.getEventSequence() > sequence)
+                                       .collect(Collectors.toList()));
+    }
+
     private EventHistory prepareEventHistory(List<Event> events) {
         EventHistory.EventHistoryBuilder builder = EventHistory.builder();
         events.forEach(event -> {
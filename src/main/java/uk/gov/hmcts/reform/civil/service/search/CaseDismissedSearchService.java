@@ -1,6 +1,7 @@
 package uk.gov.hmcts.reform.civil.service.search;
 
 import org.elasticsearch.index.query.BoolQueryBuilder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.reform.civil.enums.CaseState;
 import uk.gov.hmcts.reform.civil.model.search.Query;
@@ -18,8 +19,10 @@ import static uk.gov.hmcts.reform.civil.enums.CaseState.CASE_ISSUED;
 @Service
 public class CaseDismissedSearchService extends ElasticSearchService {
 
-    public CaseDismissedSearchService(CoreCaseDataService coreCaseDataService) {
-        super(coreCaseDataService);
+    public CaseDismissedSearchService(CoreCaseDataService coreCaseDataService,
+                                      @Value("${search.case-dismissed.page-size:100}") int pageSize,
+                                      @Value("${search.case-dismissed.concurrent-pages:4}") int concurrentPages) {
+        super(coreCaseDataService, pageSize, concurrentPages);
     }
 
     public Query query(int startIndex) {
@@ -1,5 +1,6 @@
 package uk.gov.hmcts.reform.civil.service.search;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.reform.civil.model.search.Query;
 import uk.gov.hmcts.reform.civil.service.CoreCaseDataService;
@@ -12,14 +13,17 @@ import static org.elasticsearch.index.query.QueryBuilders.matchQuery;
 @Service
 public class CaseReadyBusinessProcessSearchService extends ElasticSearchService {
 
-    public CaseReadyBusinessProcessSearchService(CoreCaseDataService coreCaseDataService) {
-        super(coreCaseDataService);
+    public CaseReadyBusinessProcessSearchService(
+        CoreCaseDataService coreCaseDataService,
+        @Value("${search.case-ready-business-process.page-size:100}") int pageSize,
+        @Value("${search.case-ready-business-process.concurrent-pages:4}") int concurrentPages) {
+        super(coreCaseDataService, pageSize, concurrentPages);
     }
 
     public Query query(int startIndex) {
         return new Query(
             boolQuery().must(matchQuery("data.businessProcess.status", "READY")),
-            List.of(),
+            List.of("reference", "data.businessProcess"),
             startIndex
         );
     }
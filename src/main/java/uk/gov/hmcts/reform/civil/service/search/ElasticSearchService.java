@@ -1,6 +1,6 @@
 package uk.gov.hmcts.reform.civil.service.search;
 
-import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
 import uk.gov.hmcts.reform.ccd.client.model.SearchResult;
 import uk.gov.hmcts.reform.civil.model.search.Query;
@@ -9,33 +9,115 @@ import uk.gov.hmcts.reform.civil.service.CoreCaseDataService;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import javax.annotation.PreDestroy;
 
 import static java.math.RoundingMode.UP;
 
-@RequiredArgsConstructor
 public abstract class ElasticSearchService {
 
     private final CoreCaseDataService coreCaseDataService;
+    private final int pageSize;
+    private final ThreadPoolExecutor executor;
 
     private static final int START_INDEX = 0;
-    private static final int ES_DEFAULT_SEARCH_LIMIT = 10;
 
+    protected ElasticSearchService(CoreCaseDataService coreCaseDataService, int pageSize, int concurrentPages) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("Page size cannot be less than 1");
+        }
+        this.coreCaseDataService = coreCaseDataService;
+        this.pageSize = pageSize;
+        int workers = Math.max(1, concurrentPages);
+        this.executor = new ThreadPoolExecutor(
+            workers,
+            workers,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(workers),
+            new CustomizableThreadFactory(getClass().getSimpleName() + "-"),
+            new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * Returns all matching cases. The first page gives the total, after which the remaining pages are searched
+     * concurrently by the service's bounded pool of threads. Cases are returned in page order.
+     *
+     * @return the matching cases.
+     */
     public List<CaseDetails> getCases() {
-        SearchResult searchResult = coreCaseDataService.searchCases(query(START_INDEX));
+        SearchResult searchResult = searchPage(START_INDEX);
         int pages = calculatePages(searchResult);
         List<CaseDetails> caseDetails = new ArrayList<>(searchResult.getCases());
 
-        for (int i = 1; i < pages; i++) {
-            SearchResult result = coreCaseDataService.searchCases(query(i * ES_DEFAULT_SEARCH_LIMIT));
-            caseDetails.addAll(result.getCases());
+        if (pages > 1) {
+            caseDetails.addAll(searchRemainingPages(pages));
         }
 
         return caseDetails;
     }
 
+    /**
+     * Streams the matching cases in order of case reference. Pages are requested with search_after as the stream
+     * is consumed, so no more than one page of cases is held at a time.
+     *
+     * @return the matching cases.
+     */
+    public Stream<CaseDetails> streamCases() {
+        return Stream.iterate(
+            searchPageAfter(null),
+            page -> !page.isEmpty(),
+            page -> page.size() < pageSize ? List.of() : searchPageAfter(page.get(page.size() - 1).getId())
+        ).flatMap(List::stream);
+    }
+
     abstract Query query(int startIndex);
 
+    private List<CaseDetails> searchRemainingPages(int pages) {
+        List<CompletableFuture<List<CaseDetails>>> results = IntStream.range(1, pages)
+            .mapToObj(page -> CompletableFuture.supplyAsync(
+                () -> searchPage(page * pageSize).getCases(),
+                executor
+            ))
+            .collect(Collectors.toList());
+
+        try {
+            return results.stream()
+                .map(CompletableFuture::join)
+                .flatMap(List::stream)
+                .collect(Collectors.toList());
+        } catch (CompletionException e) {
+            // pages still queued are not searched once one has failed
+            results.forEach(result -> result.cancel(false));
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private SearchResult searchPage(int startIndex) {
+        return coreCaseDataService.searchCases(query(startIndex).withSize(pageSize));
+    }
+
+    private List<CaseDetails> searchPageAfter(Long reference) {
+        return coreCaseDataService.searchCases(query(START_INDEX).searchAfter(reference, pageSize)).getCases();
+    }
+
     private int calculatePages(SearchResult searchResult) {
-        return new BigDecimal(searchResult.getTotal()).divide(new BigDecimal(ES_DEFAULT_SEARCH_LIMIT), UP).intValue();
+        return new BigDecimal(searchResult.getTotal()).divide(new BigDecimal(pageSize), UP).intValue();
     }
 }
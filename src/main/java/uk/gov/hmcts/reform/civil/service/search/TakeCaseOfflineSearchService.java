@@ -1,6 +1,7 @@
 package uk.gov.hmcts.reform.civil.service.search;
 
 import org.elasticsearch.index.query.QueryBuilder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.reform.civil.model.search.Query;
 import uk.gov.hmcts.reform.civil.service.CoreCaseDataService;
@@ -14,8 +15,10 @@ import static org.elasticsearch.index.query.QueryBuilders.rangeQuery;
 @Service
 public class TakeCaseOfflineSearchService extends ElasticSearchService {
 
-    public TakeCaseOfflineSearchService(CoreCaseDataService coreCaseDataService) {
-        super(coreCaseDataService);
+    public TakeCaseOfflineSearchService(CoreCaseDataService coreCaseDataService,
+                                        @Value("${search.take-case-offline.page-size:100}") int pageSize,
+                                        @Value("${search.take-case-offline.concurrent-pages:4}") int concurrentPages) {
+        super(coreCaseDataService, pageSize, concurrentPages);
     }
 
     public Query query(int startIndex) {
@@ -12,8 +12,9 @@ public class CaseDismissedExternalTaskListener {
     private static final String TOPIC = "CASE_DISMISSED";
 
     @Autowired
-    private CaseDismissedExternalTaskListener(ClaimDismissedHandler claimDismissedHandler, ExternalTaskClient client) {
+    private CaseDismissedExternalTaskListener(ClaimDismissedHandler claimDismissedHandler, ExternalTaskClient client,
+                                              ExternalTaskWorkerPool workerPool) {
         TopicSubscriptionBuilder subscriptionBuilder = client.subscribe(TOPIC);
-        subscriptionBuilder.handler(claimDismissedHandler).open();
+        subscriptionBuilder.handler(workerPool.handler(TOPIC, claimDismissedHandler)).open();
     }
 }
@@ -12,8 +12,9 @@ public class CaseEventExternalTaskListener {
     private static final String TOPIC = "processCaseEvent";
 
     @Autowired
-    private CaseEventExternalTaskListener(CaseEventTaskHandler caseEventTaskHandler, ExternalTaskClient client) {
+    private CaseEventExternalTaskListener(CaseEventTaskHandler caseEventTaskHandler, ExternalTaskClient client,
+                                          ExternalTaskWorkerPool workerPool) {
         TopicSubscriptionBuilder subscriptionBuilder = client.subscribe(TOPIC);
-        subscriptionBuilder.handler(caseEventTaskHandler).open();
+        subscriptionBuilder.handler(workerPool.handler(TOPIC, caseEventTaskHandler)).open();
     }
 }
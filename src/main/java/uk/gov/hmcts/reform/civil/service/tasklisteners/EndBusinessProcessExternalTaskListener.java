@@ -12,8 +12,9 @@ public class EndBusinessProcessExternalTaskListener {
     private static final String TOPIC = "END_BUSINESS_PROCESS";
 
     @Autowired
-    private EndBusinessProcessExternalTaskListener(EndBusinessProcessTaskHandler handler, ExternalTaskClient client) {
+    private EndBusinessProcessExternalTaskListener(EndBusinessProcessTaskHandler handler, ExternalTaskClient client,
+                                                   ExternalTaskWorkerPool workerPool) {
         TopicSubscriptionBuilder subscriptionBuilder = client.subscribe(TOPIC);
-        subscriptionBuilder.handler(handler).open();
+        subscriptionBuilder.handler(workerPool.handler(TOPIC, handler)).open();
     }
 }
@@ -0,0 +1,84 @@
+package uk.gov.hmcts.reform.civil.service.tasklisteners;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.camunda.bpm.client.task.ExternalTaskHandler;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.civil.config.properties.tasks.ExternalTaskWorkersConfiguration;
+import uk.gov.hmcts.reform.civil.launchdarkly.FeatureFlags;
+import uk.gov.hmcts.reform.civil.launchdarkly.FeatureToggleService;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.PreDestroy;
+
+/**
+ * Runs the tasks fetched for a topic on a pool of workers, sized per topic by {@link ExternalTaskWorkersConfiguration}.
+ * Once every worker is busy and as many tasks are queued, the fetching thread executes the next task itself, so no
+ * more tasks are fetched and locked than can be worked on. Each task sees one snapshot of the feature flags.
+ */
+@Component
+@RequiredArgsConstructor
+public class ExternalTaskWorkerPool {
+
+    static final String IN_FLIGHT_METRIC = "civil.external.tasks.in.flight";
+    static final String QUEUE_WAIT_METRIC = "civil.external.tasks.queue.wait";
+
+    private final ExternalTaskWorkersConfiguration workersConfiguration;
+    private final MeterRegistry meterRegistry;
+    private final FeatureToggleService featureToggleService;
+    private final List<ExecutorService> executors = new CopyOnWriteArrayList<>();
+
+    public ExternalTaskHandler handler(String topic, ExternalTaskHandler handler) {
+        AtomicInteger inFlight = meterRegistry.gauge(IN_FLIGHT_METRIC, Tags.of("topic", topic), new AtomicInteger());
+        Timer queueWait = Timer.builder(QUEUE_WAIT_METRIC)
+            .description("Time fetched external tasks wait for a worker")
+            .tag("topic", topic)
+            .register(meterRegistry);
+        Executor executor = executor(topic, workersConfiguration.getWorkers(topic));
+
+        return (externalTask, externalTaskService) -> {
+            long fetched = System.nanoTime();
+            executor.execute(() -> {
+                queueWait.record(System.nanoTime() - fetched, TimeUnit.NANOSECONDS);
+                inFlight.incrementAndGet();
+                try (FeatureFlags flags = featureToggleService.openSnapshot()) {
+                    handler.execute(externalTask, externalTaskService);
+                } finally {
+                    inFlight.decrementAndGet();
+                }
+            });
+        };
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executors.forEach(ExecutorService::shutdown);
+    }
+
+    private Executor executor(String topic, int workers) {
+        if (workers == 1) {
+            return Runnable::run;
+        }
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+            workers,
+            workers,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(workers),
+            new CustomizableThreadFactory(topic + "-worker-"),
+            new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+        executors.add(executor);
+        return executor;
+    }
+}
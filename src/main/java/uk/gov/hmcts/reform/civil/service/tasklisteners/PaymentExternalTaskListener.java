@@ -12,8 +12,9 @@ public class PaymentExternalTaskListener {
     private static final String TOPIC = "processPayment";
 
     @Autowired
-    private PaymentExternalTaskListener(PaymentTaskHandler paymentTaskHandler, ExternalTaskClient client) {
+    private PaymentExternalTaskListener(PaymentTaskHandler paymentTaskHandler, ExternalTaskClient client,
+                                        ExternalTaskWorkerPool workerPool) {
         TopicSubscriptionBuilder subscriptionBuilder = client.subscribe(TOPIC);
-        subscriptionBuilder.handler(paymentTaskHandler).open();
+        subscriptionBuilder.handler(workerPool.handler(TOPIC, paymentTaskHandler)).open();
     }
 }
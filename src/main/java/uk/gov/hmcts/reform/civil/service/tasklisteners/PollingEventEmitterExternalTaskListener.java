@@ -15,8 +15,9 @@ public class PollingEventEmitterExternalTaskListener {
 
     @Autowired
     private PollingEventEmitterExternalTaskListener(PollingEventEmitterHandler pollingEventEmitterHandler,
-                                                    ExternalTaskClient client) {
+                                                    ExternalTaskClient client,
+                                                    ExternalTaskWorkerPool workerPool) {
         TopicSubscriptionBuilder subscriptionBuilder = client.subscribe(TOPIC);
-        subscriptionBuilder.handler(pollingEventEmitterHandler).open();
+        subscriptionBuilder.handler(workerPool.handler(TOPIC, pollingEventEmitterHandler)).open();
     }
 }
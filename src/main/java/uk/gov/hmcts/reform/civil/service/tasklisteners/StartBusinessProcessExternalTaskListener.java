@@ -13,8 +13,9 @@ public class StartBusinessProcessExternalTaskListener {
 
     @Autowired
     private StartBusinessProcessExternalTaskListener(StartBusinessProcessTaskHandler startBusinessProcessTaskHandler,
-                                                     ExternalTaskClient client) {
+                                                     ExternalTaskClient client,
+                                                     ExternalTaskWorkerPool workerPool) {
         TopicSubscriptionBuilder subscriptionBuilder = client.subscribe(TOPIC);
-        subscriptionBuilder.handler(startBusinessProcessTaskHandler).open();
+        subscriptionBuilder.handler(workerPool.handler(TOPIC, startBusinessProcessTaskHandler)).open();
     }
 }
@@ -15,8 +15,11 @@ public class StartGeneralApplicationBusinessProcessExternalTaskListener {
     @Autowired
     private StartGeneralApplicationBusinessProcessExternalTaskListener(
             StartGeneralApplicationBusinessProcessTaskHandler startGeneralApplicationBusinessProcessTaskHandler,
-            ExternalTaskClient client) {
+            ExternalTaskClient client,
+            ExternalTaskWorkerPool workerPool) {
         TopicSubscriptionBuilder subscriptionBuilder = client.subscribe(TOPIC);
-        subscriptionBuilder.handler(startGeneralApplicationBusinessProcessTaskHandler).open();
+        subscriptionBuilder
+            .handler(workerPool.handler(TOPIC, startGeneralApplicationBusinessProcessTaskHandler))
+            .open();
     }
 }
@@ -12,8 +12,9 @@ public class TakeCaseOfflineExternalTaskListener {
     private static final String TOPIC = "TAKE_CASE_OFFLINE";
 
     @Autowired
-    private TakeCaseOfflineExternalTaskListener(TakeCaseOfflineHandler handler, ExternalTaskClient client) {
+    private TakeCaseOfflineExternalTaskListener(TakeCaseOfflineHandler handler, ExternalTaskClient client,
+                                                ExternalTaskWorkerPool workerPool) {
         TopicSubscriptionBuilder subscriptionBuilder = client.subscribe(TOPIC);
-        subscriptionBuilder.handler(handler).open();
+        subscriptionBuilder.handler(workerPool.handler(TOPIC, handler)).open();
     }
 }
@@ -0,0 +1,181 @@
+package uk.gov.hmcts.reform.civil.stateflow;
+
+import lombok.extern.slf4j.Slf4j;
+import uk.gov.hmcts.reform.civil.model.CaseData;
+import uk.gov.hmcts.reform.civil.stateflow.exception.StateFlowException;
+import uk.gov.hmcts.reform.civil.stateflow.model.State;
+import uk.gov.hmcts.reform.civil.stateflow.model.Transition;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable transition table compiled from a StateFlow definition.
+ * A CompiledStateFlow is built once and can then evaluate any number of cases, concurrently,
+ * without creating a state machine per evaluation. Evaluation follows the same rules as the
+ * state machine backed StateFlow:
+ * - transitions are tried in the order in which they were defined
+ * - a transition without a condition is always permitted
+ * - when more than one transition is permitted from a state the flow is marked as being in error
+ * and the last permitted transition is taken
+ */
+@Slf4j
+public class CompiledStateFlow {
+
+    private final String[] states;
+
+    private final CompiledTransition[][] transitions;
+
+    CompiledStateFlow(StateFlowContext stateFlowContext) {
+        List<String> definedStates = stateFlowContext.getStates().stream()
+            .distinct()
+            .collect(Collectors.toList());
+        if (definedStates.isEmpty()) {
+            throw new StateFlowException("Failed to compile StateFlow, no initial state has been defined.");
+        }
+
+        Map<String, Integer> stateIndex = new HashMap<>();
+        for (int i = 0; i < definedStates.size(); i++) {
+            stateIndex.put(definedStates.get(i), i);
+        }
+
+        List<List<CompiledTransition>> transitionsBySource = new ArrayList<>();
+        definedStates.forEach(state -> transitionsBySource.add(new ArrayList<>()));
+        for (Transition transition : stateFlowContext.getTransitions()) {
+            Integer source = stateIndex.get(transition.getSourceState());
+            Integer target = stateIndex.get(transition.getTargetState());
+            if (source == null || target == null) {
+                throw new StateFlowException(String.format(
+                    "Failed to compile StateFlow, transition [%s -> %s] refers to an undefined state.",
+                    transition.getSourceState(), transition.getTargetState()
+                ));
+            }
+            transitionsBySource.get(source)
+                .add(new CompiledTransition(target, transition.getCondition(), transition.getFlags()));
+        }
+
+        this.states = definedStates.toArray(new String[0]);
+        this.transitions = transitionsBySource.stream()
+            .map(list -> list.toArray(new CompiledTransition[0]))
+            .toArray(CompiledTransition[][]::new);
+    }
+
+    public StateFlowEvaluation evaluate(CaseData caseData) {
+        List<String> history = new ArrayList<>();
+        Map<String, Boolean> flags = new HashMap<>();
+        boolean error = false;
+
+        int current = 0;
+        history.add(states[current]);
+        while (true) {
+            CompiledTransition next = null;
+            List<String> permittedStates = null;
+            for (CompiledTransition transition : transitions[current]) {
+                if (!transition.isPermitted(caseData)) {
+                    continue;
+                }
+                if (next != null) {
+                    if (permittedStates == null) {
+                        permittedStates = new ArrayList<>();
+                        permittedStates.add(states[next.target]);
+                    }
+                    permittedStates.add(states[transition.target]);
+                }
+                next = transition;
+            }
+
+            if (permittedStates != null) {
+                log.error(
+                    "Ambiguous transitions permitting state [{}] to move to more than one next states [{}].",
+                    states[current], String.join(",", permittedStates)
+                );
+                error = true;
+            }
+            if (next == null) {
+                break;
+            }
+            if (history.size() >= states.length) {
+                throw new StateFlowException(String.format(
+                    "Cyclic transitions detected while evaluating StateFlow, last state [%s].", states[current]
+                ));
+            }
+
+            next.applyFlags(flags);
+            current = next.target;
+            history.add(states[current]);
+        }
+
+        return new Evaluation(states[current], history, flags, error);
+    }
+
+    private static class CompiledTransition {
+
+        private final int target;
+
+        private final Predicate<CaseData> condition;
+
+        private final Consumer<Map<String, Boolean>> flags;
+
+        CompiledTransition(int target, Predicate<CaseData> condition, Consumer<Map<String, Boolean>> flags) {
+            this.target = target;
+            this.condition = condition;
+            this.flags = flags;
+        }
+
+        boolean isPermitted(CaseData caseData) {
+            return condition == null || condition.test(caseData);
+        }
+
+        void applyFlags(Map<String, Boolean> flagsToSet) {
+            if (flags != null) {
+                flags.accept(flagsToSet);
+            }
+        }
+    }
+
+    /**
+     * The outcome of a single evaluation of a CompiledStateFlow.
+     */
+    private static class Evaluation implements StateFlowEvaluation {
+
+        private final String state;
+
+        private final List<String> stateHistory;
+
+        private final Map<String, Boolean> flags;
+
+        private final boolean error;
+
+        Evaluation(String state, List<String> stateHistory, Map<String, Boolean> flags, boolean error) {
+            this.state = state;
+            this.stateHistory = stateHistory;
+            this.flags = flags;
+            this.error = error;
+        }
+
+        @Override
+        public State getState() {
+            if (error) {
+                throw new StateFlowException("The state machine is at error state.");
+            }
+            return State.from(state);
+        }
+
+        @Override
+        public List<State> getStateHistory() {
+            return stateHistory.stream()
+                .map(State::from)
+                .collect(Collectors.toList());
+        }
+
+        @Override
+        public Map<String, Boolean> getFlags() {
+            return flags;
+        }
+    }
+}
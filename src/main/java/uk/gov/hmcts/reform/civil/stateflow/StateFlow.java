@@ -2,7 +2,6 @@ package uk.gov.hmcts.reform.civil.stateflow;
 
 import org.springframework.statemachine.StateMachine;
 import uk.gov.hmcts.reform.civil.model.CaseData;
-import uk.gov.hmcts.reform.civil.service.flowstate.FlowFlag;
 import uk.gov.hmcts.reform.civil.stateflow.exception.StateFlowException;
 import uk.gov.hmcts.reform.civil.stateflow.model.State;
 
@@ -10,14 +9,13 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.stream.Collectors;
 
 import static uk.gov.hmcts.reform.civil.stateflow.StateFlowContext.EXTENDED_STATE_CASE_KEY;
 import static uk.gov.hmcts.reform.civil.stateflow.StateFlowContext.EXTENDED_STATE_FLAGS_KEY;
 import static uk.gov.hmcts.reform.civil.stateflow.StateFlowContext.EXTENDED_STATE_HISTORY_KEY;
 
-public class StateFlow {
+public class StateFlow implements StateFlowEvaluation {
 
     private StateMachine<String, String> stateMachine;
 
@@ -37,6 +35,7 @@ public class StateFlow {
         return this;
     }
 
+    @Override
     public State getState() {
         if (stateMachine.hasStateMachineError()) {
             throw new StateFlowException("The state machine is at error state.");
@@ -44,18 +43,16 @@ public class StateFlow {
         return State.from(stateMachine.getState().getId());
     }
 
+    @Override
     @SuppressWarnings("unchecked")
     public List<State> getStateHistory() {
         List<String> historyList = stateMachine.getExtendedState().get(EXTENDED_STATE_HISTORY_KEY, ArrayList.class);
         return historyList.stream().map(State::from).collect(Collectors.toList());
     }
 
+    @Override
     @SuppressWarnings("unchecked")
     public Map<String, Boolean> getFlags() {
         return stateMachine.getExtendedState().get(EXTENDED_STATE_FLAGS_KEY, Map.class);
     }
-
-    public boolean isFlagSet(FlowFlag flowFlag) {
-        return Optional.ofNullable(getFlags().get(flowFlag.name())).orElse(false);
-    }
 }
@@ -38,6 +38,8 @@ import static uk.gov.hmcts.reform.civil.stateflow.StateFlowContext.EXTENDED_STAT
  * Once created a StateFlow can:
  * - evaluate the current state of a Case
  * - return the internal state engine for further processing
+ * The same definition can instead be compiled into a CompiledStateFlow, which can be reused
+ * to evaluate any number of cases.
  */
 public class StateFlowBuilder<S> {
 
@@ -237,6 +239,11 @@ public class StateFlowBuilder<S> {
             return new StateFlow(stateMachine);
         }
 
+        @Override
+        public CompiledStateFlow compile() {
+            return new CompiledStateFlow(stateFlowContext);
+        }
+
         private String fullyQualified(S state) {
             return String.format("%s.%s", flowName, state.toString());
         }
@@ -0,0 +1,25 @@
+package uk.gov.hmcts.reform.civil.stateflow;
+
+import uk.gov.hmcts.reform.civil.service.flowstate.FlowFlag;
+import uk.gov.hmcts.reform.civil.stateflow.model.State;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Read-only outcome of evaluating a case against a state flow, whether by a state machine backed
+ * StateFlow or by a CompiledStateFlow.
+ */
+public interface StateFlowEvaluation {
+
+    State getState();
+
+    List<State> getStateHistory();
+
+    Map<String, Boolean> getFlags();
+
+    default boolean isFlagSet(FlowFlag flowFlag) {
+        return Optional.ofNullable(getFlags().get(flowFlag.name())).orElse(false);
+    }
+}
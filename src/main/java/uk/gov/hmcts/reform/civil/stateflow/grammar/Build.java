@@ -1,5 +1,6 @@
 package uk.gov.hmcts.reform.civil.stateflow.grammar;
 
+import uk.gov.hmcts.reform.civil.stateflow.CompiledStateFlow;
 import uk.gov.hmcts.reform.civil.stateflow.StateFlow;
 
 /**
@@ -8,4 +9,6 @@ import uk.gov.hmcts.reform.civil.stateflow.StateFlow;
 public interface Build {
 
     StateFlow build();
+
+    CompiledStateFlow compile();
 }
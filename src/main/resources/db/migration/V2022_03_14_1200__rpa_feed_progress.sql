@@ -0,0 +1,10 @@
+/**
+ * Last event of each case's history sent on the RPA continuous feed, together with a digest of the
+ * events up to and including it, so that only newer events need to be sent next time.
+ */
+CREATE TABLE rpa_feed_progress (
+  case_reference BIGINT PRIMARY KEY,
+  last_sequence INTEGER NOT NULL,
+  events_digest TEXT NOT NULL,
+  updated_at TIMESTAMP NOT NULL DEFAULT now()
+);
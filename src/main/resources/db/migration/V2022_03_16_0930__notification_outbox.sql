@@ -0,0 +1,20 @@
+/**
+ * GOV.UK Notify emails queued by callbacks and sent in the background.
+ */
+CREATE TABLE notification_outbox (
+  id BIGSERIAL PRIMARY KEY,
+  reference TEXT,
+  target_email TEXT NOT NULL,
+  template_id TEXT NOT NULL,
+  parameters TEXT NOT NULL,
+  status TEXT NOT NULL DEFAULT 'PENDING',
+  attempts INTEGER NOT NULL DEFAULT 0,
+  next_attempt_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+  created_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+  sent_at TIMESTAMPTZ,
+  last_error TEXT
+);
+
+CREATE INDEX notification_outbox_pending ON notification_outbox (next_attempt_at) WHERE status = 'PENDING';
+CREATE INDEX notification_outbox_reference ON notification_outbox (reference, target_email, template_id);
+CREATE INDEX notification_outbox_sent ON notification_outbox (sent_at) WHERE status = 'SENT';
@@ -0,0 +1,12 @@
+/**
+ * Documents already rendered and uploaded, by a hash of their template and template data, so that retried
+ * document generation events reuse them.
+ */
+CREATE TABLE rendered_document (
+  cache_key TEXT PRIMARY KEY,
+  template TEXT NOT NULL,
+  document TEXT NOT NULL,
+  created_at TIMESTAMPTZ NOT NULL DEFAULT now()
+);
+
+CREATE INDEX rendered_document_created_at ON rendered_document (created_at);
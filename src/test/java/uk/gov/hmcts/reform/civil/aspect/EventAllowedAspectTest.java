@@ -1,7 +1,12 @@
 package uk.gov.hmcts.reform.civil.aspect;
 
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import lombok.SneakyThrows;
 import org.aspectj.lang.ProceedingJoinPoint;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -10,14 +15,19 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 import uk.gov.hmcts.reform.ccd.client.model.AboutToStartOrSubmitCallbackResponse;
 import uk.gov.hmcts.reform.ccd.client.model.CallbackRequest;
 import uk.gov.hmcts.reform.civil.callback.CallbackParams;
 import uk.gov.hmcts.reform.civil.callback.CallbackType;
 import uk.gov.hmcts.reform.civil.helpers.CaseDetailsConverter;
 import uk.gov.hmcts.reform.civil.launchdarkly.FeatureToggleService;
+import uk.gov.hmcts.reform.civil.model.CaseData;
 import uk.gov.hmcts.reform.civil.sampledata.CallbackParamsBuilder;
+import uk.gov.hmcts.reform.civil.sampledata.CaseDataBuilder;
 import uk.gov.hmcts.reform.civil.sampledata.CaseDetailsBuilder;
 import uk.gov.hmcts.reform.civil.service.flowstate.FlowStateAllowedEventService;
 import uk.gov.hmcts.reform.civil.service.flowstate.StateFlowEngine;
@@ -43,14 +53,32 @@ class EventAllowedAspectTest {
 
     private static final String ERROR_MESSAGE = "This action cannot currently be performed because it has either "
         + "already been completed or another action must be completed first.";
+    private static final SimpleMeterRegistry METER_REGISTRY = new SimpleMeterRegistry();
 
     @Autowired
     EventAllowedAspect eventAllowedAspect;
+    @Autowired
+    StateFlowEngine stateFlowEngine;
     @MockBean
     ProceedingJoinPoint proceedingJoinPoint;
     @MockBean
     FeatureToggleService featureToggleService;
 
+    @BeforeAll
+    static void registerMeterRegistry() {
+        Metrics.addRegistry(METER_REGISTRY);
+    }
+
+    @AfterAll
+    static void removeMeterRegistry() {
+        Metrics.removeRegistry(METER_REGISTRY);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
     @ParameterizedTest
     @EnumSource(value = CallbackType.class, mode = EnumSource.Mode.EXCLUDE, names = {"ABOUT_TO_START"})
     @SneakyThrows
@@ -106,4 +134,36 @@ class EventAllowedAspectTest {
         assertThat(result).isEqualTo(response);
         verify(proceedingJoinPoint).proceed();
     }
+
+    @Test
+    @SneakyThrows
+    void shouldShareStateFlowEvaluationWithHandler_withinRequest() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        CaseData caseData = CaseDataBuilder.builder().atStateRespondentFullDefence().build();
+        CallbackParams callbackParams = CallbackParams.builder()
+            .type(ABOUT_TO_START)
+            .request(CallbackRequest.builder()
+                         .eventId(CLAIMANT_RESPONSE.name())
+                         .caseDetails(CaseDetailsBuilder.builder().data(caseData).build())
+                         .build())
+            .caseData(caseData)
+            .build();
+        when(proceedingJoinPoint.proceed()).thenAnswer(invocation -> {
+            stateFlowEngine.evaluate(callbackParams.getCaseData());
+            stateFlowEngine.evaluate(callbackParams.getCaseData());
+            return AboutToStartOrSubmitCallbackResponse.builder().build();
+        });
+        double misses = evaluations("miss");
+        double hits = evaluations("hit");
+
+        eventAllowedAspect.checkEventAllowed(proceedingJoinPoint, callbackParams);
+
+        verify(proceedingJoinPoint).proceed();
+        assertThat(evaluations("miss")).isEqualTo(misses + 1);
+        assertThat(evaluations("hit")).isEqualTo(hits + 2);
+    }
+
+    private double evaluations(String result) {
+        return Metrics.counter("civil.stateflow.evaluations", "cache", result).count();
+    }
 }
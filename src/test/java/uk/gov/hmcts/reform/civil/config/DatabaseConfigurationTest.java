@@ -1,26 +1,47 @@
 package uk.gov.hmcts.reform.civil.config;
 
+import com.zaxxer.hikari.HikariDataSource;
 import org.jdbi.v3.core.Jdbi;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
 import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import uk.gov.hmcts.reform.civil.repositories.NotificationOutboxRepository;
 import uk.gov.hmcts.reform.civil.repositories.ReferenceNumberRepository;
+import uk.gov.hmcts.reform.civil.repositories.ReferenceNumberSequenceRepository;
+import uk.gov.hmcts.reform.civil.repositories.RenderedDocumentRepository;
+import uk.gov.hmcts.reform.civil.repositories.RoboticsFeedProgressRepository;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
 class DatabaseConfigurationTest {
 
     ApplicationContextRunner context = new ApplicationContextRunner()
-        .withPropertyValues("reference.database.enabled:true")
+        .withPropertyValues(
+            "reference.database.enabled:true",
+            "spring.datasource.url:jdbc:postgresql://localhost:5432/cmc"
+        )
         .withUserConfiguration(DatabaseConfiguration.class);
 
+    @Test
+    void shouldAllocateReferenceNumbersFromMemory_whenAllocationBlockSizeIsSet() {
+        context.withPropertyValues("reference.database.allocation-block-size:50")
+            .run(it -> {
+                assertThat(it).hasSingleBean(ReferenceNumberRepository.class);
+                assertThat(it).hasSingleBean(ReferenceNumberSequenceRepository.class);
+            });
+    }
+
     @Test
     void shouldCheckPresenceOfBeans_WhenDatabaseConfigurationIsLoaded() {
         context.run(it -> {
             assertThat(it).hasSingleBean(DataSourceTransactionManager.class);
             assertThat(it).hasSingleBean(Jdbi.class);
             assertThat(it).hasSingleBean(ReferenceNumberRepository.class);
+            assertThat(it).hasSingleBean(RoboticsFeedProgressRepository.class);
+            assertThat(it).hasSingleBean(NotificationOutboxRepository.class);
+            assertThat(it).hasSingleBean(RenderedDocumentRepository.class);
             assertThat(it).hasBean("dataSource");
+            assertThat(it.getBean("dataSource")).isInstanceOf(HikariDataSource.class);
             assertThat(it).hasBean("dataSourceProxy");
         });
     }
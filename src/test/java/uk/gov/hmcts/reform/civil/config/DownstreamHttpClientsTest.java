@@ -0,0 +1,109 @@
+package uk.gov.hmcts.reform.civil.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.civil.config.properties.http.HttpClientProperties;
+import uk.gov.hmcts.reform.civil.config.properties.http.HttpClientProperties.Profile;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DownstreamHttpClientsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private DownstreamHttpClients downstreamHttpClients;
+
+    @AfterEach
+    void tearDown() {
+        if (downstreamHttpClients != null) {
+            downstreamHttpClients.close();
+        }
+    }
+
+    @Nested
+    class Routing {
+
+        @Test
+        void shouldRouteRequestToDownstreamWithSameSchemeHostAndPort() {
+            downstreamHttpClients = clients("ccd", "http://ccd-data-store:4452");
+
+            assertThat(downstreamHttpClients.downstreamName("http://ccd-data-store:4452/cases/1594901956117591"))
+                .isEqualTo("ccd");
+            assertThat(downstreamHttpClients.downstreamName("http://CCD-DATA-STORE:4452/searchCases"))
+                .isEqualTo("ccd");
+        }
+
+        @Test
+        void shouldMatchDefaultPort_whenUrlLeavesPortOut() {
+            downstreamHttpClients = clients("bank-holidays", "https://www.gov.uk");
+
+            assertThat(downstreamHttpClients.downstreamName("https://www.gov.uk:443/bank-holidays.json"))
+                .isEqualTo("bank-holidays");
+        }
+
+        @Test
+        void shouldRouteToDefaultClient_whenNoDownstreamMatches() {
+            downstreamHttpClients = clients("ccd", "http://ccd-data-store:4452");
+
+            assertThat(downstreamHttpClients.downstreamName("http://ccd-data-store:4453/cases"))
+                .isEqualTo(DownstreamHttpClients.DEFAULT);
+            assertThat(downstreamHttpClients.downstreamName("https://ccd-data-store:4452/cases"))
+                .isEqualTo(DownstreamHttpClients.DEFAULT);
+            assertThat(downstreamHttpClients.downstreamName("not a url"))
+                .isEqualTo(DownstreamHttpClients.DEFAULT);
+        }
+
+        @Test
+        void shouldIgnoreDownstreamWithoutUrl() {
+            downstreamHttpClients = clients("fees", "");
+
+            assertThat(downstreamHttpClients.downstreamName("http://fees-api/fees-register"))
+                .isEqualTo(DownstreamHttpClients.DEFAULT);
+        }
+    }
+
+    @Nested
+    class Metrics {
+
+        @Test
+        void shouldPublishPoolMetricsForEveryDownstream() {
+            downstreamHttpClients = clients("ccd", "http://ccd-data-store:4452");
+
+            assertThat(meterRegistry.find("httpcomponents.httpclient.pool.total.max")
+                           .tag("httpclient", "ccd").gauge().value()).isEqualTo(50);
+            assertThat(meterRegistry.find("httpcomponents.httpclient.pool.total.pending")
+                           .tag("httpclient", DownstreamHttpClients.DEFAULT).gauge()).isNotNull();
+        }
+    }
+
+    @Nested
+    class Profiles {
+
+        @Test
+        void shouldTakeSettingsLeftOutFromDefaults() {
+            Profile profile = new Profile();
+            profile.setUrl("http://ccd-data-store:4452");
+            profile.setMaxPerRoute(50);
+
+            Profile merged = profile.withDefaults(new HttpClientProperties().getDefaults());
+
+            assertThat(merged.getUrl()).isEqualTo("http://ccd-data-store:4452");
+            assertThat(merged.getMaxPerRoute()).isEqualTo(50);
+            assertThat(merged.getMaxTotal()).isEqualTo(50);
+            assertThat(merged.getSocketTimeout()).isEqualTo(Duration.ofSeconds(10));
+            assertThat(merged.getIdleTimeout()).isEqualTo(Duration.ofSeconds(60));
+            assertThat(profile.hasTimeouts()).isFalse();
+        }
+    }
+
+    private DownstreamHttpClients clients(String name, String url) {
+        Profile profile = new Profile();
+        profile.setUrl(url);
+        HttpClientProperties properties = new HttpClientProperties();
+        properties.getDownstreams().put(name, profile);
+        return new DownstreamHttpClients(properties, meterRegistry);
+    }
+}
@@ -21,6 +21,7 @@ import uk.gov.hmcts.reform.civil.model.documents.Document;
 import uk.gov.hmcts.reform.civil.model.dq.Respondent1DQ;
 import uk.gov.hmcts.reform.civil.model.dq.Respondent2DQ;
 import uk.gov.hmcts.reform.civil.sampledata.CaseDataBuilder;
+import uk.gov.hmcts.reform.civil.service.docmosis.ParallelDocumentGenerator;
 import uk.gov.hmcts.reform.civil.service.docmosis.dq.DirectionsQuestionnaireGenerator;
 
 import java.time.LocalDateTime;
@@ -28,6 +29,7 @@ import java.time.LocalDateTime;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static uk.gov.hmcts.reform.civil.callback.CallbackType.ABOUT_TO_SUBMIT;
@@ -39,7 +41,8 @@ import static uk.gov.hmcts.reform.civil.utils.ElementUtils.wrapElements;
 @SpringBootTest(classes = {
     GenerateDirectionsQuestionnaireCallbackHandler.class,
     JacksonAutoConfiguration.class,
-    CaseDetailsConverter.class
+    CaseDetailsConverter.class,
+    ParallelDocumentGenerator.class
 })
 class GenerateDirectionsQuestionnaireCallbackHandlerTest extends BaseCallbackHandlerTest {
 
@@ -153,4 +156,28 @@ class GenerateDirectionsQuestionnaireCallbackHandlerTest extends BaseCallbackHan
         assertThat(updatedData.getSystemGeneratedCaseDocuments().get(1).getValue()).isEqualTo(DOCUMENT);
     }
 
+    @Test
+    void shouldAddBothDocumentsInDefendantOrder_whenSameLRDiffResponseBothDQs() {
+        CaseData caseData = CaseDataBuilder.builder().atStateRespondentFullDefence().build().toBuilder()
+            .respondent2SameLegalRepresentative(YesOrNo.YES)
+            .respondentResponseIsSame(YesOrNo.NO)
+            .respondent1DQ(Respondent1DQ.builder().build())
+            .respondent1ClaimResponseType(RespondentResponseType.FULL_DEFENCE)
+            .respondent2DQ(Respondent2DQ.builder().build())
+            .respondent2ClaimResponseType(RespondentResponseType.FULL_DEFENCE)
+            .systemGeneratedCaseDocuments(wrapElements(CaseDocument.builder().documentType(SEALED_CLAIM).build()))
+            .build();
+        CaseDocument defendantTwoDocument = DOCUMENT.toBuilder().documentName("defendant two").build();
+        when(directionsQuestionnaireGenerator.generateDQFor1v2SingleSolDiffResponse(any(CaseData.class),
+            anyString(), eq("TWO"))).thenReturn(defendantTwoDocument);
+        CallbackParams params = callbackParamsOf(caseData, ABOUT_TO_SUBMIT);
+
+        var response = (AboutToStartOrSubmitCallbackResponse) handler.handle(params);
+
+        CaseData updatedData = mapper.convertValue(response.getData(), CaseData.class);
+
+        assertThat(updatedData.getSystemGeneratedCaseDocuments()).hasSize(3);
+        assertThat(updatedData.getSystemGeneratedCaseDocuments().get(1).getValue()).isEqualTo(DOCUMENT);
+        assertThat(updatedData.getSystemGeneratedCaseDocuments().get(2).getValue()).isEqualTo(defendantTwoDocument);
+    }
 }
@@ -4,6 +4,7 @@ import com.networknt.schema.ValidationMessage;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -11,17 +12,21 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import uk.gov.hmcts.reform.civil.callback.CallbackParams;
 import uk.gov.hmcts.reform.civil.config.PrdAdminUserConfiguration;
+import uk.gov.hmcts.reform.civil.config.properties.organisation.OrganisationCacheProperties;
 import uk.gov.hmcts.reform.civil.handler.callback.BaseCallbackHandlerTest;
 import uk.gov.hmcts.reform.civil.helpers.CaseDetailsConverter;
 import uk.gov.hmcts.reform.civil.launchdarkly.FeatureToggleService;
 import uk.gov.hmcts.reform.civil.model.CaseData;
+import uk.gov.hmcts.reform.civil.model.robotics.EventHistory;
 import uk.gov.hmcts.reform.civil.sampledata.CallbackParamsBuilder;
 import uk.gov.hmcts.reform.civil.sampledata.CaseDataBuilder;
 import uk.gov.hmcts.reform.civil.service.OrganisationService;
 import uk.gov.hmcts.reform.civil.service.Time;
 import uk.gov.hmcts.reform.civil.service.flowstate.StateFlowEngine;
 import uk.gov.hmcts.reform.civil.service.robotics.JsonSchemaValidationService;
+import uk.gov.hmcts.reform.civil.service.robotics.RoboticsDeltaFeedService;
 import uk.gov.hmcts.reform.civil.service.robotics.RoboticsNotificationService;
+import uk.gov.hmcts.reform.civil.service.robotics.RoboticsPayload;
 import uk.gov.hmcts.reform.civil.service.robotics.exception.JsonSchemaValidationException;
 import uk.gov.hmcts.reform.civil.service.robotics.mapper.AddressLinesMapper;
 import uk.gov.hmcts.reform.civil.service.robotics.mapper.EventHistoryMapper;
@@ -32,10 +37,14 @@ import uk.gov.hmcts.reform.civil.service.robotics.mapper.RoboticsDataMapperForSp
 import uk.gov.hmcts.reform.idam.client.IdamClient;
 import uk.gov.hmcts.reform.prd.client.OrganisationApi;
 
+import java.util.Optional;
 import java.util.Set;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -52,7 +61,8 @@ import static uk.gov.hmcts.reform.civil.callback.CallbackType.ABOUT_TO_SUBMIT;
     JacksonAutoConfiguration.class,
     CaseDetailsConverter.class,
     StateFlowEngine.class,
-    OrganisationService.class
+    OrganisationService.class,
+    OrganisationCacheProperties.class
 })
 @ExtendWith(SpringExtension.class)
 class NotifyRoboticsOnContinuousFeedHandlerTest extends BaseCallbackHandlerTest {
@@ -85,7 +95,44 @@ class NotifyRoboticsOnContinuousFeedHandlerTest extends BaseCallbackHandlerTest
             CallbackParams params = CallbackParamsBuilder.builder().of(ABOUT_TO_SUBMIT, caseData).build();
             handler.handle(params);
 
-            verify(roboticsNotificationService).notifyRobotics(caseData, false);
+            verify(roboticsNotificationService).notifyRobotics(eq(caseData), eq(false), any(RoboticsPayload.class));
+        }
+    }
+
+    @Nested
+    class DeltaFeed {
+
+        @MockBean
+        private RoboticsDeltaFeedService roboticsDeltaFeedService;
+        @Autowired
+        private NotifyRoboticsOnContinuousFeedHandler handler;
+
+        @Test
+        void shouldNotNotifyRobotics_whenNoEventsHaveBeenAdded() {
+            when(roboticsDeltaFeedService.eventsToSend(any(), any())).thenReturn(Optional.empty());
+            CaseData caseData = CaseDataBuilder.builder().atStateProceedsOfflineAdmissionOrCounterClaim().build();
+            CallbackParams params = CallbackParamsBuilder.builder().of(ABOUT_TO_SUBMIT, caseData).build();
+
+            handler.handle(params);
+
+            verifyNoInteractions(roboticsNotificationService);
+            verify(roboticsDeltaFeedService, never()).eventsSent(any(), any());
+        }
+
+        @Test
+        void shouldNotifyRoboticsAndRecordEvents_whenEventsHaveBeenAdded() {
+            ArgumentCaptor<EventHistory> eventHistory = ArgumentCaptor.forClass(EventHistory.class);
+            when(roboticsDeltaFeedService.eventsToSend(any(), eventHistory.capture()))
+                .thenAnswer(invocation -> Optional.of(invocation.getArgument(1)));
+            CaseData caseData = CaseDataBuilder.builder().atStateProceedsOfflineAdmissionOrCounterClaim().build();
+            CallbackParams params = CallbackParamsBuilder.builder().of(ABOUT_TO_SUBMIT, caseData).build();
+
+            handler.handle(params);
+
+            ArgumentCaptor<RoboticsPayload> payload = ArgumentCaptor.forClass(RoboticsPayload.class);
+            verify(roboticsNotificationService).notifyRobotics(eq(caseData), eq(false), payload.capture());
+            assertThat(payload.getValue().getEvents()).isSameAs(eventHistory.getValue());
+            verify(roboticsDeltaFeedService).eventsSent(caseData.getCcdCaseReference(), eventHistory.getValue());
         }
     }
 
@@ -99,7 +146,8 @@ class NotifyRoboticsOnContinuousFeedHandlerTest extends BaseCallbackHandlerTest
 
         @Test
         void shouldThrowJsonSchemaValidationException_whenSchemaErrors() {
-            when(validationService.validate(anyString())).thenReturn(Set.of(new ValidationMessage.Builder().build()));
+            when(validationService.validate(any(RoboticsPayload.class)))
+                .thenReturn(Set.of(new ValidationMessage.Builder().build()));
             CaseData caseData = CaseDataBuilder.builder().atStateProceedsOfflineAdmissionOrCounterClaim().build();
             CallbackParams params = CallbackParamsBuilder.builder().of(ABOUT_TO_SUBMIT, caseData).build();
 
@@ -41,7 +41,7 @@ import uk.gov.hmcts.reform.civil.service.ExitSurveyContentService;
 import uk.gov.hmcts.reform.civil.service.Time;
 import uk.gov.hmcts.reform.civil.service.UserService;
 import uk.gov.hmcts.reform.civil.service.flowstate.StateFlowEngine;
-import uk.gov.hmcts.reform.civil.stateflow.StateFlow;
+import uk.gov.hmcts.reform.civil.stateflow.StateFlowEvaluation;
 import uk.gov.hmcts.reform.civil.validation.DateOfBirthValidator;
 import uk.gov.hmcts.reform.civil.validation.UnavailableDateValidator;
 import uk.gov.hmcts.reform.idam.client.models.UserInfo;
@@ -113,7 +113,7 @@ class RespondToClaimCallbackHandlerTest extends BaseCallbackHandlerTest {
     private StateFlowEngine stateFlowEngine;
 
     @Mock
-    private StateFlow mockedStateFlow;
+    private StateFlowEvaluation mockedStateFlow;
 
     @Autowired
     private UserService userService;
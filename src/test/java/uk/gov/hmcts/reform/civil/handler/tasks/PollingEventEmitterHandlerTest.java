@@ -1,7 +1,10 @@
 package uk.gov.hmcts.reform.civil.handler.tasks;
 
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.camunda.bpm.client.task.ExternalTask;
 import org.camunda.bpm.client.task.ExternalTaskService;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -17,7 +20,11 @@ import uk.gov.hmcts.reform.civil.service.search.CaseReadyBusinessProcessSearchSe
 import java.util.List;
 import java.util.Map;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -25,6 +32,7 @@ import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 import static uk.gov.hmcts.reform.civil.enums.BusinessProcessStatus.READY;
+import static uk.gov.hmcts.reform.civil.handler.tasks.PollingEventEmitterHandler.METRIC_NAME;
 
 @SpringBootTest(classes = {
     JacksonAutoConfiguration.class,
@@ -54,8 +62,11 @@ class PollingEventEmitterHandlerTest {
     private CaseDetails caseDetails2;
     private CaseDetails caseDetails3;
 
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @BeforeEach
     void init() {
+        Metrics.addRegistry(meterRegistry);
         caseDetails1 = CaseDetails.builder().id(1L).data(
             Map.of("businessProcess", businessProcessWithCamundaEvent("TEST_EVENT1"))).build();
         caseDetails2 = CaseDetails.builder().id(2L).data(
@@ -65,6 +76,11 @@ class PollingEventEmitterHandlerTest {
         when(searchService.getCases()).thenReturn(List.of(caseDetails1, caseDetails2, caseDetails3));
     }
 
+    @AfterEach
+    void tearDown() {
+        Metrics.removeRegistry(meterRegistry);
+    }
+
     @Test
     void shouldNotSendMessageAndTriggerEvent_whenZeroCasesFound() {
         when(searchService.getCases()).thenReturn(List.of());
@@ -98,6 +114,45 @@ class PollingEventEmitterHandlerTest {
         verifyNoMoreInteractions(eventEmitterService);
     }
 
+    @Test
+    void shouldDispatchRemainingCases_whenDispatchingOneCaseThrows() {
+        when(eventEmitterService.emitBusinessProcessCamundaEvent(any(), anyBoolean())).thenReturn(true);
+        when(eventEmitterService.emitBusinessProcessCamundaEvent(
+            argThat(caseData -> Long.valueOf(1L).equals(caseData.getCcdCaseReference())), eq(true)))
+            .thenThrow(new RuntimeException("CCD unavailable"));
+
+        pollingEventEmitterHandler.execute(externalTask, externalTaskService);
+
+        verify(eventEmitterService).emitBusinessProcessCamundaEvent(
+            caseDetailsConverter.toCaseData(caseDetails2),
+            true
+        );
+        verify(eventEmitterService).emitBusinessProcessCamundaEvent(
+            caseDetailsConverter.toCaseData(caseDetails3),
+            true
+        );
+        verify(externalTaskService).complete(externalTask);
+        assertThat(casesCounted("dispatched")).isEqualTo(2);
+        assertThat(casesCounted("failed")).isEqualTo(1);
+    }
+
+    @Test
+    void shouldSkipCase_whenCaseHasNoBusinessProcess() {
+        when(eventEmitterService.emitBusinessProcessCamundaEvent(any(), anyBoolean())).thenReturn(true);
+        CaseDetails caseWithoutBusinessProcess = CaseDetails.builder().id(4L).data(Map.of()).build();
+        when(searchService.getCases()).thenReturn(List.of(caseDetails1, caseWithoutBusinessProcess));
+
+        pollingEventEmitterHandler.execute(externalTask, externalTaskService);
+
+        verify(eventEmitterService).emitBusinessProcessCamundaEvent(
+            caseDetailsConverter.toCaseData(caseDetails1),
+            true
+        );
+        verifyNoMoreInteractions(eventEmitterService);
+        assertThat(casesCounted("dispatched")).isEqualTo(1);
+        assertThat(casesCounted("skipped")).isEqualTo(1);
+    }
+
     @Test
     void shouldHave0Retries_whenException() {
         String errorMessage = "there was an error";
@@ -122,6 +177,10 @@ class PollingEventEmitterHandlerTest {
         verifyNoMoreInteractions(eventEmitterService);
     }
 
+    private double casesCounted(String result) {
+        return meterRegistry.counter(METRIC_NAME, "result", result).count();
+    }
+
     private BusinessProcess businessProcessWithCamundaEvent(String camundaEvent) {
         return BusinessProcess.builder()
             .activityId("testActivityId")
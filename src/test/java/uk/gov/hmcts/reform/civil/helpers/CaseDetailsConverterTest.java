@@ -0,0 +1,158 @@
+package uk.gov.hmcts.reform.civil.helpers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import uk.gov.hmcts.reform.ccd.client.model.CallbackRequest;
+import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
+import uk.gov.hmcts.reform.civil.enums.CaseState;
+import uk.gov.hmcts.reform.civil.model.CaseData;
+import uk.gov.hmcts.reform.civil.sampledata.CaseDataBuilder;
+import uk.gov.hmcts.reform.civil.sampledata.CaseDetailsBuilder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static uk.gov.hmcts.reform.civil.enums.CaseState.AWAITING_APPLICANT_INTENTION;
+import static uk.gov.hmcts.reform.civil.enums.CaseState.AWAITING_RESPONDENT_ACKNOWLEDGEMENT;
+import static uk.gov.hmcts.reform.civil.helpers.CaseDetailsConverter.CASE_DATA_BEFORE_PROJECTION;
+
+class CaseDetailsConverterTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+        .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        .build();
+    private final CaseDetailsConverter caseDetailsConverter = new CaseDetailsConverter(objectMapper);
+
+    @Nested
+    class ToCaseData {
+
+        @Test
+        void shouldAddCaseReferenceAndState_whenCaseDetailsAreConverted() {
+            CaseDetails caseDetails = CaseDetailsBuilder.builder()
+                .data(CaseDataBuilder.builder().atStateRespondentFullDefence().build())
+                .state(AWAITING_APPLICANT_INTENTION)
+                .id(1594901956117591L)
+                .build();
+
+            CaseData caseData = caseDetailsConverter.toCaseData(caseDetails);
+
+            assertThat(caseData.getCcdCaseReference()).isEqualTo(1594901956117591L);
+            assertThat(caseData.getCcdState()).isEqualTo(AWAITING_APPLICANT_INTENTION);
+        }
+    }
+
+    @Nested
+    class ToCallbackCaseData {
+
+        @Test
+        void shouldBindSameCaseData_asCaseDetailsConversion() throws IOException {
+            CaseDetails caseDetails = caseDetails(AWAITING_APPLICANT_INTENTION);
+            CaseDetails caseDetailsBefore = caseDetails(AWAITING_RESPONDENT_ACKNOWLEDGEMENT);
+            byte[] body = objectMapper.writeValueAsBytes(CallbackRequest.builder()
+                                                             .eventId("ADD_CASE_NOTE")
+                                                             .caseDetails(caseDetails)
+                                                             .caseDetailsBefore(caseDetailsBefore)
+                                                             .build());
+
+            CallbackCaseData callbackCaseData = caseDetailsConverter.toCallbackCaseData(body);
+
+            assertThat(callbackCaseData.getCaseData())
+                .isEqualTo(caseDetailsConverter.toCaseData(caseDetails));
+            assertThat(callbackCaseData.getCaseDataBefore().get())
+                .isEqualTo(caseDetailsConverter.toCaseData(caseDetailsBefore));
+        }
+
+        @Test
+        void shouldBindCallbackRequest_inSamePass() throws IOException {
+            byte[] body = objectMapper.writeValueAsBytes(CallbackRequest.builder()
+                                                             .eventId("ADD_CASE_NOTE")
+                                                             .caseDetails(caseDetails(AWAITING_APPLICANT_INTENTION))
+                                                             .caseDetailsBefore(caseDetails(
+                                                                 AWAITING_RESPONDENT_ACKNOWLEDGEMENT))
+                                                             .build());
+            CallbackRequest expected = objectMapper.readValue(body, CallbackRequest.class);
+
+            CallbackRequest callbackRequest = caseDetailsConverter.toCallbackCaseData(body).getCallbackRequest();
+
+            assertThat(callbackRequest.getEventId()).isEqualTo("ADD_CASE_NOTE");
+            assertThat(callbackRequest.getCaseDetails().getId()).isEqualTo(1594901956117591L);
+            assertThat(callbackRequest.getCaseDetails().getState()).isEqualTo(AWAITING_APPLICANT_INTENTION.name());
+            assertThat(callbackRequest.getCaseDetails().getData())
+                .isEqualTo(expected.getCaseDetails().getData());
+            assertThat(callbackRequest.getCaseDetailsBefore().getState())
+                .isEqualTo(AWAITING_RESPONDENT_ACKNOWLEDGEMENT.name());
+            assertThat(callbackRequest.getCaseDetailsBefore().getData())
+                .isEqualTo(expected.getCaseDetailsBefore().getData());
+        }
+
+        @Test
+        void shouldKeepCaseDataMapModifiable() throws IOException {
+            byte[] body = objectMapper.writeValueAsBytes(CallbackRequest.builder()
+                                                             .eventId("START_BUSINESS_PROCESS")
+                                                             .caseDetails(caseDetails(AWAITING_APPLICANT_INTENTION))
+                                                             .build());
+
+            Map<String, Object> data = caseDetailsConverter.toCallbackCaseData(body).getCallbackRequest()
+                .getCaseDetails().getData();
+            data.put("businessProcess", Map.of("status", "STARTED"));
+
+            assertThat(data).containsEntry("businessProcess", Map.of("status", "STARTED"));
+        }
+
+        @Test
+        void shouldBindOnlyProjectedFields_whenCaseDetailsBeforeArePresent() throws IOException {
+            CaseDetails caseDetailsBefore = caseDetails(AWAITING_RESPONDENT_ACKNOWLEDGEMENT);
+            byte[] body = objectMapper.writeValueAsBytes(CallbackRequest.builder()
+                                                             .eventId("ADD_CASE_NOTE")
+                                                             .caseDetails(caseDetails(AWAITING_APPLICANT_INTENTION))
+                                                             .caseDetailsBefore(caseDetailsBefore)
+                                                             .build());
+
+            CaseData projection = caseDetailsConverter.toCallbackCaseData(body).getCaseDataBeforeProjection();
+
+            assertThat(projection).isEqualTo(CaseData.builder()
+                                                 .ccdCaseReference(1594901956117591L)
+                                                 .ccdState(AWAITING_RESPONDENT_ACKNOWLEDGEMENT)
+                                                 .businessProcess(caseDetailsConverter.toCaseData(caseDetailsBefore)
+                                                                      .getBusinessProcess())
+                                                 .build());
+            assertThat(projection)
+                .isEqualTo(caseDetailsConverter.toCaseDataProjection(caseDetailsBefore, CASE_DATA_BEFORE_PROJECTION));
+        }
+
+        @Test
+        void shouldReturnNoCaseDataBefore_whenCaseDetailsBeforeAreMissing() throws IOException {
+            byte[] body = objectMapper.writeValueAsBytes(CallbackRequest.builder()
+                                                             .eventId("ADD_CASE_NOTE")
+                                                             .caseDetails(caseDetails(AWAITING_APPLICANT_INTENTION))
+                                                             .build());
+
+            CallbackCaseData callbackCaseData = caseDetailsConverter.toCallbackCaseData(body);
+
+            assertThat(callbackCaseData.getCaseData().getCcdState()).isEqualTo(AWAITING_APPLICANT_INTENTION);
+            assertThat(callbackCaseData.getCaseDataBeforeProjection()).isNull();
+            assertThat(callbackCaseData.getCaseDataBefore().get()).isNull();
+        }
+
+        @Test
+        void shouldThrowIOException_whenBodyIsNotAnObject() {
+            byte[] body = "[]".getBytes(StandardCharsets.UTF_8);
+
+            assertThrows(IOException.class, () -> caseDetailsConverter.toCallbackCaseData(body));
+        }
+    }
+
+    private CaseDetails caseDetails(CaseState state) {
+        return CaseDetailsBuilder.builder()
+            .data(CaseDataBuilder.builder().atStateRespondentFullDefence().build())
+            .state(state)
+            .id(1594901956117591L)
+            .build();
+    }
+}
@@ -3,7 +3,9 @@ package uk.gov.hmcts.reform.civil.launchdarkly;
 import com.google.common.collect.ImmutableList;
 import com.launchdarkly.sdk.LDUser;
 import com.launchdarkly.sdk.server.interfaces.LDClientInterface;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -12,13 +14,18 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -45,7 +52,6 @@ class FeatureToggleServiceTest {
     @ValueSource(booleans = {true, false})
     void shouldReturnCorrectState_whenUserIsProvided(Boolean toggleState) {
         LDUser ldUSer = new LDUser.Builder("civil-service")
-            .custom("timestamp", String.valueOf(System.currentTimeMillis()))
             .custom("environment", FAKE_ENVIRONMENT).build();
         givenToggle(FAKE_FEATURE, toggleState);
 
@@ -64,7 +70,7 @@ class FeatureToggleServiceTest {
         givenToggle(FAKE_FEATURE, toggleState);
 
         assertThat(featureToggleService.isFeatureEnabled(FAKE_FEATURE)).isEqualTo(toggleState);
-        verifyBoolVariationCalled(FAKE_FEATURE, List.of("timestamp", "environment"));
+        verifyBoolVariationCalled(FAKE_FEATURE, List.of("environment"));
     }
 
     @Test
@@ -73,7 +79,7 @@ class FeatureToggleServiceTest {
         givenToggle(multipartyFeatureKey, true);
 
         assertThat(featureToggleService.isRpaContinuousFeedEnabled()).isTrue();
-        verifyBoolVariationCalled(multipartyFeatureKey, List.of("timestamp", "environment"));
+        verifyBoolVariationCalled(multipartyFeatureKey, List.of("environment"));
     }
 
     @Test
@@ -82,7 +88,85 @@ class FeatureToggleServiceTest {
         givenToggle(organisationOnboardedFeatureKey, true);
 
         assertThat(featureToggleService.isOrganisationOnboarded("someId")).isTrue();
-        verifyBoolVariationCalled(organisationOnboardedFeatureKey, List.of("timestamp", "environment", "orgId"));
+        verifyBoolVariationCalled(organisationOnboardedFeatureKey, List.of("environment", "orgId"));
+    }
+
+    @Nested
+    class Snapshot {
+
+        @BeforeEach
+        void setUp() {
+            when(ldClient.boolVariation(anyString(), any(LDUser.class), anyBoolean())).thenReturn(true);
+        }
+
+        @AfterEach
+        void tearDown() {
+            RequestContextHolder.resetRequestAttributes();
+        }
+
+        @Test
+        void shouldEvaluateEachFlagOnce_whenWithinRequest() {
+            ServletRequestAttributes request = new ServletRequestAttributes(new MockHttpServletRequest());
+            RequestContextHolder.setRequestAttributes(request);
+
+            assertThat(featureToggleService.isRpaContinuousFeedEnabled()).isTrue();
+            assertThat(featureToggleService.isRpaContinuousFeedEnabled()).isTrue();
+            assertThat(featureToggleService.isFeatureEnabled(FAKE_FEATURE)).isTrue();
+            assertThat(featureToggleService.isFeatureEnabled(FAKE_FEATURE)).isTrue();
+            request.requestCompleted();
+
+            verify(ldClient).boolVariation(eq("rpaContinuousFeed"), any(LDUser.class), eq(false));
+            verify(ldClient).boolVariation(eq(FAKE_FEATURE), any(LDUser.class), eq(false));
+        }
+
+        @Test
+        void shouldEvaluateOrganisationOnboardedOncePerOrganisation_whenWithinSnapshot() {
+            try (FeatureFlags flags = featureToggleService.openSnapshot()) {
+                featureToggleService.isOrganisationOnboarded("org1");
+                featureToggleService.isOrganisationOnboarded("org1");
+                featureToggleService.isOrganisationOnboarded("org2");
+
+                assertThat(flags.getEvaluations()).isEqualTo(3);
+            }
+
+            verify(ldClient, times(2)).boolVariation(eq("isOrganisationOnboarded"), any(LDUser.class), eq(false));
+        }
+
+        @Test
+        void shouldEvaluateFlagsForSnapshotWithSameUser() {
+            try (FeatureFlags flags = featureToggleService.openSnapshot()) {
+                featureToggleService.isFeatureEnabled(FAKE_FEATURE);
+            }
+
+            verify(ldClient, times(2)).boolVariation(anyString(), ldUserArgumentCaptor.capture(), eq(false));
+            assertThat(ldUserArgumentCaptor.getAllValues().get(0))
+                .isEqualTo(ldUserArgumentCaptor.getAllValues().get(1));
+        }
+
+        @Test
+        void shouldEvaluateFlagsForSameUser_acrossSnapshots() {
+            try (FeatureFlags flags = featureToggleService.openSnapshot()) {
+                featureToggleService.isFeatureEnabled(FAKE_FEATURE);
+            }
+            try (FeatureFlags flags = featureToggleService.openSnapshot()) {
+                featureToggleService.isFeatureEnabled(FAKE_FEATURE);
+            }
+
+            verify(ldClient, times(2)).boolVariation(eq(FAKE_FEATURE), ldUserArgumentCaptor.capture(), eq(false));
+            assertThat(ldUserArgumentCaptor.getAllValues().get(0))
+                .isEqualTo(ldUserArgumentCaptor.getAllValues().get(1));
+        }
+
+        @Test
+        void shouldEvaluateAfresh_whenSnapshotHasBeenClosed() {
+            try (FeatureFlags flags = featureToggleService.openSnapshot()) {
+                assertThat(featureToggleService.openSnapshot()).isNull();
+            }
+
+            featureToggleService.isRpaContinuousFeedEnabled();
+
+            verify(ldClient, times(2)).boolVariation(eq("rpaContinuousFeed"), any(LDUser.class), eq(false));
+        }
     }
 
     private void givenToggle(String feature, boolean state) {
@@ -35,6 +35,39 @@ class QueryTest {
         );
     }
 
+    @Test
+    void shouldThrowException_WhenSizeLessThan1() {
+        Query query = new Query(matchAllQuery(), List.of(), 0);
+
+        assertThrows(IllegalArgumentException.class, () -> query.searchAfter(null, 0),
+                     "Size cannot be less than 1"
+        );
+    }
+
+    @Test
+    void shouldSortOnReference_whenFirstSearchAfterPage() throws JSONException {
+        Query query = new Query(matchAllQuery(), List.of("reference"), 0).searchAfter(null, 100);
+
+        JSONAssert.assertEquals(
+            "{\"query\": {\"match_all\": {\"boost\": 1.0 }}, \"_source\": [\"reference\"], \"size\": 100, "
+                + "\"sort\": [{\"reference\": \"asc\"}], \"from\": 0}",
+            query.toString(),
+            true
+        );
+    }
+
+    @Test
+    void shouldSearchAfterReference_whenNextSearchAfterPage() throws JSONException {
+        Query query = new Query(matchAllQuery(), List.of("reference"), 0).searchAfter(1594901956117591L, 100);
+
+        JSONAssert.assertEquals(
+            "{\"query\": {\"match_all\": {\"boost\": 1.0 }}, \"_source\": [\"reference\"], \"size\": 100, "
+                + "\"sort\": [{\"reference\": \"asc\"}], \"search_after\": [1594901956117591], \"from\": 0}",
+            query.toString(),
+            true
+        );
+    }
+
     @Test
     void shouldFormatSourceInCorrectFormat_whenListOfItems() throws JSONException {
         Query query = new Query(matchAllQuery(), List.of("reference", "other field"), 0);
@@ -0,0 +1,26 @@
+package uk.gov.hmcts.reform.civil.repositories;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class NotificationOutboxRepositoryTest {
+
+    private final NotificationOutboxRepository repository = mock(
+        NotificationOutboxRepository.class, CALLS_REAL_METHODS);
+
+    @Test
+    void shouldRejectEmail_whenItHasNoReference() {
+        assertThatThrownBy(() -> repository.enqueue(null, "solicitor@example.com", "template-id", "{}", 60))
+            .isInstanceOf(IllegalArgumentException.class);
+
+        verify(repository, never()).lockEmail(any(), any(), any());
+        verify(repository, never()).insertUnlessQueued(any(), any(), any(), any(), anyLong());
+    }
+}
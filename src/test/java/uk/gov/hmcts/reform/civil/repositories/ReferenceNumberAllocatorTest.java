@@ -0,0 +1,48 @@
+package uk.gov.hmcts.reform.civil.repositories;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ReferenceNumberAllocatorTest {
+
+    private final List<Integer> reservations = new ArrayList<>();
+    private long sequence;
+
+    private final IntFunction<List<Long>> reserve = count -> {
+        reservations.add(count);
+        return LongStream.range(0, count).map(i -> ++sequence).boxed().collect(Collectors.toList());
+    };
+
+    @Test
+    void shouldFormatReferenceNumbers_likeDatabaseFunction() {
+        ReferenceNumberAllocator allocator = new ReferenceNumberAllocator(reserve, 3, "DC");
+
+        assertThat(allocator.next()).isEqualTo("000DC001");
+        assertThat(allocator.next()).isEqualTo("000DC002");
+    }
+
+    @Test
+    void shouldReserveNextBlock_whenBlockIsUsedUp() {
+        sequence = 123455;
+        ReferenceNumberAllocator allocator = new ReferenceNumberAllocator(reserve, 2, "MC");
+
+        assertThat(List.of(allocator.next(), allocator.next(), allocator.next()))
+            .containsExactly("123MC456", "123MC457", "123MC458");
+        assertThat(reservations).containsExactly(2, 2);
+    }
+
+    @Test
+    void shouldThrowException_whenNothingIsReserved() {
+        ReferenceNumberAllocator allocator = new ReferenceNumberAllocator(count -> List.of(), 2, "DC");
+
+        assertThrows(IllegalStateException.class, allocator::next);
+    }
+}
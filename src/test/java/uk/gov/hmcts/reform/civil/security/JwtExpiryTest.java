@@ -0,0 +1,56 @@
+package uk.gov.hmcts.reform.civil.security;
+
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.PlainJWT;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtExpiryTest {
+
+    private static final Instant NOW = Instant.parse("2022-03-01T12:00:00Z");
+    private static final Duration FALLBACK = Duration.ofHours(1);
+    private static final Duration MARGIN = Duration.ofMinutes(1);
+
+    private final JwtExpiry<String, String> expiry = new JwtExpiry<>(
+        (key, token) -> token, FALLBACK, MARGIN, Clock.fixed(NOW, ZoneOffset.UTC));
+
+    @Test
+    void shouldExpireBeforeExpClaim_whenBearerTokenIsJwt() {
+        String token = "Bearer " + jwtExpiringAt(NOW.plus(Duration.ofHours(8)));
+
+        assertThat(expiry.expireAfterCreate("key", token, 0L))
+            .isEqualTo(Duration.ofHours(8).minus(MARGIN).toNanos());
+    }
+
+    @Test
+    void shouldExpireImmediately_whenJwtIsAboutToExpire() {
+        String token = jwtExpiringAt(NOW.plusSeconds(30));
+
+        assertThat(expiry.expireAfterCreate("key", token, 0L)).isZero();
+    }
+
+    @Test
+    void shouldUseFallbackLifetime_whenTokenIsNotJwt() {
+        assertThat(expiry.expireAfterCreate("key", "Bearer I am a valid token", 0L))
+            .isEqualTo(FALLBACK.toNanos());
+    }
+
+    @Test
+    void shouldKeepCurrentExpiry_whenEntryIsRead() {
+        assertThat(expiry.expireAfterRead("key", "token", 0L, 42L)).isEqualTo(42L);
+    }
+
+    static String jwtExpiringAt(Instant expirationTime) {
+        return new PlainJWT(new JWTClaimsSet.Builder()
+                                .subject("civil-system-update@mailnesia.com")
+                                .expirationTime(Date.from(expirationTime))
+                                .build()).serialize();
+    }
+}
@@ -0,0 +1,195 @@
+package uk.gov.hmcts.reform.civil.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.civil.config.properties.notification.NotificationOutboxProperties;
+import uk.gov.hmcts.reform.civil.repositories.NotificationOutboxRepository;
+import uk.gov.hmcts.reform.civil.repositories.OutboxNotification;
+import uk.gov.service.notify.NotificationClient;
+import uk.gov.service.notify.NotificationClientException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class NotificationOutboxTest {
+
+    private static final Instant NOW = Instant.parse("2022-03-16T10:00:00Z");
+    private static final String EMAIL = "solicitor@example.com";
+    private static final String TEMPLATE = "template-id";
+    private static final String REFERENCE = "claim-issued-notification-000DC001";
+
+    private final NotificationOutboxRepository repository = mock(NotificationOutboxRepository.class);
+    private final NotificationClient notificationClient = mock(NotificationClient.class);
+    private final NotificationOutboxProperties properties = new NotificationOutboxProperties();
+    private final NotificationOutbox outbox = new NotificationOutbox(
+        repository,
+        notificationClient,
+        new ObjectMapper(),
+        properties,
+        Clock.fixed(NOW, ZoneOffset.UTC)
+    );
+
+    @AfterEach
+    void tearDown() {
+        outbox.shutdown();
+    }
+
+    @Nested
+    class Enqueue {
+
+        @Test
+        void shouldQueueEmailWithParametersAsJson() {
+            when(repository.enqueue(anyString(), anyString(), anyString(), anyString(), anyLong())).thenReturn(1);
+
+            boolean queued = outbox.enqueue(EMAIL, TEMPLATE, Map.of("claimReferenceNumber", "000DC001"), REFERENCE);
+
+            assertThat(queued).isTrue();
+            verify(repository).enqueue(
+                REFERENCE,
+                EMAIL,
+                TEMPLATE,
+                "{\"claimReferenceNumber\":\"000DC001\"}",
+                Duration.ofHours(24).toSeconds()
+            );
+        }
+
+        @Test
+        void shouldReportDuplicate_whenEmailHasAlreadyBeenQueued() {
+            when(repository.enqueue(anyString(), anyString(), anyString(), anyString(), anyLong())).thenReturn(0);
+
+            assertThat(outbox.enqueue(EMAIL, TEMPLATE, Map.of(), REFERENCE)).isFalse();
+        }
+    }
+
+    @Nested
+    class Drain {
+
+        @Test
+        @SneakyThrows
+        void shouldSendClaimedEmailsAndMarkThemSent() {
+            claim(notification(1));
+
+            assertThat(outbox.drain()).isEqualTo(1);
+
+            verify(notificationClient)
+                .sendEmail(TEMPLATE, EMAIL, Map.of("claimReferenceNumber", "000DC001"), REFERENCE);
+            verify(repository).markSent(1L);
+        }
+
+        @Test
+        @SneakyThrows
+        void shouldRetryLater_whenNotifyFails() {
+            claim(notification(2));
+            when(notificationClient.sendEmail(anyString(), anyString(), anyMap(), anyString()))
+                .thenThrow(new NotificationClientException("Service unavailable"));
+
+            outbox.drain();
+
+            verify(repository).retryLater(1L, Duration.ofSeconds(60).toSeconds(), "Service unavailable");
+            verify(repository, never()).markSent(anyLong());
+        }
+
+        @Test
+        @SneakyThrows
+        void shouldNotRetry_whenEmailIsSentButCannotBeMarkedSent() {
+            claim(notification(1));
+            doThrow(new IllegalStateException("Connection refused")).when(repository).markSent(1L);
+
+            outbox.drain();
+
+            verify(notificationClient).sendEmail(anyString(), anyString(), anyMap(), anyString());
+            verify(repository, never()).retryLater(anyLong(), anyLong(), any());
+            verify(repository, never()).markFailed(anyLong(), any());
+        }
+
+        @Test
+        @SneakyThrows
+        void shouldGiveUp_whenMaxAttemptsHaveBeenMade() {
+            claim(notification(properties.getMaxAttempts()));
+            when(notificationClient.sendEmail(anyString(), anyString(), anyMap(), anyString()))
+                .thenThrow(new NotificationClientException("Service unavailable"));
+
+            outbox.drain();
+
+            verify(repository).markFailed(1L, "Service unavailable");
+            verify(repository, never()).retryLater(anyLong(), anyLong(), any());
+        }
+
+        @Test
+        @SneakyThrows
+        void shouldGiveUp_whenNotifyRejectsEmail() {
+            claim(notification(1));
+            NotificationClientException badRequest = new NotificationClientException("BadRequestError") {
+                @Override
+                public int getHttpResult() {
+                    return 400;
+                }
+            };
+            when(notificationClient.sendEmail(anyString(), anyString(), anyMap(), anyString())).thenThrow(badRequest);
+
+            outbox.drain();
+
+            verify(repository).markFailed(1L, "BadRequestError");
+        }
+
+        @Test
+        void shouldClaimBatchSizeLeasedForConfiguredTime() {
+            claim();
+
+            assertThat(outbox.drain()).isZero();
+
+            verify(repository).claim(properties.getBatchSize(), properties.getLease().toSeconds());
+        }
+    }
+
+    @Nested
+    class Backoff {
+
+        @Test
+        void shouldDoubleDelayForEveryAttempt() {
+            assertThat(outbox.backoff(1)).isEqualTo(Duration.ofSeconds(30));
+            assertThat(outbox.backoff(2)).isEqualTo(Duration.ofSeconds(60));
+            assertThat(outbox.backoff(3)).isEqualTo(Duration.ofSeconds(120));
+        }
+
+        @Test
+        void shouldNotExceedMaxBackoff() {
+            assertThat(outbox.backoff(50)).isEqualTo(properties.getMaxBackoff());
+        }
+    }
+
+    private void claim(OutboxNotification... notifications) {
+        when(repository.claim(anyInt(), anyLong())).thenReturn(List.of(notifications));
+    }
+
+    private static OutboxNotification notification(int attempts) {
+        return new OutboxNotification(
+            1L,
+            REFERENCE,
+            EMAIL,
+            TEMPLATE,
+            "{\"claimReferenceNumber\":\"000DC001\"}",
+            attempts,
+            NOW.minusSeconds(5)
+        );
+    }
+}
@@ -0,0 +1,62 @@
+package uk.gov.hmcts.reform.civil.service;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import uk.gov.service.notify.NotificationClient;
+import uk.gov.service.notify.NotificationClientException;
+
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class NotificationServiceTest {
+
+    private static final Map<String, String> PARAMETERS = Map.of("claimReferenceNumber", "000DC001");
+
+    private final NotificationClient notificationClient = mock(NotificationClient.class);
+    private final NotificationOutbox notificationOutbox = mock(NotificationOutbox.class);
+
+    @Test
+    @SneakyThrows
+    void shouldSendEmail_whenOutboxIsNotEnabled() {
+        NotificationService notificationService = new NotificationService(notificationClient, Optional.empty());
+
+        notificationService.sendMail("solicitor@example.com", "template-id", PARAMETERS, "reference");
+
+        verify(notificationClient).sendEmail("template-id", "solicitor@example.com", PARAMETERS, "reference");
+    }
+
+    @Test
+    @SneakyThrows
+    void shouldThrowNotificationException_whenNotifyFails() {
+        NotificationService notificationService = new NotificationService(notificationClient, Optional.empty());
+        when(notificationClient.sendEmail(anyString(), anyString(), anyMap(), any()))
+            .thenThrow(new NotificationClientException("Service unavailable"));
+
+        assertThrows(
+            NotificationException.class,
+            () -> notificationService.sendMail("solicitor@example.com", "template-id", PARAMETERS, "reference")
+        );
+    }
+
+    @Test
+    void shouldQueueEmail_whenOutboxIsEnabled() {
+        NotificationService notificationService = new NotificationService(
+            notificationClient,
+            Optional.of(notificationOutbox)
+        );
+
+        notificationService.sendMail("solicitor@example.com", "template-id", PARAMETERS, "reference");
+
+        verify(notificationOutbox).enqueue("solicitor@example.com", "template-id", PARAMETERS, "reference");
+        verifyNoInteractions(notificationClient);
+    }
+}
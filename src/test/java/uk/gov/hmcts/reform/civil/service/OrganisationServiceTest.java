@@ -6,11 +6,13 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
+import uk.gov.hmcts.reform.ccd.model.OrganisationPolicy;
 import uk.gov.hmcts.reform.civil.config.PrdAdminUserConfiguration;
+import uk.gov.hmcts.reform.civil.config.properties.organisation.OrganisationCacheProperties;
+import uk.gov.hmcts.reform.civil.model.CaseData;
 import uk.gov.hmcts.reform.prd.client.OrganisationApi;
 import uk.gov.hmcts.reform.prd.model.Organisation;
 
@@ -53,11 +55,12 @@ class OrganisationServiceTest {
     @Mock
     private PrdAdminUserConfiguration userConfig;
 
-    @InjectMocks
     private OrganisationService organisationService;
 
     @BeforeEach
     void setUp() {
+        organisationService = new OrganisationService(
+            organisationApi, authTokenGenerator, userService, userConfig, new OrganisationCacheProperties());
         given(organisationApi.findUserOrganisation(any(), any())).willReturn(expectedOrganisation);
         given(organisationApi.findOrganisationById(any(), any(), any())).willReturn(expectedOrganisation);
         given(authTokenGenerator.generate()).willReturn(SERVICE_AUTH_TOKEN);
@@ -107,5 +110,66 @@ class OrganisationServiceTest {
             verify(organisationApi).findOrganisationById(PRD_ADMIN_AUTH_TOKEN, SERVICE_AUTH_TOKEN, ORG_ID);
             assertThat(organisation).isEmpty();
         }
+
+        @Test
+        void shouldCallPrdOnce_whenSameOrganisationIsRequestedAgain() {
+            organisationService.findOrganisationById(ORG_ID);
+            var organisation = organisationService.findOrganisationById(ORG_ID);
+
+            verify(organisationApi).findOrganisationById(PRD_ADMIN_AUTH_TOKEN, SERVICE_AUTH_TOKEN, ORG_ID);
+            assertThat(organisation).isEqualTo(Optional.of(expectedOrganisation));
+        }
+
+        @Test
+        void shouldCallPrdOnce_whenMissingOrganisationIsRequestedAgain() {
+            given(organisationApi.findOrganisationById(any(), any(), any())).willThrow(notFoundFeignException);
+
+            organisationService.findOrganisationById(ORG_ID);
+            var organisation = organisationService.findOrganisationById(ORG_ID);
+
+            verify(organisationApi).findOrganisationById(PRD_ADMIN_AUTH_TOKEN, SERVICE_AUTH_TOKEN, ORG_ID);
+            assertThat(organisation).isEmpty();
+        }
+    }
+
+    @Nested
+    class PrefetchOrganisations {
+
+        @Test
+        void shouldFetchEveryReferencedOrganisationOnce_whenCaseDataIsGiven() {
+            CaseData caseData = CaseData.builder()
+                .applicant1OrganisationPolicy(organisationPolicy("APPLICANT ORG"))
+                .respondent1OrganisationPolicy(organisationPolicy("RESPONDENT ORG"))
+                .respondent2OrganisationPolicy(organisationPolicy("RESPONDENT ORG"))
+                .build();
+
+            organisationService.prefetchOrganisations(caseData);
+            organisationService.findOrganisationById("APPLICANT ORG");
+            organisationService.findOrganisationById("RESPONDENT ORG");
+
+            verify(organisationApi).findOrganisationById(PRD_ADMIN_AUTH_TOKEN, SERVICE_AUTH_TOKEN, "APPLICANT ORG");
+            verify(organisationApi).findOrganisationById(PRD_ADMIN_AUTH_TOKEN, SERVICE_AUTH_TOKEN, "RESPONDENT ORG");
+        }
+
+        @Test
+        void shouldNotThrow_whenPrdFails() {
+            given(organisationApi.findOrganisationById(any(), any(), any()))
+                .willThrow(new IllegalStateException("PRD unavailable"));
+            CaseData caseData = CaseData.builder()
+                .applicant1OrganisationPolicy(organisationPolicy(ORG_ID))
+                .build();
+
+            organisationService.prefetchOrganisations(caseData);
+
+            verify(organisationApi).findOrganisationById(PRD_ADMIN_AUTH_TOKEN, SERVICE_AUTH_TOKEN, ORG_ID);
+        }
+
+        private OrganisationPolicy organisationPolicy(String organisationId) {
+            return OrganisationPolicy.builder()
+                .organisation(uk.gov.hmcts.reform.ccd.model.Organisation.builder()
+                                  .organisationID(organisationId)
+                                  .build())
+                .build();
+        }
     }
 }
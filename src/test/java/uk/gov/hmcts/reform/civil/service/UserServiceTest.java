@@ -1,6 +1,8 @@
 package uk.gov.hmcts.reform.civil.service;
 
 import com.google.common.collect.Lists;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.PlainJWT;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -9,9 +11,15 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import uk.gov.hmcts.reform.idam.client.IdamClient;
 import uk.gov.hmcts.reform.idam.client.models.UserInfo;
 
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Date;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -66,4 +74,30 @@ class UserServiceTest {
 
         assertThat(accessToken).isEqualTo(AUTHORISATION);
     }
+
+    @Test
+    void shouldCacheAccessToken_whenSameUserDetailsAreGivenAgain() {
+        when(idamClient.getAccessToken(SUB, PASSWORD)).thenReturn(AUTHORISATION);
+
+        userService.getAccessToken(SUB, PASSWORD);
+        String accessToken = userService.getAccessToken(SUB, PASSWORD);
+
+        assertThat(accessToken).isEqualTo(AUTHORISATION);
+        verify(idamClient).getAccessToken(SUB, PASSWORD);
+    }
+
+    @Test
+    void shouldRefreshAccessTokenInBackground_whenCachedTokenIsCloseToExpiry() {
+        Instant now = Instant.parse("2022-03-01T12:00:00Z");
+        String expiringToken = "Bearer " + new PlainJWT(new JWTClaimsSet.Builder()
+                                                            .expirationTime(Date.from(now.plusSeconds(300)))
+                                                            .build()).serialize();
+        when(idamClient.getAccessToken(SUB, PASSWORD)).thenReturn(expiringToken, AUTHORISATION);
+        userService = new UserService(idamClient, Clock.fixed(now, ZoneOffset.UTC));
+
+        String accessToken = userService.getAccessToken(SUB, PASSWORD);
+
+        assertThat(accessToken).isEqualTo(expiringToken);
+        verify(idamClient, timeout(1000).times(2)).getAccessToken(SUB, PASSWORD);
+    }
 }
@@ -0,0 +1,50 @@
+package uk.gov.hmcts.reform.civil.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+import static java.time.DayOfWeek.SATURDAY;
+import static java.time.DayOfWeek.SUNDAY;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WorkingDayCalendarTest {
+
+    private static final LocalDate BANK_HOLIDAY = LocalDate.of(2017, 5, 29);
+    private static final Set<LocalDate> HOLIDAYS = Set.of(BANK_HOLIDAY);
+
+    private final WorkingDayCalendar calendar = new WorkingDayCalendar(
+        LocalDate.of(2017, 1, 1),
+        LocalDate.of(2017, 12, 31),
+        date -> date.getDayOfWeek() == SATURDAY || date.getDayOfWeek() == SUNDAY || HOLIDAYS.contains(date)
+    );
+
+    @Test
+    void shouldCoverDatesWithinRangeOnly() {
+        assertThat(calendar.covers(LocalDate.of(2017, 1, 1))).isTrue();
+        assertThat(calendar.covers(LocalDate.of(2017, 12, 31))).isTrue();
+        assertThat(calendar.covers(LocalDate.of(2016, 12, 31))).isFalse();
+        assertThat(calendar.covers(LocalDate.of(2018, 1, 1))).isFalse();
+    }
+
+    @Test
+    void shouldTellWorkingDays() {
+        assertThat(calendar.isWorkingDay(LocalDate.of(2017, 5, 26))).isTrue();
+        assertThat(calendar.isWorkingDay(LocalDate.of(2017, 5, 27))).isFalse();
+        assertThat(calendar.isWorkingDay(BANK_HOLIDAY)).isFalse();
+    }
+
+    @Test
+    void shouldReturnNextAndPreviousWorkingDays_whenDateIsNotWorkingDay() {
+        assertThat(calendar.nextWorkingDay(LocalDate.of(2017, 5, 27))).isEqualTo(LocalDate.of(2017, 5, 30));
+        assertThat(calendar.previousWorkingDay(BANK_HOLIDAY)).isEqualTo(LocalDate.of(2017, 5, 26));
+        assertThat(calendar.nextWorkingDay(LocalDate.of(2017, 5, 30))).isEqualTo(LocalDate.of(2017, 5, 30));
+    }
+
+    @Test
+    void shouldReturnNull_whenNoWorkingDayIsLeftInRange() {
+        assertThat(calendar.nextWorkingDay(LocalDate.of(2017, 12, 30))).isNull();
+        assertThat(calendar.previousWorkingDay(LocalDate.of(2017, 1, 1))).isNull();
+    }
+}
@@ -2,9 +2,13 @@ package uk.gov.hmcts.reform.civil.service.bankholidays;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -12,6 +16,7 @@ import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -51,6 +56,57 @@ class PublicHolidaysCollectionTest {
         assertThat(resultFromApi).isSameAs(resultFromCache).isSameAs(resultFromCacheAgain);
     }
 
+    @Test
+    void shouldServeBundledSnapshot_whenApiIsUnavailableAtStartup() {
+        when(bankHolidaysApi.retrieveAll()).thenThrow(new IllegalStateException("gov.uk unavailable"));
+        PublicHolidaysCollection publicHolidaysCollection = new PublicHolidaysCollection(
+            bankHolidaysApi, null, Duration.ofHours(24));
+
+        publicHolidaysCollection.warmUp();
+        try {
+            assertThat(publicHolidaysCollection.getPublicHolidays()).contains(LocalDate.of(2026, 12, 28));
+        } finally {
+            publicHolidaysCollection.shutdown();
+        }
+    }
+
+    @Test
+    void shouldSwapInAndPersistHolidays_whenRefreshed(@TempDir Path directory) {
+        Path snapshot = directory.resolve("bank-holidays.json");
+        when(bankHolidaysApi.retrieveAll()).thenReturn(createExpectedResponse());
+        PublicHolidaysCollection publicHolidaysCollection = new PublicHolidaysCollection(
+            bankHolidaysApi, snapshot.toString(), Duration.ofHours(24));
+
+        publicHolidaysCollection.refresh();
+
+        assertThat(publicHolidaysCollection.getPublicHolidays()).containsOnly(BANK_HOLIDAY_1, BANK_HOLIDAY_2);
+        assertThat(Files.exists(snapshot)).isTrue();
+
+        BankHolidaysApi unavailableApi = mock(BankHolidaysApi.class);
+        when(unavailableApi.retrieveAll()).thenThrow(new IllegalStateException("gov.uk unavailable"));
+        PublicHolidaysCollection restarted = new PublicHolidaysCollection(
+            unavailableApi, snapshot.toString(), Duration.ofHours(24));
+        restarted.warmUp();
+        try {
+            assertThat(restarted.getPublicHolidays()).containsOnly(BANK_HOLIDAY_1, BANK_HOLIDAY_2);
+        } finally {
+            restarted.shutdown();
+        }
+    }
+
+    @Test
+    void shouldKeepPreviousHolidays_whenRefreshFails() {
+        when(bankHolidaysApi.retrieveAll())
+            .thenReturn(createExpectedResponse())
+            .thenThrow(new IllegalStateException("gov.uk unavailable"));
+        PublicHolidaysCollection publicHolidaysCollection = new PublicHolidaysCollection(bankHolidaysApi);
+
+        Set<LocalDate> publicHolidays = publicHolidaysCollection.getPublicHolidays();
+        publicHolidaysCollection.refresh();
+
+        assertThat(publicHolidaysCollection.getPublicHolidays()).isSameAs(publicHolidays);
+    }
+
     private static BankHolidays createExpectedResponse() {
         BankHolidays expResponse = new BankHolidays();
         expResponse.englandAndWales = new BankHolidays.Division();
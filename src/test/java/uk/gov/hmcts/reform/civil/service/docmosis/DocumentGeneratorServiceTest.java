@@ -1,5 +1,8 @@
 package uk.gov.hmcts.reform.civil.service.docmosis;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
@@ -13,20 +16,31 @@ import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResponseExtractor;
 import org.springframework.web.client.RestTemplate;
 import uk.gov.hmcts.reform.civil.config.DocmosisConfiguration;
 import uk.gov.hmcts.reform.civil.model.docmosis.DocmosisDocument;
 import uk.gov.hmcts.reform.civil.model.docmosis.DocmosisRequest;
 import uk.gov.hmcts.reform.civil.model.docmosis.sealedclaim.SealedClaimForm;
+import uk.gov.hmcts.reform.civil.service.documentmanagement.SpooledDocument;
 
+import java.io.ByteArrayInputStream;
 import java.time.LocalDate;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static uk.gov.hmcts.reform.civil.service.docmosis.DocmosisTemplates.N1;
 import static uk.gov.hmcts.reform.civil.service.docmosis.DocumentGeneratorService.API_RENDER;
@@ -83,5 +97,79 @@ class DocumentGeneratorServiceTest {
 
         assertThat(httpClientErrorException).hasMessageContaining("404 not found");
     }
-}
 
+    @Nested
+    class RenderAsync {
+
+        @Test
+        void shouldRenderDocumentInBackground() {
+            when(restTemplate.exchange(anyString(), eq(HttpMethod.POST), any(HttpEntity.class), eq(byte[].class)))
+                .thenReturn(ResponseEntity.ok(new byte[]{1, 2, 3}));
+
+            CompletableFuture<DocmosisDocument> document = documentGeneratorService.renderAsync(Map.of(), N1);
+
+            assertThat(document.join().getBytes()).isEqualTo(new byte[]{1, 2, 3});
+            assertThat(document.join().getDocumentTitle()).isEqualTo(N1.getDocumentTitle());
+        }
+
+        @Test
+        void shouldRejectRender_whenQueueIsFull() throws InterruptedException {
+            DocumentGeneratorService service = new DocumentGeneratorService(
+                restTemplate, configuration, new ObjectMapper(), 1, 1, SpooledDocument.DEFAULT_THRESHOLD);
+            CountDownLatch rendering = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            when(restTemplate.exchange(anyString(), eq(HttpMethod.POST), any(HttpEntity.class), eq(byte[].class)))
+                .thenAnswer(invocation -> {
+                    rendering.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+                    return ResponseEntity.ok(new byte[0]);
+                });
+
+            try {
+                CompletableFuture<DocmosisDocument> first = service.renderAsync(Map.of(), N1);
+                assertThat(rendering.await(5, TimeUnit.SECONDS)).isTrue();
+                CompletableFuture<DocmosisDocument> queued = service.renderAsync(Map.of(), N1);
+
+                assertThatThrownBy(() -> service.renderAsync(Map.of(), N1))
+                    .isInstanceOf(DocumentGenerationRejectedException.class);
+
+                release.countDown();
+                assertThat(first.join()).isNotNull();
+                assertThat(queued.join()).isNotNull();
+            } finally {
+                release.countDown();
+                service.shutdown();
+            }
+        }
+    }
+
+    @Nested
+    class GenerateSpooledDocument {
+
+        @Test
+        @SneakyThrows
+        void shouldSpoolDocmosisResponse() {
+            ClientHttpResponse response = mock(ClientHttpResponse.class);
+            when(response.getBody()).thenReturn(new ByteArrayInputStream(new byte[]{1, 2, 3}));
+            when(restTemplate.execute(eq(configuration.getUrl() + API_RENDER), eq(HttpMethod.POST), any(), any()))
+                .thenAnswer(invocation -> invocation.<ResponseExtractor<SpooledDocument>>getArgument(3)
+                    .extractData(response));
+
+            SealedClaimForm sealedClaimForm = SealedClaimForm.builder().issueDate(LocalDate.now()).build();
+            try (SpooledDocument document = documentGeneratorService.generateSpooledDocument(sealedClaimForm, N1)) {
+                assertThat(document.toByteArray()).isEqualTo(new byte[]{1, 2, 3});
+                assertThat(document.isSpilled()).isFalse();
+            }
+        }
+
+        @Test
+        void shouldThrow_whenTornadoFails() {
+            when(restTemplate.execute(anyString(), eq(HttpMethod.POST), any(), any()))
+                .thenThrow(new HttpClientErrorException(HttpStatus.NOT_FOUND, "not found"));
+
+            SealedClaimForm sealedClaimForm = SealedClaimForm.builder().issueDate(LocalDate.now()).build();
+            assertThatThrownBy(() -> documentGeneratorService.generateSpooledDocument(sealedClaimForm, N1))
+                .isInstanceOf(HttpClientErrorException.class);
+        }
+    }
+}
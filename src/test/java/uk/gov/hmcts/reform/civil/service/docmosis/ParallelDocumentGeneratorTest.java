@@ -0,0 +1,73 @@
+package uk.gov.hmcts.reform.civil.service.docmosis;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ParallelDocumentGeneratorTest {
+
+    private final ParallelDocumentGenerator generator = new ParallelDocumentGenerator(2);
+
+    @AfterEach
+    void tearDown() {
+        generator.shutdown();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void shouldGenerateDocumentsConcurrently_andReturnThemInOrder() {
+        CountDownLatch started = new CountDownLatch(2);
+        Supplier<String> first = () -> awaitOther(started, "ONE");
+        Supplier<String> second = () -> awaitOther(started, "TWO");
+
+        assertThat(generator.generate("test", List.of(first, second))).containsExactly("ONE", "TWO");
+    }
+
+    @Test
+    void shouldGenerateSingleDocumentOnCallingThread() {
+        Supplier<Thread> thread = Thread::currentThread;
+
+        assertThat(generator.generate("test", List.of(thread))).containsExactly(Thread.currentThread());
+    }
+
+    @Test
+    void shouldShareRequestAttributesWithWorkers() {
+        RequestAttributes request = new ServletRequestAttributes(new MockHttpServletRequest());
+        RequestContextHolder.setRequestAttributes(request);
+        Supplier<RequestAttributes> attributes = RequestContextHolder::getRequestAttributes;
+
+        assertThat(generator.generate("test", List.of(attributes, attributes))).containsOnly(request);
+    }
+
+    @Test
+    void shouldRethrowFailure_whenAnyDocumentFails() {
+        Supplier<String> failing = () -> {
+            throw new IllegalStateException("Docmosis unavailable");
+        };
+
+        assertThatThrownBy(() -> generator.generate("test", List.of(() -> "ONE", failing)))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("Docmosis unavailable");
+    }
+
+    private static String awaitOther(CountDownLatch started, String document) {
+        started.countDown();
+        try {
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return document;
+    }
+}
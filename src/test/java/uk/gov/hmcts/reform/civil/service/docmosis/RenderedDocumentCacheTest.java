@@ -0,0 +1,143 @@
+package uk.gov.hmcts.reform.civil.service.docmosis;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import uk.gov.hmcts.reform.civil.config.properties.docmosis.RenderedDocumentCacheProperties;
+import uk.gov.hmcts.reform.civil.model.docmosis.sealedclaim.SealedClaimForm;
+import uk.gov.hmcts.reform.civil.model.documents.CaseDocument;
+import uk.gov.hmcts.reform.civil.model.documents.Document;
+import uk.gov.hmcts.reform.civil.repositories.RenderedDocumentRepository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static uk.gov.hmcts.reform.civil.model.documents.DocumentType.SEALED_CLAIM;
+import static uk.gov.hmcts.reform.civil.service.docmosis.DocmosisTemplates.N1;
+import static uk.gov.hmcts.reform.civil.service.docmosis.DocmosisTemplates.N1_MULTIPARTY_SAME_SOL;
+
+class RenderedDocumentCacheTest {
+
+    private static final CaseDocument DOCUMENT = CaseDocument.builder()
+        .documentName("sealed_claim_form_000DC001.pdf")
+        .documentType(SEALED_CLAIM)
+        .documentSize(1024L)
+        .createdDatetime(LocalDateTime.of(2022, 3, 18, 10, 0))
+        .createdBy("Civil")
+        .documentLink(Document.builder()
+                          .documentUrl("http://dm-store/documents/1")
+                          .documentBinaryUrl("http://dm-store/documents/1/binary")
+                          .documentFileName("sealed_claim_form_000DC001.pdf")
+                          .build())
+        .build();
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final RenderedDocumentRepository repository = mock(RenderedDocumentRepository.class);
+    private final RenderedDocumentCacheProperties properties = new RenderedDocumentCacheProperties();
+    private final AtomicInteger generated = new AtomicInteger();
+    private final Supplier<CaseDocument> generator = () -> {
+        generated.incrementAndGet();
+        return DOCUMENT;
+    };
+
+    @Nested
+    class InMemory {
+
+        private final RenderedDocumentCache cache = new RenderedDocumentCache(
+            objectMapper, Optional.of(repository), properties);
+
+        @Test
+        void shouldGenerateOnce_whenSameTemplateDataIsRenderedAgain() {
+            assertThat(cache.computeIfAbsent(templateData("000DC001"), N1, generator)).isEqualTo(DOCUMENT);
+            assertThat(cache.computeIfAbsent(templateData("000DC001"), N1, generator)).isEqualTo(DOCUMENT);
+
+            assertThat(generated).hasValue(1);
+        }
+
+        @Test
+        void shouldGenerateAgain_whenTemplateDataDiffers() {
+            cache.computeIfAbsent(templateData("000DC001"), N1, generator);
+            cache.computeIfAbsent(templateData("000DC002"), N1, generator);
+
+            assertThat(generated).hasValue(2);
+        }
+
+        @Test
+        void shouldGenerateAgain_whenTemplateDiffers() {
+            cache.computeIfAbsent(templateData("000DC001"), N1, generator);
+            cache.computeIfAbsent(templateData("000DC001"), N1_MULTIPARTY_SAME_SOL, generator);
+
+            assertThat(generated).hasValue(2);
+        }
+
+        @Test
+        void shouldNotUseDatabase_whenNotPersistent() {
+            cache.computeIfAbsent(templateData("000DC001"), N1, generator);
+
+            verifyNoInteractions(repository);
+        }
+    }
+
+    @Nested
+    class Persistent {
+
+        private final RenderedDocumentCache cache = persistentCache();
+
+        @Test
+        void shouldReuseDocumentRenderedByAnotherInstance() throws Exception {
+            String key = cache.key(templateData("000DC001"), N1);
+            when(repository.findDocument(eq(key), anyLong()))
+                .thenReturn(Optional.of(objectMapper.writeValueAsString(DOCUMENT)));
+
+            assertThat(cache.computeIfAbsent(templateData("000DC001"), N1, generator)).isEqualTo(DOCUMENT);
+
+            assertThat(generated).hasValue(0);
+            verify(repository).findDocument(key, properties.getExpireAfter().toSeconds());
+        }
+
+        @Test
+        void shouldKeepGeneratedDocument() throws Exception {
+            when(repository.findDocument(anyString(), anyLong())).thenReturn(Optional.empty());
+
+            cache.computeIfAbsent(templateData("000DC001"), N1, generator);
+
+            verify(repository).save(
+                cache.key(templateData("000DC001"), N1),
+                N1.name(),
+                objectMapper.writeValueAsString(DOCUMENT)
+            );
+        }
+
+        @Test
+        void shouldGenerate_whenDatabaseIsUnavailable() {
+            when(repository.findDocument(anyString(), anyLong())).thenThrow(new IllegalStateException("down"));
+
+            assertThat(cache.computeIfAbsent(templateData("000DC001"), N1, generator)).isEqualTo(DOCUMENT);
+            assertThat(generated).hasValue(1);
+        }
+
+        private RenderedDocumentCache persistentCache() {
+            properties.setPersistent(true);
+            return new RenderedDocumentCache(objectMapper, Optional.of(repository), properties);
+        }
+    }
+
+    private static SealedClaimForm templateData(String referenceNumber) {
+        return SealedClaimForm.builder()
+            .referenceNumber(referenceNumber)
+            .issueDate(LocalDate.of(2022, 3, 18))
+            .build();
+    }
+}
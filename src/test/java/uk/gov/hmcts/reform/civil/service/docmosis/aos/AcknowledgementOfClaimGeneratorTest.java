@@ -14,17 +14,16 @@ import uk.gov.hmcts.reform.civil.model.CaseData;
 import uk.gov.hmcts.reform.civil.model.LitigationFriend;
 import uk.gov.hmcts.reform.civil.model.SolicitorReferences;
 import uk.gov.hmcts.reform.civil.model.common.MappableObject;
-import uk.gov.hmcts.reform.civil.model.docmosis.DocmosisDocument;
 import uk.gov.hmcts.reform.civil.model.docmosis.aos.AcknowledgementOfClaimForm;
 import uk.gov.hmcts.reform.civil.model.docmosis.common.Party;
 import uk.gov.hmcts.reform.civil.model.docmosis.sealedclaim.Representative;
 import uk.gov.hmcts.reform.civil.model.documents.CaseDocument;
-import uk.gov.hmcts.reform.civil.model.documents.PDF;
 import uk.gov.hmcts.reform.civil.sampledata.CaseDataBuilder;
 import uk.gov.hmcts.reform.civil.sampledata.CaseDocumentBuilder;
 import uk.gov.hmcts.reform.civil.sampledata.PartyBuilder;
 import uk.gov.hmcts.reform.civil.service.docmosis.DocumentGeneratorService;
 import uk.gov.hmcts.reform.civil.service.docmosis.RepresentativeService;
+import uk.gov.hmcts.reform.civil.service.documentmanagement.SpooledDocument;
 import uk.gov.hmcts.reform.civil.service.documentmanagement.UnsecuredDocumentManagementService;
 
 import java.time.LocalDateTime;
@@ -93,11 +92,12 @@ class AcknowledgementOfClaimGeneratorTest {
 
     @Test
     void shouldGenerateAcknowledgementOfClaim_whenValidDataIsProvided() {
-        when(documentGeneratorService.generateDocmosisDocument(any(MappableObject.class), eq(N11)))
-            .thenReturn(new DocmosisDocument(N11.getDocumentTitle(), bytes));
+        when(documentGeneratorService.generateSpooledDocument(any(MappableObject.class), eq(N11)))
+            .thenReturn(SpooledDocument.of(bytes));
 
         when(documentManagementService
-                 .uploadDocument(BEARER_TOKEN, new PDF(fileName, bytes, ACKNOWLEDGEMENT_OF_CLAIM)))
+                 .uploadDocument(eq(BEARER_TOKEN), eq(fileName), eq(ACKNOWLEDGEMENT_OF_CLAIM),
+                     any(SpooledDocument.class)))
             .thenReturn(CASE_DOCUMENT);
 
         CaseData caseData = CaseDataBuilder.builder().atStateNotificationAcknowledged().build();
@@ -125,18 +125,19 @@ class AcknowledgementOfClaimGeneratorTest {
 
         verify(representativeService).getRespondent1Representative(caseData);
         verify(documentManagementService)
-            .uploadDocument(BEARER_TOKEN, new PDF(fileName, bytes, ACKNOWLEDGEMENT_OF_CLAIM));
+            .uploadDocument(eq(BEARER_TOKEN), eq(fileName), eq(ACKNOWLEDGEMENT_OF_CLAIM), any(SpooledDocument.class));
         verify(documentGeneratorService)
-            .generateDocmosisDocument(expectedDocmosisData, N11);
+            .generateSpooledDocument(expectedDocmosisData, N11);
     }
 
     @Test
     void shouldGenerateAcknowledgementOfClaim_when1V2SameSolicitorDataIsProvided() {
-        when(documentGeneratorService.generateDocmosisDocument(any(MappableObject.class), eq(N9_MULTIPARTY_SAME_SOL)))
-            .thenReturn(new DocmosisDocument(N9_MULTIPARTY_SAME_SOL.getDocumentTitle(), bytes));
+        when(documentGeneratorService.generateSpooledDocument(any(MappableObject.class), eq(N9_MULTIPARTY_SAME_SOL)))
+            .thenReturn(SpooledDocument.of(bytes));
 
         when(documentManagementService
-                 .uploadDocument(BEARER_TOKEN, new PDF(fileName_1v2, bytes, ACKNOWLEDGEMENT_OF_CLAIM)))
+                 .uploadDocument(eq(BEARER_TOKEN), eq(fileName_1v2), eq(ACKNOWLEDGEMENT_OF_CLAIM),
+                     any(SpooledDocument.class)))
             .thenReturn(CASE_DOCUMENT_1V2);
 
         CaseData caseData = CaseDataBuilder.builder().atStateNotificationAcknowledged().build().toBuilder()
@@ -175,20 +176,22 @@ class AcknowledgementOfClaimGeneratorTest {
         CaseDocument caseDocument = generator.generate(caseData, BEARER_TOKEN);
         assertThat(caseDocument).isNotNull().isEqualTo(CASE_DOCUMENT_1V2);
         verify(documentGeneratorService)
-            .generateDocmosisDocument(expectedDocmosisData, N9_MULTIPARTY_SAME_SOL);
+            .generateSpooledDocument(expectedDocmosisData, N9_MULTIPARTY_SAME_SOL);
         verify(documentManagementService)
-            .uploadDocument(BEARER_TOKEN, new PDF(fileName_1v2, bytes, ACKNOWLEDGEMENT_OF_CLAIM));
-        verify(documentGeneratorService).generateDocmosisDocument(
+            .uploadDocument(eq(BEARER_TOKEN), eq(fileName_1v2), eq(ACKNOWLEDGEMENT_OF_CLAIM),
+                any(SpooledDocument.class));
+        verify(documentGeneratorService).generateSpooledDocument(
             any(AcknowledgementOfClaimForm.class), eq(N9_MULTIPARTY_SAME_SOL));
     }
 
     @Test
     void shouldGenerateAcknowledgementOfClaim_when1V2DifferentSolicitor1DataIsProvided() {
-        when(documentGeneratorService.generateDocmosisDocument(any(MappableObject.class), eq(N11)))
-            .thenReturn(new DocmosisDocument(N11.getDocumentTitle(), bytes));
+        when(documentGeneratorService.generateSpooledDocument(any(MappableObject.class), eq(N11)))
+            .thenReturn(SpooledDocument.of(bytes));
 
         when(documentManagementService
-                 .uploadDocument(BEARER_TOKEN, new PDF(fileName, bytes, ACKNOWLEDGEMENT_OF_CLAIM)))
+                 .uploadDocument(eq(BEARER_TOKEN), eq(fileName), eq(ACKNOWLEDGEMENT_OF_CLAIM),
+                     any(SpooledDocument.class)))
             .thenReturn(CASE_DOCUMENT);
 
         CaseData caseData = CaseDataBuilder.builder().atStateNotificationAcknowledged().build().toBuilder()
@@ -227,20 +230,21 @@ class AcknowledgementOfClaimGeneratorTest {
         CaseDocument caseDocument = generator.generate(caseData, BEARER_TOKEN);
         assertThat(caseDocument).isNotNull().isEqualTo(CASE_DOCUMENT);
         verify(documentGeneratorService)
-            .generateDocmosisDocument(expectedDocmosisData, N11);
+            .generateSpooledDocument(expectedDocmosisData, N11);
         verify(documentManagementService)
-            .uploadDocument(BEARER_TOKEN, new PDF(fileName, bytes, ACKNOWLEDGEMENT_OF_CLAIM));
-        verify(documentGeneratorService).generateDocmosisDocument(
+            .uploadDocument(eq(BEARER_TOKEN), eq(fileName), eq(ACKNOWLEDGEMENT_OF_CLAIM), any(SpooledDocument.class));
+        verify(documentGeneratorService).generateSpooledDocument(
             any(AcknowledgementOfClaimForm.class), eq(N11));
     }
 
     @Test
     void shouldGenerateAcknowledgementOfClaim_when1V2DifferentSolicitor2DataIsProvided() {
-        when(documentGeneratorService.generateDocmosisDocument(any(MappableObject.class), eq(N11)))
-            .thenReturn(new DocmosisDocument(N11.getDocumentTitle(), bytes));
+        when(documentGeneratorService.generateSpooledDocument(any(MappableObject.class), eq(N11)))
+            .thenReturn(SpooledDocument.of(bytes));
 
         when(documentManagementService
-                 .uploadDocument(BEARER_TOKEN, new PDF(fileName, bytes, ACKNOWLEDGEMENT_OF_CLAIM)))
+                 .uploadDocument(eq(BEARER_TOKEN), eq(fileName), eq(ACKNOWLEDGEMENT_OF_CLAIM),
+                     any(SpooledDocument.class)))
             .thenReturn(CASE_DOCUMENT);
 
         CaseData caseData = CaseDataBuilder.builder().atStateNotificationAcknowledged().build().toBuilder()
@@ -281,20 +285,21 @@ class AcknowledgementOfClaimGeneratorTest {
         CaseDocument caseDocument = generator.generate(caseData, BEARER_TOKEN);
         assertThat(caseDocument).isNotNull().isEqualTo(CASE_DOCUMENT);
         verify(documentGeneratorService)
-            .generateDocmosisDocument(expectedDocmosisData, N11);
+            .generateSpooledDocument(expectedDocmosisData, N11);
         verify(documentManagementService)
-            .uploadDocument(BEARER_TOKEN, new PDF(fileName, bytes, ACKNOWLEDGEMENT_OF_CLAIM));
-        verify(documentGeneratorService).generateDocmosisDocument(
+            .uploadDocument(eq(BEARER_TOKEN), eq(fileName), eq(ACKNOWLEDGEMENT_OF_CLAIM), any(SpooledDocument.class));
+        verify(documentGeneratorService).generateSpooledDocument(
             any(AcknowledgementOfClaimForm.class), eq(N11));
     }
 
     @Test
     void shouldGenerateAcknowledgementOfClaim_when1V2DifferentSolicitor1AcknowledgesFirst() {
-        when(documentGeneratorService.generateDocmosisDocument(any(MappableObject.class), eq(N11)))
-            .thenReturn(new DocmosisDocument(N11.getDocumentTitle(), bytes));
+        when(documentGeneratorService.generateSpooledDocument(any(MappableObject.class), eq(N11)))
+            .thenReturn(SpooledDocument.of(bytes));
 
         when(documentManagementService
-                 .uploadDocument(BEARER_TOKEN, new PDF(fileName, bytes, ACKNOWLEDGEMENT_OF_CLAIM)))
+                 .uploadDocument(eq(BEARER_TOKEN), eq(fileName), eq(ACKNOWLEDGEMENT_OF_CLAIM),
+                     any(SpooledDocument.class)))
             .thenReturn(CASE_DOCUMENT);
 
         CaseData caseData = CaseDataBuilder.builder().atStateNotificationAcknowledged().build().toBuilder()
@@ -311,18 +316,19 @@ class AcknowledgementOfClaimGeneratorTest {
         assertThat(caseDocument).isNotNull().isEqualTo(CASE_DOCUMENT);
 
         verify(documentManagementService)
-            .uploadDocument(BEARER_TOKEN, new PDF(fileName, bytes, ACKNOWLEDGEMENT_OF_CLAIM));
-        verify(documentGeneratorService).generateDocmosisDocument(
+            .uploadDocument(eq(BEARER_TOKEN), eq(fileName), eq(ACKNOWLEDGEMENT_OF_CLAIM), any(SpooledDocument.class));
+        verify(documentGeneratorService).generateSpooledDocument(
             any(AcknowledgementOfClaimForm.class), eq(N11));
     }
 
     @Test
     void shouldGenerateAcknowledgementOfClaim_when1V2DifferentSolicitor2AcknowledgesFirst() {
-        when(documentGeneratorService.generateDocmosisDocument(any(MappableObject.class), eq(N11)))
-            .thenReturn(new DocmosisDocument(N11.getDocumentTitle(), bytes));
+        when(documentGeneratorService.generateSpooledDocument(any(MappableObject.class), eq(N11)))
+            .thenReturn(SpooledDocument.of(bytes));
 
         when(documentManagementService
-                 .uploadDocument(BEARER_TOKEN, new PDF(fileName, bytes, ACKNOWLEDGEMENT_OF_CLAIM)))
+                 .uploadDocument(eq(BEARER_TOKEN), eq(fileName), eq(ACKNOWLEDGEMENT_OF_CLAIM),
+                     any(SpooledDocument.class)))
             .thenReturn(CASE_DOCUMENT);
 
         CaseData caseData = CaseDataBuilder.builder().atStateNotificationAcknowledged().build().toBuilder()
@@ -338,8 +344,8 @@ class AcknowledgementOfClaimGeneratorTest {
         assertThat(caseDocument).isNotNull().isEqualTo(CASE_DOCUMENT);
 
         verify(documentManagementService)
-            .uploadDocument(BEARER_TOKEN, new PDF(fileName, bytes, ACKNOWLEDGEMENT_OF_CLAIM));
-        verify(documentGeneratorService).generateDocmosisDocument(
+            .uploadDocument(eq(BEARER_TOKEN), eq(fileName), eq(ACKNOWLEDGEMENT_OF_CLAIM), any(SpooledDocument.class));
+        verify(documentGeneratorService).generateSpooledDocument(
             any(AcknowledgementOfClaimForm.class), eq(N11));
     }
 
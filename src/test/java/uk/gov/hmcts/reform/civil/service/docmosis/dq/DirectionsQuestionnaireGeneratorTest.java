@@ -21,7 +21,6 @@ import uk.gov.hmcts.reform.civil.model.BusinessProcess;
 import uk.gov.hmcts.reform.civil.model.CaseData;
 import uk.gov.hmcts.reform.civil.model.LitigationFriend;
 import uk.gov.hmcts.reform.civil.model.common.MappableObject;
-import uk.gov.hmcts.reform.civil.model.docmosis.DocmosisDocument;
 import uk.gov.hmcts.reform.civil.model.docmosis.common.Party;
 import uk.gov.hmcts.reform.civil.model.docmosis.dq.DirectionsQuestionnaireForm;
 import uk.gov.hmcts.reform.civil.model.docmosis.dq.Expert;
@@ -31,7 +30,6 @@ import uk.gov.hmcts.reform.civil.model.docmosis.dq.WelshLanguageRequirements;
 import uk.gov.hmcts.reform.civil.model.docmosis.dq.Witnesses;
 import uk.gov.hmcts.reform.civil.model.docmosis.sealedclaim.Representative;
 import uk.gov.hmcts.reform.civil.model.documents.CaseDocument;
-import uk.gov.hmcts.reform.civil.model.documents.PDF;
 import uk.gov.hmcts.reform.civil.model.dq.DQ;
 import uk.gov.hmcts.reform.civil.model.dq.DisclosureReport;
 import uk.gov.hmcts.reform.civil.model.dq.FurtherInformation;
@@ -44,6 +42,7 @@ import uk.gov.hmcts.reform.civil.sampledata.PartyBuilder;
 import uk.gov.hmcts.reform.civil.service.docmosis.DocmosisTemplates;
 import uk.gov.hmcts.reform.civil.service.docmosis.DocumentGeneratorService;
 import uk.gov.hmcts.reform.civil.service.docmosis.RepresentativeService;
+import uk.gov.hmcts.reform.civil.service.documentmanagement.SpooledDocument;
 import uk.gov.hmcts.reform.civil.service.documentmanagement.UnsecuredDocumentManagementService;
 import uk.gov.hmcts.reform.civil.service.flowstate.StateFlowEngine;
 import uk.gov.hmcts.reform.civil.utils.ElementUtils;
@@ -133,10 +132,10 @@ class DirectionsQuestionnaireGeneratorTest {
 
         @Test
         void shouldGenerateRespondentOneCertificateOfService_whenStateFlowIsFullDefence() {
-            when(documentGeneratorService.generateDocmosisDocument(any(MappableObject.class), eq(N181)))
-                .thenReturn(new DocmosisDocument(N181.getDocumentTitle(), bytes));
+            when(documentGeneratorService.generateSpooledDocument(any(MappableObject.class), eq(N181)))
+                .thenReturn(SpooledDocument.of(bytes));
             when(documentManagementService.uploadDocument(
-                BEARER_TOKEN, new PDF(FILE_NAME_DEFENDANT, bytes, DIRECTIONS_QUESTIONNAIRE))
+                eq(BEARER_TOKEN), eq(FILE_NAME_DEFENDANT), eq(DIRECTIONS_QUESTIONNAIRE), any(SpooledDocument.class))
             ).thenReturn(CASE_DOCUMENT_DEFENDANT);
 
             CaseData caseData = CaseDataBuilder.builder().atStateRespondentFullDefence().build();
@@ -146,17 +145,18 @@ class DirectionsQuestionnaireGeneratorTest {
 
             verify(representativeService).getRespondent1Representative(caseData);
             verify(documentManagementService)
-                .uploadDocument(BEARER_TOKEN, new PDF(FILE_NAME_DEFENDANT, bytes, DIRECTIONS_QUESTIONNAIRE));
-            verify(documentGeneratorService).generateDocmosisDocument(any(DirectionsQuestionnaireForm.class), eq(N181));
+                .uploadDocument(eq(BEARER_TOKEN), eq(FILE_NAME_DEFENDANT), eq(DIRECTIONS_QUESTIONNAIRE),
+                    any(SpooledDocument.class));
+            verify(documentGeneratorService).generateSpooledDocument(any(DirectionsQuestionnaireForm.class), eq(N181));
         }
 
         @Test
         void shouldGenerateClaimantCertificateOfService_whenStateFlowIsRespondToDefenceAndProceed() {
-            when(documentGeneratorService.generateDocmosisDocument(any(MappableObject.class), eq(N181)))
-                .thenReturn(new DocmosisDocument(N181.getDocumentTitle(), bytes));
+            when(documentGeneratorService.generateSpooledDocument(any(MappableObject.class), eq(N181)))
+                .thenReturn(SpooledDocument.of(bytes));
 
             when(documentManagementService.uploadDocument(
-                BEARER_TOKEN, new PDF(FILE_NAME_CLAIMANT, bytes, DIRECTIONS_QUESTIONNAIRE))
+                eq(BEARER_TOKEN), eq(FILE_NAME_CLAIMANT), eq(DIRECTIONS_QUESTIONNAIRE), any(SpooledDocument.class))
             ).thenReturn(CASE_DOCUMENT_CLAIMANT);
 
             CaseData caseData = CaseDataBuilder.builder()
@@ -169,17 +169,18 @@ class DirectionsQuestionnaireGeneratorTest {
 
             verify(representativeService).getRespondent1Representative(caseData);
             verify(documentManagementService)
-                .uploadDocument(BEARER_TOKEN, new PDF(FILE_NAME_CLAIMANT, bytes, DIRECTIONS_QUESTIONNAIRE));
-            verify(documentGeneratorService).generateDocmosisDocument(any(DirectionsQuestionnaireForm.class), eq(N181));
+                .uploadDocument(eq(BEARER_TOKEN), eq(FILE_NAME_CLAIMANT), eq(DIRECTIONS_QUESTIONNAIRE),
+                    any(SpooledDocument.class));
+            verify(documentGeneratorService).generateSpooledDocument(any(DirectionsQuestionnaireForm.class), eq(N181));
         }
 
         @Test
         void shouldGenerateDQ_when2v1ScenarioWithFullDefence() {
-            when(documentGeneratorService.generateDocmosisDocument(any(MappableObject.class), eq(N181_2V1)))
-                .thenReturn(new DocmosisDocument(N181_2V1.getDocumentTitle(), bytes));
+            when(documentGeneratorService.generateSpooledDocument(any(MappableObject.class), eq(N181_2V1)))
+                .thenReturn(SpooledDocument.of(bytes));
 
             when(documentManagementService.uploadDocument(
-                BEARER_TOKEN, new PDF(FILE_NAME_DEFENDANT, bytes, DIRECTIONS_QUESTIONNAIRE))
+                eq(BEARER_TOKEN), eq(FILE_NAME_DEFENDANT), eq(DIRECTIONS_QUESTIONNAIRE), any(SpooledDocument.class))
             ).thenReturn(CASE_DOCUMENT_DEFENDANT);
 
             CaseData caseData = CaseDataBuilder.builder()
@@ -192,19 +193,20 @@ class DirectionsQuestionnaireGeneratorTest {
             assertThat(caseDocument).isNotNull().isEqualTo(CASE_DOCUMENT_DEFENDANT);
             verify(representativeService).getRespondent1Representative(caseData);
             verify(documentManagementService)
-                .uploadDocument(BEARER_TOKEN, new PDF(FILE_NAME_DEFENDANT, bytes, DIRECTIONS_QUESTIONNAIRE));
-            verify(documentGeneratorService).generateDocmosisDocument(any(DirectionsQuestionnaireForm.class),
+                .uploadDocument(eq(BEARER_TOKEN), eq(FILE_NAME_DEFENDANT), eq(DIRECTIONS_QUESTIONNAIRE),
+                    any(SpooledDocument.class));
+            verify(documentGeneratorService).generateSpooledDocument(any(DirectionsQuestionnaireForm.class),
                 eq(N181_2V1));
         }
 
         @Test
         void shouldGenerateDQ_when1v2SameSolicitorScenarioWithFullDefence() {
-            when(documentGeneratorService.generateDocmosisDocument(
+            when(documentGeneratorService.generateSpooledDocument(
                 any(MappableObject.class), eq(N181_MULTIPARTY_SAME_SOL)))
-                .thenReturn(new DocmosisDocument(N181_MULTIPARTY_SAME_SOL.getDocumentTitle(), bytes));
+                .thenReturn(SpooledDocument.of(bytes));
 
             when(documentManagementService.uploadDocument(
-                BEARER_TOKEN, new PDF(FILE_NAME_DEFENDANT, bytes, DIRECTIONS_QUESTIONNAIRE))
+                eq(BEARER_TOKEN), eq(FILE_NAME_DEFENDANT), eq(DIRECTIONS_QUESTIONNAIRE), any(SpooledDocument.class))
             ).thenReturn(CASE_DOCUMENT_DEFENDANT);
 
             CaseData caseData = CaseDataBuilder.builder()
@@ -219,22 +221,22 @@ class DirectionsQuestionnaireGeneratorTest {
 
             assertThat(caseDocument).isNotNull().isEqualTo(CASE_DOCUMENT_DEFENDANT);
             verify(documentManagementService)
-                .uploadDocument(BEARER_TOKEN, new PDF(FILE_NAME_DEFENDANT, bytes, DIRECTIONS_QUESTIONNAIRE));
-            verify(documentGeneratorService).generateDocmosisDocument(any(DirectionsQuestionnaireForm.class),
+                .uploadDocument(eq(BEARER_TOKEN), eq(FILE_NAME_DEFENDANT), eq(DIRECTIONS_QUESTIONNAIRE),
+                    any(SpooledDocument.class));
+            verify(documentGeneratorService).generateSpooledDocument(any(DirectionsQuestionnaireForm.class),
                                                                       eq(N181_MULTIPARTY_SAME_SOL));
         }
 
         @Test
         void specGenerate() {
-            when(documentGeneratorService.generateDocmosisDocument(
+            when(documentGeneratorService.generateSpooledDocument(
                 any(MappableObject.class), eq(DocmosisTemplates.DEFENDANT_RESPONSE_SPEC)))
-                .thenReturn(new DocmosisDocument(
-                    DocmosisTemplates.DEFENDANT_RESPONSE_SPEC.getDocumentTitle(), bytes));
+                .thenReturn(SpooledDocument.of(bytes));
 
             String expectedTitle = format(DocmosisTemplates.DEFENDANT_RESPONSE_SPEC.getDocumentTitle(),
                    "defendant", REFERENCE_NUMBER);
             when(documentManagementService.uploadDocument(
-                BEARER_TOKEN, new PDF(expectedTitle, bytes, DIRECTIONS_QUESTIONNAIRE))
+                eq(BEARER_TOKEN), eq(expectedTitle), eq(DIRECTIONS_QUESTIONNAIRE), any(SpooledDocument.class))
             ).thenReturn(CASE_DOCUMENT_DEFENDANT);
 
             CaseData caseData = CaseDataBuilder.builder()
@@ -247,8 +249,9 @@ class DirectionsQuestionnaireGeneratorTest {
 
             assertThat(caseDocument).isNotNull().isEqualTo(CASE_DOCUMENT_DEFENDANT);
             verify(documentManagementService)
-                .uploadDocument(BEARER_TOKEN, new PDF(expectedTitle, bytes, DIRECTIONS_QUESTIONNAIRE));
-            verify(documentGeneratorService).generateDocmosisDocument(any(DirectionsQuestionnaireForm.class),
+                .uploadDocument(eq(BEARER_TOKEN), eq(expectedTitle), eq(DIRECTIONS_QUESTIONNAIRE),
+                    any(SpooledDocument.class));
+            verify(documentGeneratorService).generateSpooledDocument(any(DirectionsQuestionnaireForm.class),
                                                                       eq(DocmosisTemplates.DEFENDANT_RESPONSE_SPEC));
         }
 
@@ -701,10 +704,10 @@ class DirectionsQuestionnaireGeneratorTest {
 
         @Test
         void shouldGenerateRespondentTwoCertificateOfService_whenStateFlowIsFullDefenceForBoth() {
-            when(documentGeneratorService.generateDocmosisDocument(any(MappableObject.class), eq(N181)))
-                .thenReturn(new DocmosisDocument(N181.getDocumentTitle(), bytes));
+            when(documentGeneratorService.generateSpooledDocument(any(MappableObject.class), eq(N181)))
+                .thenReturn(SpooledDocument.of(bytes));
             when(documentManagementService.uploadDocument(
-                BEARER_TOKEN, new PDF(FILE_NAME_DEFENDANT, bytes, DIRECTIONS_QUESTIONNAIRE))
+                eq(BEARER_TOKEN), eq(FILE_NAME_DEFENDANT), eq(DIRECTIONS_QUESTIONNAIRE), any(SpooledDocument.class))
             ).thenReturn(CASE_DOCUMENT_DEFENDANT);
 
             CaseData caseData = CaseDataBuilder.builder()
@@ -717,17 +720,18 @@ class DirectionsQuestionnaireGeneratorTest {
 
             verify(representativeService).getRespondent2Representative(caseData);
             verify(documentManagementService)
-                .uploadDocument(BEARER_TOKEN, new PDF(FILE_NAME_DEFENDANT, bytes, DIRECTIONS_QUESTIONNAIRE));
-            verify(documentGeneratorService).generateDocmosisDocument(any(DirectionsQuestionnaireForm.class), eq(N181));
+                .uploadDocument(eq(BEARER_TOKEN), eq(FILE_NAME_DEFENDANT), eq(DIRECTIONS_QUESTIONNAIRE),
+                    any(SpooledDocument.class));
+            verify(documentGeneratorService).generateSpooledDocument(any(DirectionsQuestionnaireForm.class), eq(N181));
         }
 
         @Test
         void shouldGenerateClaimantCertificateOfService_whenStateFlowIsRespondToDefenceAndProceed() {
-            when(documentGeneratorService.generateDocmosisDocument(any(MappableObject.class), eq(N181)))
-                .thenReturn(new DocmosisDocument(N181.getDocumentTitle(), bytes));
+            when(documentGeneratorService.generateSpooledDocument(any(MappableObject.class), eq(N181)))
+                .thenReturn(SpooledDocument.of(bytes));
 
             when(documentManagementService.uploadDocument(
-                BEARER_TOKEN, new PDF(FILE_NAME_CLAIMANT, bytes, DIRECTIONS_QUESTIONNAIRE))
+                eq(BEARER_TOKEN), eq(FILE_NAME_CLAIMANT), eq(DIRECTIONS_QUESTIONNAIRE), any(SpooledDocument.class))
             ).thenReturn(CASE_DOCUMENT_CLAIMANT);
 
             CaseData caseData = CaseDataBuilder.builder()
@@ -741,8 +745,9 @@ class DirectionsQuestionnaireGeneratorTest {
 
             verify(representativeService).getRespondent1Representative(caseData);
             verify(documentManagementService)
-                .uploadDocument(BEARER_TOKEN, new PDF(FILE_NAME_CLAIMANT, bytes, DIRECTIONS_QUESTIONNAIRE));
-            verify(documentGeneratorService).generateDocmosisDocument(any(DirectionsQuestionnaireForm.class), eq(N181));
+                .uploadDocument(eq(BEARER_TOKEN), eq(FILE_NAME_CLAIMANT), eq(DIRECTIONS_QUESTIONNAIRE),
+                    any(SpooledDocument.class));
+            verify(documentGeneratorService).generateSpooledDocument(any(DirectionsQuestionnaireForm.class), eq(N181));
         }
 
         @Nested
@@ -797,10 +802,10 @@ class DirectionsQuestionnaireGeneratorTest {
 
             @Test
             void when1v2SolRespondsTo2ndDefendantWithDivergentResponse_shouldGetRespondentDQData() {
-                when(documentGeneratorService.generateDocmosisDocument(any(MappableObject.class), eq(N181)))
-                    .thenReturn(new DocmosisDocument(N181.getDocumentTitle(), bytes));
+                when(documentGeneratorService.generateSpooledDocument(any(MappableObject.class), eq(N181)))
+                    .thenReturn(SpooledDocument.of(bytes));
                 when(documentManagementService.uploadDocument(
-                    BEARER_TOKEN, new PDF(FILE_NAME_DEFENDANT, bytes, DIRECTIONS_QUESTIONNAIRE))
+                    eq(BEARER_TOKEN), eq(FILE_NAME_DEFENDANT), eq(DIRECTIONS_QUESTIONNAIRE), any(SpooledDocument.class))
                 ).thenReturn(CASE_DOCUMENT_DEFENDANT);
 
                 CaseData caseData = CaseDataBuilder.builder()
@@ -818,17 +823,18 @@ class DirectionsQuestionnaireGeneratorTest {
                 assertThat(caseDocument).isNotNull().isEqualTo(CASE_DOCUMENT_DEFENDANT);
 
                 verify(documentManagementService)
-                    .uploadDocument(BEARER_TOKEN, new PDF(FILE_NAME_DEFENDANT, bytes, DIRECTIONS_QUESTIONNAIRE));
-                verify(documentGeneratorService).generateDocmosisDocument(any(DirectionsQuestionnaireForm.class),
+                    .uploadDocument(eq(BEARER_TOKEN), eq(FILE_NAME_DEFENDANT), eq(DIRECTIONS_QUESTIONNAIRE),
+                        any(SpooledDocument.class));
+                verify(documentGeneratorService).generateSpooledDocument(any(DirectionsQuestionnaireForm.class),
                                                                           eq(N181));
             }
 
             @Test
             void when1v2SolRespondsTo1stDefendantWithDivergentResponse_shouldGetRespondentDQData() {
-                when(documentGeneratorService.generateDocmosisDocument(any(MappableObject.class), eq(N181)))
-                    .thenReturn(new DocmosisDocument(N181.getDocumentTitle(), bytes));
+                when(documentGeneratorService.generateSpooledDocument(any(MappableObject.class), eq(N181)))
+                    .thenReturn(SpooledDocument.of(bytes));
                 when(documentManagementService.uploadDocument(
-                    BEARER_TOKEN, new PDF(FILE_NAME_DEFENDANT, bytes, DIRECTIONS_QUESTIONNAIRE))
+                    eq(BEARER_TOKEN), eq(FILE_NAME_DEFENDANT), eq(DIRECTIONS_QUESTIONNAIRE), any(SpooledDocument.class))
                 ).thenReturn(CASE_DOCUMENT_DEFENDANT);
 
                 CaseData caseData = CaseDataBuilder.builder()
@@ -846,8 +852,9 @@ class DirectionsQuestionnaireGeneratorTest {
                 assertThat(caseDocument).isNotNull().isEqualTo(CASE_DOCUMENT_DEFENDANT);
 
                 verify(documentManagementService)
-                    .uploadDocument(BEARER_TOKEN, new PDF(FILE_NAME_DEFENDANT, bytes, DIRECTIONS_QUESTIONNAIRE));
-                verify(documentGeneratorService).generateDocmosisDocument(any(DirectionsQuestionnaireForm.class),
+                    .uploadDocument(eq(BEARER_TOKEN), eq(FILE_NAME_DEFENDANT), eq(DIRECTIONS_QUESTIONNAIRE),
+                        any(SpooledDocument.class));
+                verify(documentGeneratorService).generateSpooledDocument(any(DirectionsQuestionnaireForm.class),
                     eq(N181));
             }
 
@@ -1039,10 +1046,10 @@ class DirectionsQuestionnaireGeneratorTest {
 
         @Test
         void shouldGenerateN181Document_whenTwoApplicantRespondWithOnlyFirstIntendsToProceed() {
-            when(documentGeneratorService.generateDocmosisDocument(any(MappableObject.class), eq(N181)))
-                .thenReturn(new DocmosisDocument(N181.getDocumentTitle(), bytes));
+            when(documentGeneratorService.generateSpooledDocument(any(MappableObject.class), eq(N181)))
+                .thenReturn(SpooledDocument.of(bytes));
             when(documentManagementService.uploadDocument(
-                BEARER_TOKEN, new PDF(FILE_NAME_CLAIMANT, bytes, DIRECTIONS_QUESTIONNAIRE))
+                eq(BEARER_TOKEN), eq(FILE_NAME_CLAIMANT), eq(DIRECTIONS_QUESTIONNAIRE), any(SpooledDocument.class))
             ).thenReturn(CASE_DOCUMENT_CLAIMANT);
 
             CaseData caseData = CaseDataBuilder.builder()
@@ -1059,16 +1066,17 @@ class DirectionsQuestionnaireGeneratorTest {
             assertThat(caseDocument).isNotNull().isEqualTo(CASE_DOCUMENT_CLAIMANT);
 
             verify(documentManagementService)
-                .uploadDocument(BEARER_TOKEN, new PDF(FILE_NAME_CLAIMANT, bytes, DIRECTIONS_QUESTIONNAIRE));
-            verify(documentGeneratorService).generateDocmosisDocument(any(DirectionsQuestionnaireForm.class), eq(N181));
+                .uploadDocument(eq(BEARER_TOKEN), eq(FILE_NAME_CLAIMANT), eq(DIRECTIONS_QUESTIONNAIRE),
+                    any(SpooledDocument.class));
+            verify(documentGeneratorService).generateSpooledDocument(any(DirectionsQuestionnaireForm.class), eq(N181));
         }
 
         @Test
         void shouldGenerateN181Document_whenTwoApplicantRespondWithOnlySecondIntendsToProceed() {
-            when(documentGeneratorService.generateDocmosisDocument(any(MappableObject.class), eq(N181)))
-                .thenReturn(new DocmosisDocument(N181.getDocumentTitle(), bytes));
+            when(documentGeneratorService.generateSpooledDocument(any(MappableObject.class), eq(N181)))
+                .thenReturn(SpooledDocument.of(bytes));
             when(documentManagementService.uploadDocument(
-                BEARER_TOKEN, new PDF(FILE_NAME_CLAIMANT, bytes, DIRECTIONS_QUESTIONNAIRE))
+                eq(BEARER_TOKEN), eq(FILE_NAME_CLAIMANT), eq(DIRECTIONS_QUESTIONNAIRE), any(SpooledDocument.class))
             ).thenReturn(CASE_DOCUMENT_CLAIMANT);
 
             CaseData caseData = CaseDataBuilder.builder()
@@ -1087,16 +1095,17 @@ class DirectionsQuestionnaireGeneratorTest {
             assertThat(caseDocument).isNotNull().isEqualTo(CASE_DOCUMENT_CLAIMANT);
 
             verify(documentManagementService)
-                .uploadDocument(BEARER_TOKEN, new PDF(FILE_NAME_CLAIMANT, bytes, DIRECTIONS_QUESTIONNAIRE));
-            verify(documentGeneratorService).generateDocmosisDocument(any(DirectionsQuestionnaireForm.class), eq(N181));
+                .uploadDocument(eq(BEARER_TOKEN), eq(FILE_NAME_CLAIMANT), eq(DIRECTIONS_QUESTIONNAIRE),
+                    any(SpooledDocument.class));
+            verify(documentGeneratorService).generateSpooledDocument(any(DirectionsQuestionnaireForm.class), eq(N181));
         }
 
         @Test
         void shouldGenerateN181Document_whenOneApplicantIntendsToProceedAgainstOnlyFirstDefendant() {
-            when(documentGeneratorService.generateDocmosisDocument(any(MappableObject.class), eq(N181)))
-                .thenReturn(new DocmosisDocument(N181.getDocumentTitle(), bytes));
+            when(documentGeneratorService.generateSpooledDocument(any(MappableObject.class), eq(N181)))
+                .thenReturn(SpooledDocument.of(bytes));
             when(documentManagementService.uploadDocument(
-                BEARER_TOKEN, new PDF(FILE_NAME_CLAIMANT, bytes, DIRECTIONS_QUESTIONNAIRE))
+                eq(BEARER_TOKEN), eq(FILE_NAME_CLAIMANT), eq(DIRECTIONS_QUESTIONNAIRE), any(SpooledDocument.class))
             ).thenReturn(CASE_DOCUMENT_CLAIMANT);
 
             CaseData caseData = CaseDataBuilder.builder()
@@ -1113,16 +1122,17 @@ class DirectionsQuestionnaireGeneratorTest {
             assertThat(caseDocument).isNotNull().isEqualTo(CASE_DOCUMENT_CLAIMANT);
 
             verify(documentManagementService)
-                .uploadDocument(BEARER_TOKEN, new PDF(FILE_NAME_CLAIMANT, bytes, DIRECTIONS_QUESTIONNAIRE));
-            verify(documentGeneratorService).generateDocmosisDocument(any(DirectionsQuestionnaireForm.class), eq(N181));
+                .uploadDocument(eq(BEARER_TOKEN), eq(FILE_NAME_CLAIMANT), eq(DIRECTIONS_QUESTIONNAIRE),
+                    any(SpooledDocument.class));
+            verify(documentGeneratorService).generateSpooledDocument(any(DirectionsQuestionnaireForm.class), eq(N181));
         }
 
         @Test
         void shouldGenerateN181Document_whenOneApplicantIntendsToProceedAgainstOnlySecondDefendant() {
-            when(documentGeneratorService.generateDocmosisDocument(any(MappableObject.class), eq(N181)))
-                .thenReturn(new DocmosisDocument(N181.getDocumentTitle(), bytes));
+            when(documentGeneratorService.generateSpooledDocument(any(MappableObject.class), eq(N181)))
+                .thenReturn(SpooledDocument.of(bytes));
             when(documentManagementService.uploadDocument(
-                BEARER_TOKEN, new PDF(FILE_NAME_CLAIMANT, bytes, DIRECTIONS_QUESTIONNAIRE))
+                eq(BEARER_TOKEN), eq(FILE_NAME_CLAIMANT), eq(DIRECTIONS_QUESTIONNAIRE), any(SpooledDocument.class))
             ).thenReturn(CASE_DOCUMENT_CLAIMANT);
 
             CaseData caseData = CaseDataBuilder.builder()
@@ -1139,17 +1149,18 @@ class DirectionsQuestionnaireGeneratorTest {
             assertThat(caseDocument).isNotNull().isEqualTo(CASE_DOCUMENT_CLAIMANT);
 
             verify(documentManagementService)
-                .uploadDocument(BEARER_TOKEN, new PDF(FILE_NAME_CLAIMANT, bytes, DIRECTIONS_QUESTIONNAIRE));
-            verify(documentGeneratorService).generateDocmosisDocument(any(DirectionsQuestionnaireForm.class), eq(N181));
+                .uploadDocument(eq(BEARER_TOKEN), eq(FILE_NAME_CLAIMANT), eq(DIRECTIONS_QUESTIONNAIRE),
+                    any(SpooledDocument.class));
+            verify(documentGeneratorService).generateSpooledDocument(any(DirectionsQuestionnaireForm.class), eq(N181));
         }
 
         @Test
         void shouldGenerateN181Document_whenOneApplicantIntendsToProceedAgainstBothDefendant() {
-            when(documentGeneratorService.generateDocmosisDocument(any(MappableObject.class),
+            when(documentGeneratorService.generateSpooledDocument(any(MappableObject.class),
                                                                    eq(N181_MULTIPARTY_SAME_SOL)))
-                .thenReturn(new DocmosisDocument(N181_MULTIPARTY_SAME_SOL.getDocumentTitle(), bytes));
+                .thenReturn(SpooledDocument.of(bytes));
             when(documentManagementService.uploadDocument(
-                BEARER_TOKEN, new PDF(FILE_NAME_CLAIMANT, bytes, DIRECTIONS_QUESTIONNAIRE))
+                eq(BEARER_TOKEN), eq(FILE_NAME_CLAIMANT), eq(DIRECTIONS_QUESTIONNAIRE), any(SpooledDocument.class))
             ).thenReturn(CASE_DOCUMENT_CLAIMANT);
 
             CaseData caseData = CaseDataBuilder.builder()
@@ -1166,8 +1177,9 @@ class DirectionsQuestionnaireGeneratorTest {
             assertThat(caseDocument).isNotNull().isEqualTo(CASE_DOCUMENT_CLAIMANT);
 
             verify(documentManagementService)
-                .uploadDocument(BEARER_TOKEN, new PDF(FILE_NAME_CLAIMANT, bytes, DIRECTIONS_QUESTIONNAIRE));
-            verify(documentGeneratorService).generateDocmosisDocument(any(DirectionsQuestionnaireForm.class),
+                .uploadDocument(eq(BEARER_TOKEN), eq(FILE_NAME_CLAIMANT), eq(DIRECTIONS_QUESTIONNAIRE),
+                    any(SpooledDocument.class));
+            verify(documentGeneratorService).generateSpooledDocument(any(DirectionsQuestionnaireForm.class),
                 eq(N181_MULTIPARTY_SAME_SOL));
         }
     }
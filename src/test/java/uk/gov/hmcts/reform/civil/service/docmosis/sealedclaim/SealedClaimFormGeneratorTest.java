@@ -16,16 +16,15 @@ import uk.gov.hmcts.reform.civil.model.CaseData;
 import uk.gov.hmcts.reform.civil.model.LitigationFriend;
 import uk.gov.hmcts.reform.civil.model.SolicitorReferences;
 import uk.gov.hmcts.reform.civil.model.common.MappableObject;
-import uk.gov.hmcts.reform.civil.model.docmosis.DocmosisDocument;
 import uk.gov.hmcts.reform.civil.model.docmosis.common.Party;
 import uk.gov.hmcts.reform.civil.model.docmosis.sealedclaim.Representative;
 import uk.gov.hmcts.reform.civil.model.docmosis.sealedclaim.SealedClaimForm;
 import uk.gov.hmcts.reform.civil.model.documents.CaseDocument;
-import uk.gov.hmcts.reform.civil.model.documents.PDF;
 import uk.gov.hmcts.reform.civil.sampledata.CaseDataBuilder;
 import uk.gov.hmcts.reform.civil.sampledata.CaseDocumentBuilder;
 import uk.gov.hmcts.reform.civil.service.docmosis.DocumentGeneratorService;
 import uk.gov.hmcts.reform.civil.service.docmosis.RepresentativeService;
+import uk.gov.hmcts.reform.civil.service.documentmanagement.SpooledDocument;
 import uk.gov.hmcts.reform.civil.service.documentmanagement.UnsecuredDocumentManagementService;
 import uk.gov.hmcts.reform.civil.utils.DocmosisTemplateDataUtils;
 
@@ -85,18 +84,20 @@ class SealedClaimFormGeneratorTest {
     void shouldGenerateSealedClaimForm_when1V1DataIsProvided() {
         CaseData caseData = CaseDataBuilder.builder().atStateClaimDetailsNotified().build();
 
-        when(documentGeneratorService.generateDocmosisDocument(any(MappableObject.class), eq(N1)))
-            .thenReturn(new DocmosisDocument(N1.getDocumentTitle(), bytes));
+        when(documentGeneratorService.generateSpooledDocument(any(MappableObject.class), eq(N1)))
+            .thenReturn(SpooledDocument.of(bytes));
 
-        when(documentManagementService.uploadDocument(BEARER_TOKEN, new PDF(fileName, bytes, SEALED_CLAIM)))
+        when(documentManagementService.uploadDocument(eq(BEARER_TOKEN), eq(fileName), eq(SEALED_CLAIM),
+            any(SpooledDocument.class)))
             .thenReturn(CASE_DOCUMENT);
 
         CaseDocument caseDocument = sealedClaimFormGenerator.generate(caseData, BEARER_TOKEN);
         assertThat(caseDocument).isNotNull().isEqualTo(CASE_DOCUMENT);
 
         verify(representativeService).getRespondent1Representative(caseData);
-        verify(documentManagementService).uploadDocument(BEARER_TOKEN, new PDF(fileName, bytes, SEALED_CLAIM));
-        verify(documentGeneratorService).generateDocmosisDocument(any(SealedClaimForm.class), eq(N1));
+        verify(documentManagementService).uploadDocument(eq(BEARER_TOKEN), eq(fileName), eq(SEALED_CLAIM),
+            any(SpooledDocument.class));
+        verify(documentGeneratorService).generateSpooledDocument(any(SealedClaimForm.class), eq(N1));
     }
 
     @Test
@@ -105,10 +106,11 @@ class SealedClaimFormGeneratorTest {
             .atStateClaimDetailsNotified()
             .multiPartyClaimTwoDefendantSolicitors().build();
 
-        when(documentGeneratorService.generateDocmosisDocument(any(MappableObject.class), eq(N1)))
-            .thenReturn(new DocmosisDocument(N1.getDocumentTitle(), bytes));
+        when(documentGeneratorService.generateSpooledDocument(any(MappableObject.class), eq(N1)))
+            .thenReturn(SpooledDocument.of(bytes));
 
-        when(documentManagementService.uploadDocument(BEARER_TOKEN, new PDF(fileName, bytes, SEALED_CLAIM)))
+        when(documentManagementService.uploadDocument(eq(BEARER_TOKEN), eq(fileName), eq(SEALED_CLAIM),
+            any(SpooledDocument.class)))
             .thenReturn(CASE_DOCUMENT);
 
         CaseDocument caseDocument = sealedClaimFormGenerator.generate(caseData, BEARER_TOKEN);
@@ -116,8 +118,9 @@ class SealedClaimFormGeneratorTest {
 
         verify(representativeService).getRespondent1Representative(caseData);
         verify(representativeService).getRespondent2Representative(caseData);
-        verify(documentManagementService).uploadDocument(BEARER_TOKEN, new PDF(fileName, bytes, SEALED_CLAIM));
-        verify(documentGeneratorService).generateDocmosisDocument(any(SealedClaimForm.class), eq(N1));
+        verify(documentManagementService).uploadDocument(eq(BEARER_TOKEN), eq(fileName), eq(SEALED_CLAIM),
+            any(SpooledDocument.class));
+        verify(documentGeneratorService).generateSpooledDocument(any(SealedClaimForm.class), eq(N1));
     }
 
     @Test
@@ -126,18 +129,20 @@ class SealedClaimFormGeneratorTest {
             .atStateClaimDetailsNotified()
             .multiPartyClaimTwoApplicants().build();
 
-        when(documentGeneratorService.generateDocmosisDocument(any(MappableObject.class), eq(N1_MULTIPARTY_SAME_SOL)))
-            .thenReturn(new DocmosisDocument(N1_MULTIPARTY_SAME_SOL.getDocumentTitle(), bytes));
+        when(documentGeneratorService.generateSpooledDocument(any(MappableObject.class), eq(N1_MULTIPARTY_SAME_SOL)))
+            .thenReturn(SpooledDocument.of(bytes));
 
-        when(documentManagementService.uploadDocument(BEARER_TOKEN, new PDF(fileNameDiffSol, bytes, SEALED_CLAIM)))
+        when(documentManagementService.uploadDocument(eq(BEARER_TOKEN), eq(fileNameDiffSol), eq(SEALED_CLAIM),
+            any(SpooledDocument.class)))
             .thenReturn(CASE_DOCUMENT);
 
         CaseDocument caseDocument = sealedClaimFormGenerator.generate(caseData, BEARER_TOKEN);
         assertThat(caseDocument).isNotNull().isEqualTo(CASE_DOCUMENT);
 
         verify(representativeService).getRespondent1Representative(caseData);
-        verify(documentManagementService).uploadDocument(BEARER_TOKEN, new PDF(fileName, bytes, SEALED_CLAIM));
-        verify(documentGeneratorService).generateDocmosisDocument(
+        verify(documentManagementService).uploadDocument(eq(BEARER_TOKEN), eq(fileName), eq(SEALED_CLAIM),
+            any(SpooledDocument.class));
+        verify(documentGeneratorService).generateSpooledDocument(
             any(SealedClaimForm.class),
             eq(N1_MULTIPARTY_SAME_SOL)
         );
@@ -149,18 +154,20 @@ class SealedClaimFormGeneratorTest {
             .atStateClaimDetailsNotified()
             .multiPartyClaimOneDefendantSolicitor().build();
 
-        when(documentGeneratorService.generateDocmosisDocument(any(MappableObject.class), eq(N1_MULTIPARTY_SAME_SOL)))
-            .thenReturn(new DocmosisDocument(N1_MULTIPARTY_SAME_SOL.getDocumentTitle(), bytes));
+        when(documentGeneratorService.generateSpooledDocument(any(MappableObject.class), eq(N1_MULTIPARTY_SAME_SOL)))
+            .thenReturn(SpooledDocument.of(bytes));
 
-        when(documentManagementService.uploadDocument(BEARER_TOKEN, new PDF(fileNameDiffSol, bytes, SEALED_CLAIM)))
+        when(documentManagementService.uploadDocument(eq(BEARER_TOKEN), eq(fileNameDiffSol), eq(SEALED_CLAIM),
+            any(SpooledDocument.class)))
             .thenReturn(CASE_DOCUMENT);
 
         CaseDocument caseDocument = sealedClaimFormGenerator.generate(caseData, BEARER_TOKEN);
         assertThat(caseDocument).isNotNull().isEqualTo(CASE_DOCUMENT);
 
         verify(representativeService).getRespondent1Representative(caseData);
-        verify(documentManagementService).uploadDocument(BEARER_TOKEN, new PDF(fileName, bytes, SEALED_CLAIM));
-        verify(documentGeneratorService).generateDocmosisDocument(
+        verify(documentManagementService).uploadDocument(eq(BEARER_TOKEN), eq(fileName), eq(SEALED_CLAIM),
+            any(SpooledDocument.class));
+        verify(documentGeneratorService).generateSpooledDocument(
             any(SealedClaimForm.class),
             eq(N1_MULTIPARTY_SAME_SOL)
         );
@@ -0,0 +1,86 @@
+package uk.gov.hmcts.reform.civil.service.documentmanagement;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+import uk.gov.hmcts.reform.ccd.document.am.model.UploadResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.content;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+import static uk.gov.hmcts.reform.civil.service.documentmanagement.DocumentStreamingClient.SERVICE_AUTHORIZATION;
+import static uk.gov.hmcts.reform.civil.service.documentmanagement.DocumentStreamingClient.UPLOAD_PATH;
+import static uk.gov.hmcts.reform.civil.service.documentmanagement.DocumentStreamingClient.USER_ID;
+import static uk.gov.hmcts.reform.civil.service.documentmanagement.DocumentStreamingClient.USER_ROLES;
+import static uk.gov.hmcts.reform.civil.utils.ResourceReader.readString;
+
+class DocumentStreamingClientTest {
+
+    private static final String CASE_DOCUMENT_AM_URL = "http://ccd-case-document-am-api";
+    private static final String DOCUMENT_MANAGEMENT_URL = "http://dm-store";
+    private static final String BEARER_TOKEN = "Bearer Token";
+    private static final String SERVICE_TOKEN = "Service Token";
+    private static final String CONTENT = "%PDF-1.4 rendered claim form";
+
+    private final RestTemplate restTemplate = new RestTemplate();
+    private final MockRestServiceServer server = MockRestServiceServer.bindTo(restTemplate).build();
+    private final DocumentStreamingClient client = new DocumentStreamingClient(
+        restTemplate, CASE_DOCUMENT_AM_URL, DOCUMENT_MANAGEMENT_URL, 1);
+
+    @Nested
+    class Upload {
+
+        @Test
+        void shouldPostDocumentAsMultipartFile() {
+            server.expect(requestTo(CASE_DOCUMENT_AM_URL + UPLOAD_PATH))
+                .andExpect(method(HttpMethod.POST))
+                .andExpect(header(HttpHeaders.AUTHORIZATION, BEARER_TOKEN))
+                .andExpect(header(SERVICE_AUTHORIZATION, SERVICE_TOKEN))
+                .andExpect(content().string(containsString("name=\"files\"; filename=\"000DC001-claim-form.pdf\"")))
+                .andExpect(content().string(containsString(CONTENT)))
+                .andExpect(content().string(containsString("name=\"caseTypeId\"")))
+                .andRespond(withSuccess(
+                    readString("document-management/secured.response.success.json"), MediaType.APPLICATION_JSON));
+
+            UploadResponse response;
+            try (SpooledDocument document = SpooledDocument.of(CONTENT.getBytes())) {
+                response = client.upload(BEARER_TOKEN, SERVICE_TOKEN, "000DC001-claim-form.pdf", document);
+            }
+
+            assertThat(response.getDocuments()).hasSize(1);
+            server.verify();
+        }
+    }
+
+    @Nested
+    class Download {
+
+        @Test
+        @SneakyThrows
+        void shouldSpoolBinary() {
+            server.expect(requestTo(DOCUMENT_MANAGEMENT_URL + "/documents/85d97996/binary"))
+                .andExpect(method(HttpMethod.GET))
+                .andExpect(header(HttpHeaders.AUTHORIZATION, BEARER_TOKEN))
+                .andExpect(header(SERVICE_AUTHORIZATION, SERVICE_TOKEN))
+                .andExpect(header(USER_ROLES, "caseworker-civil"))
+                .andExpect(header(USER_ID, "id"))
+                .andRespond(withSuccess(CONTENT.getBytes(), MediaType.APPLICATION_PDF));
+
+            try (SpooledDocument document = client.download(
+                BEARER_TOKEN, SERVICE_TOKEN, "caseworker-civil", "id", "documents/85d97996/binary")) {
+                assertThat(document.isSpilled()).isTrue();
+                assertThat(document.toByteArray()).isEqualTo(CONTENT.getBytes());
+            }
+            server.verify();
+        }
+    }
+}
@@ -25,6 +25,8 @@ import uk.gov.hmcts.reform.civil.service.UserService;
 import uk.gov.hmcts.reform.document.DocumentDownloadClientApi;
 import uk.gov.hmcts.reform.idam.client.models.UserInfo;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.util.List;
 import java.util.UUID;
@@ -38,6 +40,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static uk.gov.hmcts.reform.civil.model.documents.DocumentType.SEALED_CLAIM;
 import static uk.gov.hmcts.reform.civil.service.documentmanagement.DocumentDownloadException.MESSAGE_TEMPLATE;
@@ -62,6 +65,8 @@ class SecuredDocumentManagementServiceTest {
     private AuthTokenGenerator authTokenGenerator;
     @MockBean
     private UserService userService;
+    @MockBean
+    private DocumentStreamingClient documentStreamingClient;
 
     @Autowired
     private ObjectMapper mapper;
@@ -211,6 +216,82 @@ class SecuredDocumentManagementServiceTest {
         }
     }
 
+    @Nested
+    class UploadSpooledDocument {
+
+        @Test
+        void shouldStreamDocumentToDocumentManagement() throws JsonProcessingException {
+            UploadResponse uploadResponse = mapper.readValue(
+                readString("document-management/secured.response.success.json"),
+                UploadResponse.class
+            );
+            SpooledDocument spooledDocument = SpooledDocument.of("test".getBytes());
+            when(documentStreamingClient.upload(BEARER_TOKEN, BEARER_TOKEN, "0000-claim.pdf", spooledDocument))
+                .thenReturn(uploadResponse);
+
+            CaseDocument caseDocument = documentManagementService.uploadDocument(
+                BEARER_TOKEN, "0000-claim.pdf", SEALED_CLAIM, spooledDocument);
+
+            assertEquals(
+                uploadResponse.getDocuments().get(0).links.self.href,
+                caseDocument.getDocumentLink().getDocumentUrl()
+            );
+            assertEquals("0000-claim.pdf", caseDocument.getDocumentName());
+            assertEquals(SEALED_CLAIM, caseDocument.getDocumentType());
+            verifyNoInteractions(caseDocumentClientApi);
+        }
+
+        @Test
+        void shouldThrow_whenStreamingUploadFails() {
+            when(documentStreamingClient.upload(anyString(), anyString(), anyString(), any(SpooledDocument.class)))
+                .thenThrow(new RuntimeException("Connection reset"));
+
+            DocumentUploadException documentManagementException = assertThrows(
+                DocumentUploadException.class,
+                () -> documentManagementService.uploadDocument(
+                    BEARER_TOKEN, "0000-failed-claim.pdf", SEALED_CLAIM, SpooledDocument.of("test".getBytes()))
+            );
+
+            assertEquals(
+                "Unable to upload document 0000-failed-claim.pdf to document management.",
+                documentManagementException.getMessage()
+            );
+        }
+    }
+
+    @Nested
+    class DownloadDocumentStream {
+
+        @Test
+        void shouldStreamDocumentFromDocumentManagement() throws IOException {
+            Document document = mapper.readValue(
+                readString("document-management/download.success.json"),
+                Document.class
+            );
+            String documentPath = URI.create(document.links.self.href).getPath();
+            String documentBinary = URI.create(document.links.binary.href).getPath().replaceFirst("/", "");
+            when(caseDocumentClientApi.getMetadataForDocument(
+                     anyString(),
+                     anyString(),
+                     eq(getDocumentIdFromSelfHref(documentPath))
+                 )
+            ).thenReturn(document);
+            when(documentStreamingClient.download(
+                     anyString(),
+                     anyString(),
+                     eq(USER_ROLES_JOINED),
+                     anyString(),
+                     eq(documentBinary)
+                 )
+            ).thenReturn(SpooledDocument.of("test".getBytes()));
+
+            try (InputStream content = documentManagementService.downloadDocumentStream(BEARER_TOKEN, documentPath)) {
+                assertArrayEquals("test".getBytes(), content.readAllBytes());
+            }
+            verifyNoInteractions(documentDownloadClient);
+        }
+    }
+
     @Nested
     class DocumentMetaData {
         @Test
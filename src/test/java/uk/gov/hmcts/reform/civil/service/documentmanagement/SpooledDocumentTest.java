@@ -0,0 +1,110 @@
+package uk.gov.hmcts.reform.civil.service.documentmanagement;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.Resource;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SpooledDocumentTest {
+
+    private static final byte[] CONTENT = "%PDF-1.4 rendered claim form".getBytes();
+
+    @Nested
+    class CopyOf {
+
+        @Test
+        @SneakyThrows
+        void shouldKeepContentInMemory_whenWithinThreshold() {
+            try (SpooledDocument document = SpooledDocument.copyOf(new ByteArrayInputStream(CONTENT), CONTENT.length)) {
+                assertThat(document.isSpilled()).isFalse();
+                assertThat(document.size()).isEqualTo(CONTENT.length);
+                assertThat(read(document)).isEqualTo(CONTENT);
+            }
+        }
+
+        @Test
+        @SneakyThrows
+        void shouldSpillContentToFile_whenOverThreshold() {
+            byte[] content = new byte[64 * 1024];
+            for (int i = 0; i < content.length; i++) {
+                content[i] = (byte) i;
+            }
+
+            try (SpooledDocument document = SpooledDocument.copyOf(new ByteArrayInputStream(content), 1024)) {
+                assertThat(document.isSpilled()).isTrue();
+                assertThat(document.size()).isEqualTo(content.length);
+                assertThat(read(document)).isEqualTo(content);
+                assertThat(read(document)).isEqualTo(content);
+            }
+        }
+
+        @Test
+        @SneakyThrows
+        void shouldBeEmpty_whenThereIsNoContent() {
+            try (SpooledDocument document = SpooledDocument.copyOf(null, 1024)) {
+                assertThat(document.size()).isZero();
+                assertThat(read(document)).isEmpty();
+            }
+        }
+    }
+
+    @Nested
+    class Close {
+
+        @Test
+        @SneakyThrows
+        void shouldDeleteSpilledFile() {
+            SpooledDocument document = SpooledDocument.copyOf(new ByteArrayInputStream(CONTENT), 1);
+            Path file = document.getFile();
+            assertThat(file).exists();
+
+            document.close();
+
+            assertThat(file).doesNotExist();
+        }
+
+        @Test
+        @SneakyThrows
+        void shouldDeleteSpilledFile_whenStreamHandedOverIsClosed() {
+            SpooledDocument document = SpooledDocument.copyOf(new ByteArrayInputStream(CONTENT), 1);
+            Path file = document.getFile();
+
+            try (InputStream content = document.toInputStream()) {
+                assertThat(content.readAllBytes()).isEqualTo(CONTENT);
+            }
+
+            assertThat(file).doesNotExist();
+        }
+    }
+
+    @Nested
+    class AsResource {
+
+        @Test
+        @SneakyThrows
+        void shouldExposeFileNameAndLength_forMultipartUpload() {
+            try (SpooledDocument document = SpooledDocument.copyOf(new ByteArrayInputStream(CONTENT), 1)) {
+                Resource resource = document.asResource("000DC001-claim-form.pdf");
+
+                assertThat(resource.getFilename()).isEqualTo("000DC001-claim-form.pdf");
+                assertThat(resource.contentLength()).isEqualTo(CONTENT.length);
+                try (InputStream content = resource.getInputStream()) {
+                    assertThat(content.readAllBytes()).isEqualTo(CONTENT);
+                }
+            }
+        }
+    }
+
+    @SneakyThrows
+    private static byte[] read(SpooledDocument document) {
+        try (InputStream content = document.getInputStream()) {
+            return content.readAllBytes();
+        }
+    }
+}
@@ -2,6 +2,7 @@ package uk.gov.hmcts.reform.civil.service.flowstate;
 
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -677,4 +678,28 @@ class FlowStateAllowedEventServiceTest {
                 .isEqualTo(expected);
         }
     }
+
+    @Nested
+    class GetAllowedEventsOnCaseDetails {
+
+        @ParameterizedTest
+        @ArgumentsSource(GetAllowedStatesForCaseDetailsArguments.class)
+        void shouldAgreeWithIsAllowed_whenCaseEventIsGiven(
+            boolean expected,
+            CaseDetails caseDetails,
+            CaseEvent caseEvent
+        ) {
+            assertThat(flowStateAllowedEventService.getAllowedEvents(caseDetails).contains(caseEvent))
+                .isEqualTo(flowStateAllowedEventService.isAllowed(caseDetails, caseEvent));
+        }
+
+        @Test
+        void shouldReturnAllEventsOfFlowState_whenCaseDetailsAreGiven() {
+            CaseDetails caseDetails = CaseDetailsBuilder.builder().atStateClaimAcknowledge().build();
+
+            assertThat(flowStateAllowedEventService.getAllowedEvents(caseDetails))
+                .containsExactlyInAnyOrderElementsOf(
+                    flowStateAllowedEventService.getAllowedEvents(NOTIFICATION_ACKNOWLEDGED.fullName()));
+        }
+    }
 }
@@ -17,6 +17,7 @@ import uk.gov.hmcts.reform.civil.model.CaseData;
 import uk.gov.hmcts.reform.civil.sampledata.CaseDataBuilder;
 import uk.gov.hmcts.reform.civil.sampledata.CaseDetailsBuilder;
 import uk.gov.hmcts.reform.civil.stateflow.StateFlow;
+import uk.gov.hmcts.reform.civil.stateflow.StateFlowEvaluation;
 import uk.gov.hmcts.reform.civil.stateflow.model.State;
 
 import java.time.LocalDateTime;
@@ -88,7 +89,7 @@ class StateFlowEngineTest {
         void shouldReturnClaimSubmitted_whenCaseDataAtStateClaimSubmittedWithOneRespondentRepresentative() {
             CaseData caseData = CaseDataBuilder.builder().atStateClaimSubmitted().build();
 
-            StateFlow stateFlow = stateFlowEngine.evaluate(caseData);
+            StateFlowEvaluation stateFlow = stateFlowEngine.evaluate(caseData);
 
             assertThat(stateFlow.getState())
                 .extracting(State::getName)
@@ -110,7 +111,7 @@ class StateFlowEngineTest {
                 .atStateClaimSubmittedTwoRespondentRepresentatives()
                 .build();
 
-            StateFlow stateFlow = stateFlowEngine.evaluate(caseData);
+            StateFlowEvaluation stateFlow = stateFlowEngine.evaluate(caseData);
 
             assertThat(stateFlow.getState())
                 .extracting(State::getName)
@@ -132,7 +133,7 @@ class StateFlowEngineTest {
         void shouldReturnClaimSubmitted_whenCaseDataAtStateClaimSubmittedNoRespondentIsRepresented() {
             CaseData caseData = CaseDataBuilder.builder().atStateClaimSubmittedNoRespondentRepresented().build();
 
-            StateFlow stateFlow = stateFlowEngine.evaluate(caseData);
+            StateFlowEvaluation stateFlow = stateFlowEngine.evaluate(caseData);
 
             assertThat(stateFlow.getState())
                 .extracting(State::getName)
@@ -151,7 +152,7 @@ class StateFlowEngineTest {
                 .atStateClaimSubmitted1v2AndOnlyFirstRespondentIsRepresented()
                 .build();
 
-            StateFlow stateFlow = stateFlowEngine.evaluate(caseData);
+            StateFlowEvaluation stateFlow = stateFlowEngine.evaluate(caseData);
 
             assertThat(stateFlow.getState())
                 .extracting(State::getName)
@@ -170,7 +171,7 @@ class StateFlowEngineTest {
                 .atStateClaimSubmitted1v2AndSecondRespondentIsRepresented()
                 .build();
 
-            StateFlow stateFlow = stateFlowEngine.evaluate(caseData);
+            StateFlowEvaluation stateFlow = stateFlowEngine.evaluate(caseData);
 
             assertThat(stateFlow.getState())
                 .extracting(State::getName)
@@ -188,7 +189,7 @@ class StateFlowEngineTest {
         void shouldReturnProceedsWithOfflineJourney_1v1_whenCaseDataAtStateClaimDraftIssuedAndResUnrepresented() {
             CaseData caseData = CaseDataBuilder.builder().atStateProceedsOffline1v1UnrepresentedDefendant().build();
 
-            StateFlow stateFlow = stateFlowEngine.evaluate(caseData);
+            StateFlowEvaluation stateFlow = stateFlowEngine.evaluate(caseData);
 
             assertThat(stateFlow.getState())
                 .extracting(State::getName)
@@ -212,7 +213,7 @@ class StateFlowEngineTest {
         void shouldReturnProceedsWithOfflineJourney_1v1_whenCaseDataAtStateClaimDraftIssuedAndResUnregistered() {
             CaseData caseData = CaseDataBuilder.builder().atStateProceedsOffline1v1UnregisteredDefendant().build();
 
-            StateFlow stateFlow = stateFlowEngine.evaluate(caseData);
+            StateFlowEvaluation stateFlow = stateFlowEngine.evaluate(caseData);
 
             assertThat(stateFlow.getState())
                 .extracting(State::getName)
@@ -238,7 +239,7 @@ class StateFlowEngineTest {
         void shouldReturnProceedsWithOfflineJourney_whenCaseDataAtStateClaimDraftIssuedAndRespondentsNotRepresented() {
             CaseData caseData = CaseDataBuilder.builder().atStateProceedsOfflineUnrepresentedDefendants().build();
 
-            StateFlow stateFlow = stateFlowEngine.evaluate(caseData);
+            StateFlowEvaluation stateFlow = stateFlowEngine.evaluate(caseData);
 
             assertThat(stateFlow.getState())
                 .extracting(State::getName)
@@ -263,7 +264,7 @@ class StateFlowEngineTest {
         void shouldReturnProceedsWithOfflineJourney_whenCaseDataAtStateClaimDraftIssuedAndRespondent1NotRepresented() {
             CaseData caseData = CaseDataBuilder.builder().atStateProceedsOfflineUnrepresentedDefendant1().build();
 
-            StateFlow stateFlow = stateFlowEngine.evaluate(caseData);
+            StateFlowEvaluation stateFlow = stateFlowEngine.evaluate(caseData);
 
             assertThat(stateFlow.getState())
                 .extracting(State::getName)
@@ -288,7 +289,7 @@ class StateFlowEngineTest {
         void shouldReturnProceedsWithOfflineJourney_whenCaseDataAtStateClaimDraftIssuedAndRespondent2NotRepresented() {
             CaseData caseData = CaseDataBuilder.builder().atStateProceedsOfflineUnrepresentedDefendant2().build();
 
-            StateFlow stateFlow = stateFlowEngine.evaluate(caseData);
+            StateFlowEvaluation stateFlow = stateFlowEngine.evaluate(caseData);
 
             assertThat(stateFlow.getState())
                 .extracting(State::getName)
@@ -313,7 +314,7 @@ class StateFlowEngineTest {
         void shouldReturnProceedsWithOfflineJourney_whenCaseDataAtStateClaimDraftIssuedAndRespondentsNotRegistered() {
             CaseData caseData = CaseDataBuilder.builder().atStateProceedsOfflineUnregisteredDefendants().build();
 
-            StateFlow stateFlow = stateFlowEngine.evaluate(caseData);
+            StateFlowEvaluation stateFlow = stateFlowEngine.evaluate(caseData);
 
             assertThat(stateFlow.getState())
                 .extracting(State::getName)
@@ -338,7 +339,7 @@ class StateFlowEngineTest {
         void shouldReturnProceedsWithOfflineJourney_whenCaseDataAtStateClaimDraftIssuedAndRespondent1NotRegistered() {
             CaseData caseData = CaseDataBuilder.builder().atStateProceedsOfflineUnregisteredDefendant1().build();
 
-            StateFlow stateFlow = stateFlowEngine.evaluate(caseData);
+            StateFlowEvaluation stateFlow = stateFlowEngine.evaluate(caseData);
 
             assertThat(stateFlow.getState())
                 .extracting(State::getName)
@@ -363,7 +364,7 @@ class StateFlowEngineTest {
         void shouldReturnProceedsWithOfflineJourney_whenCaseDataAtStateClaimDraftIssuedAndRespondent2NotRegistered() {
             CaseData caseData = CaseDataBuilder.builder().atStateProceedsOfflineUnregisteredDefendant2().build();
 
-            StateFlow stateFlow = stateFlowEngine.evaluate(caseData);
+            StateFlowEvaluation stateFlow = stateFlowEngine.evaluate(caseData);
 
             assertThat(stateFlow.getState())
                 .extracting(State::getName)
@@ -388,7 +389,7 @@ class StateFlowEngineTest {
             CaseData caseData = CaseDataBuilder.builder()
                 .atStateProceedsOfflineUnrepresentedDefendant1UnregisteredDefendant2().build();
 
-            StateFlow stateFlow = stateFlowEngine.evaluate(caseData);
+            StateFlowEvaluation stateFlow = stateFlowEngine.evaluate(caseData);
 
             assertThat(stateFlow.getState())
                 .extracting(State::getName)
@@ -414,7 +415,7 @@ class StateFlowEngineTest {
             CaseData caseData = CaseDataBuilder.builder()
                 .atStateProceedsOfflineUnregisteredDefendant1UnrepresentedDefendant2().build();
 
-            StateFlow stateFlow = stateFlowEngine.evaluate(caseData);
+            StateFlowEvaluation stateFlow = stateFlowEngine.evaluate(caseData);
 
             assertThat(stateFlow.getState())
                 .extracting(State::getName)
@@ -437,7 +438,7 @@ class StateFlowEngineTest {
         void shouldReturnPaymentSuccessful_whenCaseDataAtStatePaymentSuccessful() {
             CaseData caseData = CaseDataBuilder.builder().atStatePaymentSuccessful().build();
 
-            StateFlow stateFlow = stateFlowEngine.evaluate(caseData);
+            StateFlowEvaluation stateFlow = stateFlowEngine.evaluate(caseData);
 
             assertThat(stateFlow.getState())
                 .extracting(State::getName)
@@ -458,7 +459,7 @@ class StateFlowEngineTest {
             CaseData caseData = CaseDataBuilder.builder()
                 .atStateClaimIssued1v2AndSameRepresentative().build();
 
-            StateFlow stateFlow = stateFlowEngine.evaluate(caseData);
+            StateFlowEvaluation stateFlow = stateFlowEngine.evaluate(caseData);
 
             assertThat(stateFlow.getState())
                 .extracting(State::getName)
@@ -478,7 +479,7 @@ class StateFlowEngineTest {
         void shouldReturnPaymentFailed_whenCaseDataAtStatePaymentFailed() {
             CaseData caseData = CaseDataBuilder.builder().atStatePaymentFailed().build();
 
-            StateFlow stateFlow = stateFlowEngine.evaluate(caseData);
+            StateFlowEvaluation stateFlow = stateFlowEngine.evaluate(caseData);
 
             assertThat(stateFlow.getState())
                 .extracting(State::getName)
@@ -498,7 +499,7 @@ class StateFlowEngineTest {
         void shouldReturnAwaitingCaseNotification_whenCaseDataAtStateAwaitingCaseNotification() {
             CaseData caseData = CaseDataBuilder.builder().atStatePendingClaimIssued().build();
 
-            StateFlow stateFlow = stateFlowEngine.evaluate(caseData);
+            StateFlowEvaluation stateFlow = stateFlowEngine.evaluate(caseData);
 
             assertThat(stateFlow.getState())
                 .extracting(State::getName)
@@ -521,7 +522,7 @@ class StateFlowEngineTest {
             CaseData caseData = CaseDataBuilder.builder()
                 .atStateClaimNotified_1v2_andNotifyOnlyOneSolicitor()
                 .build();
-            StateFlow stateFlow = stateFlowEngine.evaluate(caseData);
+            StateFlowEvaluation stateFlow = stateFlowEngine.evaluate(caseData);
 
             assertThat(stateFlow.getState())
                 .extracting(State::getName)
@@ -547,7 +548,7 @@ class StateFlowEngineTest {
             CaseData caseData = CaseDataBuilder.builder()
                 .atStateClaimNotified_1v2_andNotifyBothSolicitors()
                 .build();
-            StateFlow stateFlow = stateFlowEngine.evaluate(caseData);
+            StateFlowEvaluation stateFlow = stateFlowEngine.evaluate(caseData);
 
             assertThat(stateFlow.getState())
                 .extracting(State::getName)
@@ -572,7 +573,7 @@ class StateFlowEngineTest {
         void shouldReturnAwaitingCaseNotification_whenCaseDataAtStateAwaitingCaseDetailsNotification() {
             CaseData caseData = CaseDataBuilder.builder().atStateClaimNotified_1v1().build();
 
-            StateFlow stateFlow = stateFlowEngine.evaluate(caseData);
+            StateFlowEvaluation stateFlow = stateFlowEngine.evaluate(caseData);
 
             assertThat(stateFlow.getState())
                 .extracting(State::getName)
@@ -594,7 +595,7 @@ class StateFlowEngineTest {
         void shouldReturnClaimDetailsNotified_whenCaseDataAtStateClaimDetailsNotified() {
             CaseData caseData = CaseDataBuilder.builder().atStateClaimDetailsNotified().build();
 
-            StateFlow stateFlow = stateFlowEngine.evaluate(caseData);
+            StateFlowEvaluation stateFlow = stateFlowEngine.evaluate(caseData);
 
             assertThat(stateFlow.getState())
                 .extracting(State::getName)
@@ -619,7 +620,7 @@ class StateFlowEngineTest {
                 .atStateClaimDetailsNotified_1v2_andNotifyBothSolicitors()
                 .build();
 
-            StateFlow stateFlow = stateFlowEngine.evaluate(caseData);
+            StateFlowEvaluation stateFlow = stateFlowEngine.evaluate(caseData);
 
             assertThat(stateFlow.getState())
                 .extracting(State::getName)
@@ -646,7 +647,7 @@ class StateFlowEngineTest {
                 .atStateClaimDetailsNotified_1v2_andNotifyOnlyOneSolicitor()
                 .build();
 
-            StateFlow stateFlow = stateFlowEngine.evaluate(caseData);
+            StateFlowEvaluation stateFlow = stateFlowEngine.evaluate(caseData);
 
             assertThat(stateFlow.getState())
                 .extracting(State::getName)
@@ -667,7 +668,7 @@ class StateFlowEngineTest {
         void shouldReturnClaimDetailsNotifiedTimeExtension_whenCaseDataAtStateClaimDetailsNotifiedTimeExtension() {
             CaseData caseData = CaseDataBuilder.builder().atStateClaimDetailsNotifiedTimeExtension().build();
 
-            StateFlow stateFlow = stateFlowEngine.evaluate(caseData);
+            StateFlowEvaluation stateFlow = stateFlowEngine.evaluate(caseData);
 
             assertThat(stateFlow.getState())
                 .extracting(State::getName)
@@ -690,7 +691,7 @@ class StateFlowEngineTest {
         void shouldReturnClaimAcknowledge_whenCaseDataAtStateClaimAcknowledge() {
             CaseData caseData = CaseDataBuilder.builder().atStateNotificationAcknowledged().build();
 
-            StateFlow stateFlow = stateFlowEngine.evaluate(caseData);
+            StateFlowEvaluation stateFlow = stateFlowEngine.evaluate(caseData);
 
             assertThat(stateFlow.getState())
                 .extracting(State::getName)
@@ -713,7 +714,7 @@ class StateFlowEngineTest {
         void shouldReturnNotificationAcknowledgedTimeExtension_whenCaseDataAtStateClaimAcknowledgeTimeExtension() {
             CaseData caseData = CaseDataBuilder.builder().atStateNotificationAcknowledgedTimeExtension().build();
 
-            StateFlow stateFlow = stateFlowEngine.evaluate(caseData);
+            StateFlowEvaluation stateFlow = stateFlowEngine.evaluate(caseData);
 
             assertThat(stateFlow.getState())
                 .extracting(State::getName)
@@ -740,7 +741,7 @@ class StateFlowEngineTest {
                 .claimDismissedDeadline(LocalDateTime.now().minusHours(4))
                 .build();
 
-            StateFlow stateFlow = stateFlowEngine.evaluate(caseData);
+            StateFlowEvaluation stateFlow = stateFlowEngine.evaluate(caseData);
 
             assertThat(stateFlow.getState())
                 .extracting(State::getName)
@@ -766,7 +767,7 @@ class StateFlowEngineTest {
         void shouldReturnExtensionRequested_whenCaseDataAtStateClaimDetailsNotifiedTimeExtension() {
             CaseData caseData = CaseDataBuilder.builder().atStateClaimDetailsNotifiedTimeExtension().build();
 
-            StateFlow stateFlow = stateFlowEngine.evaluate(caseData);
+            StateFlowEvaluation stateFlow = stateFlowEngine.evaluate(caseData);
 
             assertThat(stateFlow.getState())
                 .extracting(State::getName)
@@ -794,7 +795,7 @@ class StateFlowEngineTest {
                     .atStateRespondentFullDefenceAfterNotificationAcknowledgement()
                     .build();
 
-                StateFlow stateFlow = stateFlowEngine.evaluate(caseData);
+                StateFlowEvaluation stateFlow = stateFlowEngine.evaluate(caseData);
 
                 assertThat(stateFlow.getState())
                     .extracting(State::getName)
@@ -822,7 +823,7 @@ class StateFlowEngineTest {
                     .atStateRespondentFullAdmissionAfterNotificationAcknowledged()
                     .build();
 
-                StateFlow stateFlow = stateFlowEngine.evaluate(caseData);
+                StateFlowEvaluation stateFlow = stateFlowEngine.evaluate(caseData);
 
                 assertThat(stateFlow.getState())
                     .extracting(State::getName)
@@ -856,7 +857,7 @@ class StateFlowEngineTest {
                     .atStateRespondentPartAdmissionAfterNotificationAcknowledgement()
                     .build();
 
-                StateFlow stateFlow = stateFlowEngine.evaluate(caseData);
+                StateFlowEvaluation stateFlow = stateFlowEngine.evaluate(caseData);
 
                 assertThat(stateFlow.getState())
                     .extracting(State::getName)
@@ -888,7 +889,7 @@ class StateFlowEngineTest {
             void shouldReturnCounterClaim_whenCaseDataAtStateRespondentCounterClaim() {
                 CaseData caseData = CaseDataBuilder.builder().atStateRespondentCounterClaim().build();
 
-                StateFlow stateFlow = stateFlowEngine.evaluate(caseData);
+                StateFlowEvaluation stateFlow = stateFlowEngine.evaluate(caseData);
 
                 assertThat(stateFlow.getState())
                     .extracting(State::getName)
@@ -928,7 +929,7 @@ class StateFlowEngineTest {
                     .multiPartyClaimTwoDefendantSolicitors()
                     .build();
 
-                StateFlow stateFlow = stateFlowEngine.evaluate(caseData);
+                StateFlowEvaluation stateFlow = stateFlowEngine.evaluate(caseData);
 
                 assertThat(stateFlow.getState())
                     .extracting(State::getName)
@@ -959,7 +960,7 @@ class StateFlowEngineTest {
                     .multiPartyClaimTwoDefendantSolicitors()
                     .build();
 
-                StateFlow stateFlow = stateFlowEngine.evaluate(caseData);
+                StateFlowEvaluation stateFlow = stateFlowEngine.evaluate(caseData);
 
                 assertThat(stateFlow.getState())
                     .extracting(State::getName)
@@ -990,7 +991,7 @@ class StateFlowEngineTest {
                     .multiPartyClaimTwoDefendantSolicitors()
                     .build();
 
-                StateFlow stateFlow = stateFlowEngine.evaluate(caseData);
+                StateFlowEvaluation stateFlow = stateFlowEngine.evaluate(caseData);
 
                 assertThat(stateFlow.getState())
                     .extracting(State::getName)
@@ -1022,7 +1023,7 @@ class StateFlowEngineTest {
                     .multiPartyClaimTwoDefendantSolicitors()
                     .build();
 
-                StateFlow stateFlow = stateFlowEngine.evaluate(caseData);
+                StateFlowEvaluation stateFlow = stateFlowEngine.evaluate(caseData);
 
                 assertThat(stateFlow.getState())
                     .extracting(State::getName)
@@ -1053,7 +1054,7 @@ class StateFlowEngineTest {
                     .multiPartyClaimTwoDefendantSolicitors()
                     .build();
 
-                StateFlow stateFlow = stateFlowEngine.evaluate(caseData);
+                StateFlowEvaluation stateFlow = stateFlowEngine.evaluate(caseData);
 
                 assertThat(stateFlow.getState())
                     .extracting(State::getName)
@@ -1085,7 +1086,7 @@ class StateFlowEngineTest {
                     .multiPartyClaimTwoDefendantSolicitors()
                     .build();
 
-                StateFlow stateFlow = stateFlowEngine.evaluate(caseData);
+                StateFlowEvaluation stateFlow = stateFlowEngine.evaluate(caseData);
 
                 assertThat(stateFlow.getState())
                     .extracting(State::getName)
@@ -1116,7 +1117,7 @@ class StateFlowEngineTest {
                     .multiPartyClaimTwoDefendantSolicitors()
                     .build();
 
-                StateFlow stateFlow = stateFlowEngine.evaluate(caseData);
+                StateFlowEvaluation stateFlow = stateFlowEngine.evaluate(caseData);
 
                 assertThat(stateFlow.getState())
                     .extracting(State::getName)
@@ -1148,7 +1149,7 @@ class StateFlowEngineTest {
                     .multiPartyClaimOneDefendantSolicitor()
                     .build();
 
-                StateFlow stateFlow = stateFlowEngine.evaluate(caseData);
+                StateFlowEvaluation stateFlow = stateFlowEngine.evaluate(caseData);
 
                 assertThat(stateFlow.getState())
                     .extracting(State::getName)
@@ -1178,7 +1179,7 @@ class StateFlowEngineTest {
                     .multiPartyClaimTwoDefendantSolicitors()
                     .build();
 
-                StateFlow stateFlow = stateFlowEngine.evaluate(caseData);
+                StateFlowEvaluation stateFlow = stateFlowEngine.evaluate(caseData);
 
                 assertThat(stateFlow.getState())
                     .extracting(State::getName)
@@ -1209,7 +1210,7 @@ class StateFlowEngineTest {
                     .multiPartyClaimTwoDefendantSolicitors()
                     .build();
 
-                StateFlow stateFlow = stateFlowEngine.evaluate(caseData);
+                StateFlowEvaluation stateFlow = stateFlowEngine.evaluate(caseData);
 
                 assertThat(stateFlow.getState())
                     .extracting(State::getName)
@@ -1238,7 +1239,7 @@ class StateFlowEngineTest {
             CaseData caseData = CaseDataBuilder.builder().atStateClaimDismissed()
                 .build();
 
-            StateFlow stateFlow = stateFlowEngine.evaluate(caseData);
+            StateFlowEvaluation stateFlow = stateFlowEngine.evaluate(caseData);
 
             assertThat(stateFlow.getState())
                 .extracting(State::getName)
@@ -1268,7 +1269,7 @@ class StateFlowEngineTest {
                 .takenOfflineDate(LocalDateTime.now())
                 .build();
 
-            StateFlow stateFlow = stateFlowEngine.evaluate(caseData);
+            StateFlowEvaluation stateFlow = stateFlowEngine.evaluate(caseData);
 
             assertThat(stateFlow.getState())
                 .extracting(State::getName)
@@ -1297,7 +1298,7 @@ class StateFlowEngineTest {
                 .multiPartyClaimTwoDefendantSolicitors()
                 .build();
 
-            StateFlow stateFlow = stateFlowEngine.evaluate(caseData);
+            StateFlowEvaluation stateFlow = stateFlowEngine.evaluate(caseData);
 
             assertThat(stateFlow.getState())
                 .extracting(State::getName)
@@ -1330,7 +1331,7 @@ class StateFlowEngineTest {
                 .multiPartyClaimTwoDefendantSolicitors()
                 .build();
 
-            StateFlow stateFlow = stateFlowEngine.evaluate(caseData);
+            StateFlowEvaluation stateFlow = stateFlowEngine.evaluate(caseData);
 
             assertThat(stateFlow.getState())
                 .extracting(State::getName)
@@ -1358,7 +1359,7 @@ class StateFlowEngineTest {
         void shouldReturnProceedsWithOfflineJourney_whenCaseDataIsCaseProceedsInCaseman() {
             CaseData caseData = CaseDataBuilder.builder().atStateTakenOfflineByStaff().build();
 
-            StateFlow stateFlow = stateFlowEngine.evaluate(caseData);
+            StateFlowEvaluation stateFlow = stateFlowEngine.evaluate(caseData);
 
             assertThat(stateFlow.getState())
                 .extracting(State::getName)
@@ -1380,7 +1381,7 @@ class StateFlowEngineTest {
         void shouldReturnAwaitingCamundaState_whenDefendantHasRespondedAndApplicantIsOutOfTime() {
             CaseData caseData = CaseDataBuilder.builder().atStatePastApplicantResponseDeadline().build();
 
-            StateFlow stateFlow = stateFlowEngine.evaluate(caseData);
+            StateFlowEvaluation stateFlow = stateFlowEngine.evaluate(caseData);
 
             assertThat(stateFlow.getState())
                 .extracting(State::getName)
@@ -1402,7 +1403,7 @@ class StateFlowEngineTest {
         void shouldReturnTakenOffline_whenApplicantIsOutOfTimeAndCamundaHasProcessedCase() {
             CaseData caseData = CaseDataBuilder.builder().atStateTakenOfflinePastApplicantResponseDeadline().build();
 
-            StateFlow stateFlow = stateFlowEngine.evaluate(caseData);
+            StateFlowEvaluation stateFlow = stateFlowEngine.evaluate(caseData);
 
             assertThat(stateFlow.getState())
                 .extracting(State::getName)
@@ -1428,7 +1429,7 @@ class StateFlowEngineTest {
         void shouldReturnAwaitingCamundaState_whenPastClaimNotificationDeadline() {
             CaseData caseData = CaseDataBuilder.builder().atStateClaimPastClaimNotificationDeadline().build();
 
-            StateFlow stateFlow = stateFlowEngine.evaluate(caseData);
+            StateFlowEvaluation stateFlow = stateFlowEngine.evaluate(caseData);
 
             assertThat(stateFlow.getState())
                 .extracting(State::getName)
@@ -1448,7 +1449,7 @@ class StateFlowEngineTest {
         void shouldReturnClaimDismissedState_whenPastClaimNotificationDeadlineAndProcessedByCamunda() {
             CaseData caseData = CaseDataBuilder.builder().atStateClaimDismissedPastClaimNotificationDeadline().build();
 
-            StateFlow stateFlow = stateFlowEngine.evaluate(caseData);
+            StateFlowEvaluation stateFlow = stateFlowEngine.evaluate(caseData);
 
             assertThat(stateFlow.getState())
                 .extracting(State::getName)
@@ -1474,7 +1475,7 @@ class StateFlowEngineTest {
                 .atStateClaimPastClaimDetailsNotificationDeadline()
                 .build();
 
-            StateFlow stateFlow = stateFlowEngine.evaluate(caseData);
+            StateFlowEvaluation stateFlow = stateFlowEngine.evaluate(caseData);
 
             assertThat(stateFlow.getState())
                 .extracting(State::getName)
@@ -1496,7 +1497,7 @@ class StateFlowEngineTest {
                 .atStateClaimDismissedPastClaimDetailsNotificationDeadline()
                 .build();
 
-            StateFlow stateFlow = stateFlowEngine.evaluate(caseData);
+            StateFlowEvaluation stateFlow = stateFlowEngine.evaluate(caseData);
 
             assertThat(stateFlow.getState())
                 .extracting(State::getName)
@@ -1524,7 +1525,7 @@ class StateFlowEngineTest {
         void shouldReturnProceedsWithOfflineJourney_whenCaseTakenOfflineAfterClaimIssue() {
             CaseData caseData = CaseDataBuilder.builder().atStateTakenOfflineByStaff()
                 .build();
-            StateFlow stateFlow = stateFlowEngine.evaluate(caseData);
+            StateFlowEvaluation stateFlow = stateFlowEngine.evaluate(caseData);
             assertThat(stateFlow.getState())
                 .extracting(State::getName)
                 .isNotNull()
@@ -1544,7 +1545,7 @@ class StateFlowEngineTest {
         @Test
         void shouldReturnProceedsWithOfflineJourney_whenCaseTakenOfflineAfterClaimNotified() {
             CaseData caseData = CaseDataBuilder.builder().atStateTakenOfflineByStaffAfterClaimNotified().build();
-            StateFlow stateFlow = stateFlowEngine.evaluate(caseData);
+            StateFlowEvaluation stateFlow = stateFlowEngine.evaluate(caseData);
             assertThat(stateFlow.getState())
                 .extracting(State::getName)
                 .isNotNull()
@@ -1565,7 +1566,7 @@ class StateFlowEngineTest {
         @Test
         void shouldReturnProceedsWithOfflineJourney_whenCaseTakenOfflineAfterClaimDetailsNotified() {
             CaseData caseData = CaseDataBuilder.builder().atStateTakenOfflineByStaffAfterClaimDetailsNotified().build();
-            StateFlow stateFlow = stateFlowEngine.evaluate(caseData);
+            StateFlowEvaluation stateFlow = stateFlowEngine.evaluate(caseData);
             assertThat(stateFlow.getState())
                 .extracting(State::getName)
                 .isNotNull()
@@ -1587,7 +1588,7 @@ class StateFlowEngineTest {
         void shouldReturnProceedsWithOfflineJourney_whenCaseTakenOfflineAfterClaimDetailsNotifiedExtension() {
             CaseData caseData = CaseDataBuilder.builder().atStateTakenOfflineByStaffAfterClaimDetailsNotifiedExtension()
                 .build();
-            StateFlow stateFlow = stateFlowEngine.evaluate(caseData);
+            StateFlowEvaluation stateFlow = stateFlowEngine.evaluate(caseData);
             assertThat(stateFlow.getState())
                 .extracting(State::getName)
                 .isNotNull()
@@ -1610,7 +1611,7 @@ class StateFlowEngineTest {
         void shouldReturnProceedsWithOfflineJourney_whenCaseTakenOfflineAfterNotificationAcknowledged() {
             CaseData caseData = CaseDataBuilder.builder().atStateTakenOfflineByStaffAfterNotificationAcknowledged()
                 .build();
-            StateFlow stateFlow = stateFlowEngine.evaluate(caseData);
+            StateFlowEvaluation stateFlow = stateFlowEngine.evaluate(caseData);
             assertThat(stateFlow.getState())
                 .extracting(State::getName)
                 .isNotNull()
@@ -1635,7 +1636,7 @@ class StateFlowEngineTest {
                 .atStateTakenOfflineByStaffAfterNotificationAcknowledgeExtension()
                 .build();
 
-            StateFlow stateFlow = stateFlowEngine.evaluate(caseData);
+            StateFlowEvaluation stateFlow = stateFlowEngine.evaluate(caseData);
             assertThat(stateFlow.getState())
                 .extracting(State::getName)
                 .isNotNull()
@@ -1658,7 +1659,7 @@ class StateFlowEngineTest {
         void shouldReturnProceedsWithOfflineJourney_whenCaseTakenOfflineAfterDefendantResponse() {
             CaseData caseData = CaseDataBuilder.builder().atStateTakenOfflineByStaffAfterDefendantResponse()
                 .build();
-            StateFlow stateFlow = stateFlowEngine.evaluate(caseData);
+            StateFlowEvaluation stateFlow = stateFlowEngine.evaluate(caseData);
             assertThat(stateFlow.getState())
                 .extracting(State::getName)
                 .isNotNull()
@@ -1682,7 +1683,7 @@ class StateFlowEngineTest {
             CaseData caseData = CaseDataBuilder.builder().atStateClaimDismissedPastClaimNotificationDeadline()
                 .takenOfflineByStaffDate(LocalDateTime.now())
                 .build();
-            StateFlow stateFlow = stateFlowEngine.evaluate(caseData);
+            StateFlowEvaluation stateFlow = stateFlowEngine.evaluate(caseData);
             assertThat(stateFlow.getState())
                 .extracting(State::getName)
                 .isNotNull()
@@ -1707,7 +1708,7 @@ class StateFlowEngineTest {
             CaseData caseData = CaseDataBuilder.builder().atStateClaimDismissedPastClaimDetailsNotificationDeadline()
                 .takenOfflineByStaffDate(LocalDateTime.now())
                 .build();
-            StateFlow stateFlow = stateFlowEngine.evaluate(caseData);
+            StateFlowEvaluation stateFlow = stateFlowEngine.evaluate(caseData);
             assertThat(stateFlow.getState())
                 .extracting(State::getName)
                 .isNotNull()
@@ -1734,7 +1735,7 @@ class StateFlowEngineTest {
         @Test
         void shouldReturnAwaitingCamundaState_whenDeadlinePassedAfterStateClaimDetailsNotified() {
             CaseData caseData = CaseDataBuilder.builder().atStatePastClaimDismissedDeadline().build();
-            StateFlow stateFlow = stateFlowEngine.evaluate(caseData);
+            StateFlowEvaluation stateFlow = stateFlowEngine.evaluate(caseData);
             assertThat(stateFlow.getState())
                 .extracting(State::getName)
                 .isNotNull()
@@ -1752,7 +1753,7 @@ class StateFlowEngineTest {
         @Test
         void shouldReturnClaimDismissedState_whenDeadlinePassedAfterStateClaimDetailsNotifiedAndIsProcessedByCamunda() {
             CaseData caseData = CaseDataBuilder.builder().atStateClaimDismissed().build();
-            StateFlow stateFlow = stateFlowEngine.evaluate(caseData);
+            StateFlowEvaluation stateFlow = stateFlowEngine.evaluate(caseData);
             assertThat(stateFlow.getState())
                 .extracting(State::getName)
                 .isNotNull()
@@ -1773,7 +1774,7 @@ class StateFlowEngineTest {
             CaseData caseData = CaseDataBuilder.builder().atStateClaimDetailsNotifiedTimeExtension()
                 .claimDismissedDeadline(LocalDateTime.now().minusDays(5))
                 .build();
-            StateFlow stateFlow = stateFlowEngine.evaluate(caseData);
+            StateFlowEvaluation stateFlow = stateFlowEngine.evaluate(caseData);
             assertThat(stateFlow.getState())
                 .extracting(State::getName)
                 .isNotNull()
@@ -1798,7 +1799,7 @@ class StateFlowEngineTest {
                 .claimDismissedDeadline(LocalDateTime.now().minusDays(5))
                 .claimDismissedDate(LocalDateTime.now())
                 .build();
-            StateFlow stateFlow = stateFlowEngine.evaluate(caseData);
+            StateFlowEvaluation stateFlow = stateFlowEngine.evaluate(caseData);
             assertThat(stateFlow.getState())
                 .extracting(State::getName)
                 .isNotNull()
@@ -1823,7 +1824,7 @@ class StateFlowEngineTest {
             CaseData caseData = CaseDataBuilder.builder().atStateNotificationAcknowledged()
                 .claimDismissedDeadline(LocalDateTime.now().minusDays(5))
                 .build();
-            StateFlow stateFlow = stateFlowEngine.evaluate(caseData);
+            StateFlowEvaluation stateFlow = stateFlowEngine.evaluate(caseData);
             assertThat(stateFlow.getState())
                 .extracting(State::getName)
                 .isNotNull()
@@ -1849,7 +1850,7 @@ class StateFlowEngineTest {
                 .claimDismissedDeadline(LocalDateTime.now().minusDays(5))
                 .claimDismissedDate(LocalDateTime.now())
                 .build();
-            StateFlow stateFlow = stateFlowEngine.evaluate(caseData);
+            StateFlowEvaluation stateFlow = stateFlowEngine.evaluate(caseData);
             assertThat(stateFlow.getState())
                 .extracting(State::getName)
                 .isNotNull()
@@ -1875,7 +1876,7 @@ class StateFlowEngineTest {
             CaseData caseData = CaseDataBuilder.builder().atStateNotificationAcknowledgedTimeExtension()
                 .claimDismissedDeadline(LocalDateTime.now().minusDays(5))
                 .build();
-            StateFlow stateFlow = stateFlowEngine.evaluate(caseData);
+            StateFlowEvaluation stateFlow = stateFlowEngine.evaluate(caseData);
             assertThat(stateFlow.getState())
                 .extracting(State::getName)
                 .isNotNull()
@@ -1899,7 +1900,7 @@ class StateFlowEngineTest {
                 .claimDismissedDeadline(LocalDateTime.now().minusDays(5))
                 .claimDismissedDate(LocalDateTime.now())
                 .build();
-            StateFlow stateFlow = stateFlowEngine.evaluate(caseData);
+            StateFlowEvaluation stateFlow = stateFlowEngine.evaluate(caseData);
             assertThat(stateFlow.getState())
                 .extracting(State::getName)
                 .isNotNull()
@@ -1922,7 +1923,7 @@ class StateFlowEngineTest {
         void shouldReturnClaimDismissed_whenCaseDataAtStateClaimDismissed() {
             CaseData caseData = CaseDataBuilder.builder().atStateClaimDismissed().build();
 
-            StateFlow stateFlow = stateFlowEngine.evaluate(caseData);
+            StateFlowEvaluation stateFlow = stateFlowEngine.evaluate(caseData);
 
             assertThat(stateFlow.getState())
                 .extracting(State::getName)
@@ -1966,4 +1967,35 @@ class StateFlowEngineTest {
             assertThat(stateFlowEngine.hasTransitionedTo(caseDetails, state)).isEqualTo(expected);
         }
     }
+
+    @Nested
+    class CompiledFlow {
+
+        @ParameterizedTest
+        @EnumSource(
+            value = FlowState.Main.class,
+            mode = EnumSource.Mode.EXCLUDE,
+            names = {
+                "SPEC_DRAFT",
+                "DIVERGENT_RESPOND_GO_OFFLINE",
+                "DIVERGENT_RESPOND_GENERATE_DQ_GO_OFFLINE",
+                "ALL_RESPONSES_RECEIVED",
+                "AWAITING_RESPONSES_FULL_DEFENCE_RECEIVED",
+                "AWAITING_RESPONSES_NOT_FULL_DEFENCE_RECEIVED",
+                "PAST_CLAIM_NOTIFICATION_DEADLINE_AWAITING_CAMUNDA",
+                "PAST_CLAIM_DETAILS_NOTIFICATION_DEADLINE_AWAITING_CAMUNDA",
+                "PAST_CLAIM_DISMISSED_DEADLINE_AWAITING_CAMUNDA"
+            }
+        )
+        void shouldEvaluateSameResultAsStateMachine(FlowState.Main flowState) {
+            CaseData caseData = CaseDataBuilder.builder().atState(flowState).build();
+
+            StateFlow expected = stateFlowEngine.build(DRAFT).evaluate(caseData);
+            StateFlowEvaluation actual = stateFlowEngine.evaluate(caseData);
+
+            assertThat(actual.getState()).isEqualTo(expected.getState());
+            assertThat(actual.getStateHistory()).isEqualTo(expected.getStateHistory());
+            assertThat(actual.getFlags()).isEqualTo(expected.getFlags());
+        }
+    }
 }
@@ -0,0 +1,134 @@
+package uk.gov.hmcts.reform.civil.service.flowstate;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import uk.gov.hmcts.reform.civil.model.CaseData;
+import uk.gov.hmcts.reform.civil.stateflow.CompiledStateFlow;
+import uk.gov.hmcts.reform.civil.stateflow.StateFlowEvaluation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static uk.gov.hmcts.reform.civil.service.flowstate.StateFlowEvaluationCache.METRIC_NAME;
+
+class StateFlowEvaluationCacheTest {
+
+    private static final SimpleMeterRegistry METER_REGISTRY = new SimpleMeterRegistry();
+
+    private final StateFlowEvaluationCache evaluationCache = new StateFlowEvaluationCache();
+    private final CompiledStateFlow flow = mock(CompiledStateFlow.class);
+    private final CaseData caseData = CaseData.builder()
+        .ccdCaseReference(1234L)
+        .legacyCaseReference("000DC001")
+        .build();
+
+    @BeforeAll
+    static void registerMeterRegistry() {
+        Metrics.addRegistry(METER_REGISTRY);
+    }
+
+    @AfterAll
+    static void removeMeterRegistry() {
+        Metrics.removeRegistry(METER_REGISTRY);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Nested
+    class WithinRequest {
+
+        @Test
+        void shouldEvaluateOnce_whenSameCaseDataIsEvaluatedAgain() {
+            startRequest();
+            StateFlowEvaluation stateFlow = mock(StateFlowEvaluation.class);
+            when(flow.evaluate(caseData)).thenReturn(stateFlow);
+            double hits = counter("hit");
+
+            assertThat(evaluationCache.evaluate(flow, caseData)).isSameAs(stateFlow);
+            assertThat(evaluationCache.evaluate(flow, caseData)).isSameAs(stateFlow);
+
+            verify(flow).evaluate(caseData);
+            assertThat(counter("hit")).isEqualTo(hits + 1);
+        }
+
+        @Test
+        void shouldEvaluateAgain_whenEqualCaseDataInstanceIsEvaluated() {
+            startRequest();
+            CaseData copy = caseData.toBuilder().build();
+
+            evaluationCache.evaluate(flow, caseData);
+            evaluationCache.evaluate(flow, copy);
+
+            verify(flow, times(2)).evaluate(caseData);
+        }
+
+        @Test
+        void shouldEvaluateAgain_whenCaseDataHasChanged() {
+            startRequest();
+            double misses = counter("miss");
+            CaseData changed = caseData.toBuilder().legacyCaseReference("000DC002").build();
+
+            evaluationCache.evaluate(flow, caseData);
+            evaluationCache.evaluate(flow, changed);
+
+            verify(flow).evaluate(caseData);
+            verify(flow).evaluate(changed);
+            assertThat(counter("miss")).isEqualTo(misses + 2);
+        }
+
+        @Test
+        void shouldEvaluateAgain_whenDifferentFlowIsUsed() {
+            startRequest();
+            CompiledStateFlow otherFlow = mock(CompiledStateFlow.class);
+
+            evaluationCache.evaluate(flow, caseData);
+            evaluationCache.evaluate(otherFlow, caseData);
+
+            verify(flow).evaluate(caseData);
+            verify(otherFlow).evaluate(caseData);
+        }
+
+        @Test
+        void shouldNotShareEvaluations_betweenRequests() {
+            startRequest();
+            evaluationCache.evaluate(flow, caseData);
+            startRequest();
+            evaluationCache.evaluate(flow, caseData);
+
+            verify(flow, times(2)).evaluate(caseData);
+        }
+    }
+
+    @Nested
+    class OutsideRequest {
+
+        @Test
+        void shouldEvaluateEveryTime_whenNoRequestIsActive() {
+            evaluationCache.evaluate(flow, caseData);
+            evaluationCache.evaluate(flow, caseData);
+
+            verify(flow, times(2)).evaluate(caseData);
+        }
+    }
+
+    private void startRequest() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    }
+
+    private double counter(String result) {
+        return Metrics.counter(METRIC_NAME, "cache", result).count();
+    }
+}
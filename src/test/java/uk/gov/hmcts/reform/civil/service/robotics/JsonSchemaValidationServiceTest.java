@@ -1,9 +1,13 @@
 package uk.gov.hmcts.reform.civil.service.robotics;
 
+import lombok.Value;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
+import uk.gov.hmcts.reform.civil.model.robotics.CaseHeader;
+import uk.gov.hmcts.reform.civil.model.robotics.RoboticsCaseData;
+import uk.gov.hmcts.reform.civil.model.robotics.ToJsonString;
 import uk.gov.hmcts.reform.civil.service.robotics.exception.JsonSchemaValidationException;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -78,6 +82,26 @@ class JsonSchemaValidationServiceTest {
             assertThat(errors).isEmpty();
         }
 
+        @Test
+        void shouldValidateObjectTree_whenPayloadIsObject() {
+            assertThat(validationService.validate(new Person("Joe", 10))).isEmpty();
+            assertThat(validationService.validate(new Person("Joe", -1)))
+                .extracting("message")
+                .containsExactly("$.age: must have a minimum value of 0");
+        }
+
+        @Test
+        void shouldValidateWrittenPayloadAsObjectTree_whenPayloadIsRoboticsCaseData() {
+            JsonSchemaValidationService rpaValidationService = new JsonSchemaValidationService();
+            RoboticsCaseData roboticsCaseData = RoboticsCaseData.builder()
+                .header(CaseHeader.builder().caseNumber("000DC001").build())
+                .build();
+
+            assertThat(rpaValidationService.validate(RoboticsPayload.of(roboticsCaseData)))
+                .isNotEmpty()
+                .isEqualTo(rpaValidationService.validate(roboticsCaseData));
+        }
+
         @Test
         void shouldThrowJsonSchemaValidationException_whenJsonSchemaFileDoesNotExist() {
             Exception exception = assertThrows(
@@ -107,4 +131,11 @@ class JsonSchemaValidationServiceTest {
                 .isEqualTo("/another-schema-file.json");
         }
     }
+
+    @Value
+    static class Person implements ToJsonString {
+
+        String name;
+        int age;
+    }
 }
@@ -0,0 +1,120 @@
+package uk.gov.hmcts.reform.civil.service.robotics;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.civil.model.robotics.Event;
+import uk.gov.hmcts.reform.civil.model.robotics.EventHistory;
+import uk.gov.hmcts.reform.civil.repositories.RoboticsFeedProgress;
+import uk.gov.hmcts.reform.civil.repositories.RoboticsFeedProgressRepository;
+import uk.gov.hmcts.reform.civil.service.robotics.mapper.EventHistorySequencer;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class RoboticsDeltaFeedServiceTest {
+
+    private static final long CASE_REFERENCE = 1594901956117591L;
+    private static final LocalDateTime NOW = LocalDateTime.of(2022, 3, 1, 12, 0);
+
+    private final RoboticsFeedProgressRepository repository = mock(RoboticsFeedProgressRepository.class);
+    private final EventHistorySequencer sequencer = new EventHistorySequencer();
+    private final RoboticsDeltaFeedService service = new RoboticsDeltaFeedService(repository, sequencer);
+
+    private final Event first = event("first", NOW.minusDays(2));
+    private final Event second = event("second", NOW.minusDays(1));
+    private final Event third = event("third", NOW);
+
+    @Nested
+    class EventsToSend {
+
+        @Test
+        void shouldSendAllEvents_whenNothingHasBeenSent() {
+            EventHistory eventHistory = history(first, second);
+            when(repository.findByCaseReference(CASE_REFERENCE)).thenReturn(Optional.empty());
+
+            assertThat(service.eventsToSend(CASE_REFERENCE, eventHistory)).containsSame(eventHistory);
+        }
+
+        @Test
+        void shouldSendOnlyNewEvents_whenEarlierEventsHaveBeenSent() {
+            sent(history(first, second));
+            EventHistory eventHistory = history(first, second, third);
+
+            assertThat(service.eventsToSend(CASE_REFERENCE, eventHistory))
+                .map(EventHistory::getMiscellaneous)
+                .contains(List.of(third.toBuilder().eventSequence(3).build()));
+        }
+
+        @Test
+        void shouldSendNothing_whenNoEventsHaveBeenAdded() {
+            sent(history(first, second));
+
+            assertThat(service.eventsToSend(CASE_REFERENCE, history(first, second))).isEmpty();
+        }
+
+        @Test
+        void shouldSendAllEvents_whenEventIsNumberedBeforeThoseSent() {
+            sent(history(first, third));
+            EventHistory eventHistory = history(first, second, third);
+
+            assertThat(service.eventsToSend(CASE_REFERENCE, eventHistory)).containsSame(eventHistory);
+        }
+
+        @Test
+        void shouldSendAllEvents_whenCaseHasNoReference() {
+            EventHistory eventHistory = history(first);
+
+            assertThat(service.eventsToSend(null, eventHistory)).containsSame(eventHistory);
+            verifyNoInteractions(repository);
+        }
+    }
+
+    @Nested
+    class EventsSent {
+
+        @Test
+        void shouldRecordLastSequenceAndDigest_whenEventsHaveBeenSent() {
+            EventHistory eventHistory = history(first, second, third);
+
+            service.eventsSent(CASE_REFERENCE, eventHistory);
+
+            verify(repository).save(
+                CASE_REFERENCE,
+                3,
+                RoboticsDeltaFeedService.digest(sequencer.sequencedEvents(eventHistory))
+            );
+        }
+
+        @Test
+        void shouldNotRecordAnything_whenHistoryHasNoEvents() {
+            service.eventsSent(CASE_REFERENCE, sequencer.sortEvents(EventHistory.builder().build()));
+
+            verifyNoInteractions(repository);
+        }
+    }
+
+    private void sent(EventHistory eventHistory) {
+        List<Event> events = sequencer.sequencedEvents(eventHistory);
+        when(repository.findByCaseReference(CASE_REFERENCE)).thenReturn(Optional.of(
+            new RoboticsFeedProgress(events.size(), RoboticsDeltaFeedService.digest(events))));
+    }
+
+    private EventHistory history(Event... events) {
+        return sequencer.sortEvents(EventHistory.builder().miscellaneous(List.of(events)).build());
+    }
+
+    private static Event event(String text, LocalDateTime dateReceived) {
+        return Event.builder()
+            .eventCode("999")
+            .dateReceived(dateReceived)
+            .eventDetailsText(text)
+            .build();
+    }
+}
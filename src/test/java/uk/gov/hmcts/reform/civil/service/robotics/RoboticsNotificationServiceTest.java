@@ -13,6 +13,7 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
 import uk.gov.hmcts.reform.civil.config.PrdAdminUserConfiguration;
+import uk.gov.hmcts.reform.civil.config.properties.organisation.OrganisationCacheProperties;
 import uk.gov.hmcts.reform.civil.config.properties.robotics.RoboticsEmailConfiguration;
 import uk.gov.hmcts.reform.civil.enums.SuperClaimType;
 import uk.gov.hmcts.reform.civil.helpers.CaseDetailsConverter;
@@ -63,7 +64,8 @@ import static uk.gov.hmcts.reform.civil.enums.YesOrNo.YES;
         RoboticsDataMapper.class,
         RoboticsAddressMapper.class,
         AddressLinesMapper.class,
-        OrganisationService.class
+        OrganisationService.class,
+        OrganisationCacheProperties.class
     },
     properties = {
         "sendgrid.api-key:some-key",
@@ -131,6 +133,37 @@ class RoboticsNotificationServiceTest {
             .containsExactlyInAnyOrder(tuple(fileName, "application/json"));
     }
 
+    @Test
+    void shouldAttachGzippedPayload_whenGzipAttachmentIsEnabled() {
+        CaseData caseData = CaseDataBuilder.builder().atStateClaimDetailsNotified().build();
+        emailConfiguration.setGzipAttachment(true);
+        try {
+            service.notifyRobotics(caseData, false);
+        } finally {
+            emailConfiguration.setGzipAttachment(false);
+        }
+
+        verify(sendGridClient).sendEmail(eq(emailConfiguration.getSender()), emailDataArgumentCaptor.capture());
+
+        String fileName = format("CaseData_%s.json.gz", caseData.getLegacyCaseReference());
+        assertThat(emailDataArgumentCaptor.getValue().getAttachments())
+            .extracting("filename", "contentType")
+            .containsExactly(tuple(fileName, "application/gzip"));
+    }
+
+    @Test
+    void shouldAttachGivenPayload_whenPayloadIsAlreadyWritten() {
+        CaseData caseData = CaseDataBuilder.builder().atStateClaimDetailsNotified().build();
+        RoboticsPayload payload = RoboticsPayload.of(roboticsDataMapper.toRoboticsCaseData(caseData));
+
+        service.notifyRobotics(caseData, false, payload);
+
+        verify(sendGridClient).sendEmail(eq(emailConfiguration.getSender()), emailDataArgumentCaptor.capture());
+        assertThat(emailDataArgumentCaptor.getValue().getAttachments())
+            .extracting("data")
+            .containsExactly(payload);
+    }
+
     @Test
     void shouldThrowNullPointerException_whenCaseDataIsNull() {
 
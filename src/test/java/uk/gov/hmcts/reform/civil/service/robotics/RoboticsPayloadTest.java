@@ -0,0 +1,94 @@
+package uk.gov.hmcts.reform.civil.service.robotics;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.civil.model.robotics.CaseHeader;
+import uk.gov.hmcts.reform.civil.model.robotics.Event;
+import uk.gov.hmcts.reform.civil.model.robotics.EventHistory;
+import uk.gov.hmcts.reform.civil.model.robotics.RoboticsCaseData;
+import uk.gov.hmcts.reform.civil.model.robotics.RoboticsCaseDataSpec;
+
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RoboticsPayloadTest {
+
+    private final EventHistory events = EventHistory.builder()
+        .miscellaneous(Event.builder().eventDetailsText("event text").dateReceived(LocalDateTime.now()).build())
+        .build();
+    private final RoboticsCaseData roboticsCaseData = RoboticsCaseData.builder()
+        .header(CaseHeader.builder().caseNumber("000DC001").build())
+        .events(events)
+        .build();
+
+    @Nested
+    class Write {
+
+        @Test
+        @SneakyThrows
+        void shouldWriteSameJsonAsToJsonString_whenUnspecifiedCaseData() {
+            RoboticsPayload payload = RoboticsPayload.of(roboticsCaseData);
+
+            assertThat(read(payload)).isEqualTo(roboticsCaseData.toJsonString());
+            assertThat(payload.size()).isEqualTo(roboticsCaseData.toJsonString().getBytes().length);
+            assertThat(payload.getEvents()).isSameAs(events);
+            assertThat(payload.isGzipped()).isFalse();
+        }
+
+        @Test
+        @SneakyThrows
+        void shouldWriteSameJsonAsToJsonString_whenSpecCaseData() {
+            RoboticsCaseDataSpec roboticsCaseDataSpec = RoboticsCaseDataSpec.builder().events(events).build();
+
+            RoboticsPayload payload = RoboticsPayload.of(roboticsCaseDataSpec);
+
+            assertThat(read(payload)).isEqualTo(roboticsCaseDataSpec.toJsonString());
+            assertThat(payload.getEvents()).isSameAs(events);
+        }
+
+        @Test
+        @SneakyThrows
+        void shouldBeReadableMoreThanOnce() {
+            RoboticsPayload payload = RoboticsPayload.of(roboticsCaseData);
+
+            assertThat(read(payload)).isEqualTo(read(payload));
+        }
+    }
+
+    @Nested
+    class Gzip {
+
+        @Test
+        @SneakyThrows
+        void shouldCompressPayload_andLeaveOriginalUntouched() {
+            RoboticsPayload payload = RoboticsPayload.of(roboticsCaseData);
+
+            RoboticsPayload gzipped = payload.gzip();
+
+            assertThat(gzipped.isGzipped()).isTrue();
+            assertThat(gzipped.getEvents()).isSameAs(events);
+            try (InputStream content = new GZIPInputStream(gzipped.getInputStream())) {
+                assertThat(new String(content.readAllBytes())).isEqualTo(roboticsCaseData.toJsonString());
+            }
+            assertThat(read(payload)).isEqualTo(roboticsCaseData.toJsonString());
+        }
+
+        @Test
+        void shouldNotCompressTwice() {
+            RoboticsPayload gzipped = RoboticsPayload.of(roboticsCaseData).gzip();
+
+            assertThat(gzipped.gzip()).isSameAs(gzipped);
+        }
+    }
+
+    @SneakyThrows
+    private static String read(RoboticsPayload payload) {
+        try (InputStream content = payload.getInputStream()) {
+            return new String(content.readAllBytes());
+        }
+    }
+}
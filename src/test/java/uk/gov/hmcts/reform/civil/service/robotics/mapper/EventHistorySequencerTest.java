@@ -79,6 +79,41 @@ class EventHistorySequencerTest {
             .isEqualTo(List.of(event.toBuilder().eventSequence(1).build()));
     }
 
+    @Test
+    void shouldNumberEventsTheSame_whenEventHistoryIsSequencedAgain() {
+        LocalDateTime now = LocalDateTime.now();
+        Event event = Event.builder().eventCode("999").dateReceived(now).build();
+        EventHistory eventHistory = EventHistory.builder()
+            .miscellaneous(List.of(event.toBuilder().eventDetailsText("first").build(),
+                                   event.toBuilder().eventDetailsText("second").build()))
+            .defenceFiled(List.of(Event.builder().eventCode("50").dateReceived(now).build()))
+            .build();
+
+        assertThat(eventHistorySequencer.sortEvents(eventHistory))
+            .isEqualTo(eventHistorySequencer.sortEvents(eventHistory));
+    }
+
+    @Test
+    void shouldReturnOnlyLaterEventsKeepingTheirSequence_whenEventsAfterIsCalled() {
+        LocalDateTime now = LocalDateTime.now();
+        Event event = Event.builder().eventCode("999").build();
+        Event firstEvent = event.toBuilder().eventDetailsText("first").dateReceived(now.minusDays(2)).build();
+        Event secondEvent = event.toBuilder().eventDetailsText("second").dateReceived(now.minusDays(1)).build();
+        Event thirdEvent = event.toBuilder().eventDetailsText("third").dateReceived(now).build();
+        EventHistory eventHistory = eventHistorySequencer.sortEvents(EventHistory.builder()
+            .miscellaneous(List.of(thirdEvent, firstEvent, secondEvent))
+            .build());
+
+        var result = eventHistorySequencer.eventsAfter(eventHistory, 1);
+
+        assertThat(result)
+            .extracting(EventHistory::getMiscellaneous)
+            .isEqualTo(List.of(
+                secondEvent.toBuilder().eventSequence(2).build(),
+                thirdEvent.toBuilder().eventSequence(3).build()
+            ));
+    }
+
     @Test
     void shouldThrowException_whenPassedNullObject() {
         assertThrows(
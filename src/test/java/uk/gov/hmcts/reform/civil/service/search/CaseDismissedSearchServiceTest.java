@@ -14,7 +14,7 @@ class CaseDismissedSearchServiceTest extends ElasticSearchServiceTest {
 
     @BeforeEach
     void setup() {
-        searchService = new CaseDismissedSearchService(coreCaseDataService);
+        searchService = new CaseDismissedSearchService(coreCaseDataService, PAGE_SIZE, CONCURRENT_PAGES);
     }
 
     @Override
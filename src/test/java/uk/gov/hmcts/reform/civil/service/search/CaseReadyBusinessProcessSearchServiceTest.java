@@ -13,7 +13,7 @@ class CaseReadyBusinessProcessSearchServiceTest extends ElasticSearchServiceTest
 
     @BeforeEach
     void setup() {
-        searchService = new CaseReadyBusinessProcessSearchService(coreCaseDataService);
+        searchService = new CaseReadyBusinessProcessSearchService(coreCaseDataService, PAGE_SIZE, CONCURRENT_PAGES);
     }
 
     @Override
@@ -21,6 +21,6 @@ class CaseReadyBusinessProcessSearchServiceTest extends ElasticSearchServiceTest
         BoolQueryBuilder query = boolQuery()
             .must(matchQuery("data.businessProcess.status", "READY"));
 
-        return new Query(query, List.of(), fromValue);
+        return new Query(query, List.of("reference", "data.businessProcess"), fromValue);
     }
 }
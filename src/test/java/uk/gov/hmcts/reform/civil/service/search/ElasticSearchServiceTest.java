@@ -1,5 +1,6 @@
 package uk.gov.hmcts.reform.civil.service.search;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
@@ -12,10 +13,13 @@ import uk.gov.hmcts.reform.civil.model.search.Query;
 import uk.gov.hmcts.reform.civil.service.CoreCaseDataService;
 
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 import static java.util.Collections.emptyList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -23,6 +27,9 @@ import static org.mockito.Mockito.when;
 @ExtendWith(SpringExtension.class)
 abstract class ElasticSearchServiceTest {
 
+    protected static final int PAGE_SIZE = 10;
+    protected static final int CONCURRENT_PAGES = 2;
+
     @Captor
     private ArgumentCaptor<Query> queryCaptor;
 
@@ -31,6 +38,11 @@ abstract class ElasticSearchServiceTest {
 
     protected ElasticSearchService searchService;
 
+    @AfterEach
+    void shutdown() {
+        searchService.shutdown();
+    }
+
     @Test
     void shouldCallGetCasesOnce_WhenCasesReturnEqualsTotalCases() {
         SearchResult searchResult = buildSearchResultWithTotalCases(1);
@@ -39,7 +51,7 @@ abstract class ElasticSearchServiceTest {
 
         assertThat(searchService.getCases()).isEqualTo(searchResult.getCases());
         verify(coreCaseDataService).searchCases(queryCaptor.capture());
-        assertThat(queryCaptor.getValue()).usingRecursiveComparison().isEqualTo(buildQuery(0));
+        assertThat(queryCaptor.getValue()).usingRecursiveComparison().isEqualTo(buildQuery(0).withSize(PAGE_SIZE));
     }
 
     @Test
@@ -50,7 +62,7 @@ abstract class ElasticSearchServiceTest {
 
         assertThat(searchService.getCases()).isEmpty();
         verify(coreCaseDataService).searchCases(queryCaptor.capture());
-        assertThat(queryCaptor.getValue()).usingRecursiveComparison().isEqualTo(buildQuery(0));
+        assertThat(queryCaptor.getValue()).usingRecursiveComparison().isEqualTo(buildQuery(0).withSize(PAGE_SIZE));
     }
 
     @Test
@@ -61,7 +73,7 @@ abstract class ElasticSearchServiceTest {
 
         assertThat(searchService.getCases()).hasSize(1);
         verify(coreCaseDataService).searchCases(queryCaptor.capture());
-        assertThat(queryCaptor.getValue()).usingRecursiveComparison().isEqualTo(buildQuery(0));
+        assertThat(queryCaptor.getValue()).usingRecursiveComparison().isEqualTo(buildQuery(0).withSize(PAGE_SIZE));
     }
 
     @Test
@@ -74,8 +86,67 @@ abstract class ElasticSearchServiceTest {
         verify(coreCaseDataService, times(2)).searchCases(queryCaptor.capture());
 
         List<Query> capturedQueries = queryCaptor.getAllValues();
-        assertThat(capturedQueries.get(0)).usingRecursiveComparison().isEqualTo(buildQuery(0));
-        assertThat(capturedQueries.get(1)).usingRecursiveComparison().isEqualTo(buildQuery(10));
+        assertThat(capturedQueries.get(0)).usingRecursiveComparison().isEqualTo(buildQuery(0).withSize(PAGE_SIZE));
+        assertThat(capturedQueries.get(1)).usingRecursiveComparison().isEqualTo(buildQuery(10).withSize(PAGE_SIZE));
+    }
+
+    @Test
+    void shouldReturnCasesInPageOrder_whenRemainingPagesAreSearchedConcurrently() {
+        for (int page = 0; page < 4; page++) {
+            String from = "\"from\": " + page * PAGE_SIZE + "}";
+            when(coreCaseDataService.searchCases(argThat(query -> query != null && query.toString().endsWith(from))))
+                .thenReturn(buildSearchResult(35, buildCases(page * PAGE_SIZE + 1L, page == 3 ? 5 : PAGE_SIZE)));
+        }
+
+        assertThat(searchService.getCases())
+            .extracting(CaseDetails::getId)
+            .containsExactlyElementsOf(LongStream.rangeClosed(1, 35).boxed().collect(Collectors.toList()));
+        verify(coreCaseDataService, times(4)).searchCases(any());
+    }
+
+    @Test
+    void shouldSearchOnePage_whenStreamedCasesFitInOnePage() {
+        List<CaseDetails> cases = buildCases(1, 3);
+        when(coreCaseDataService.searchCases(any())).thenReturn(buildSearchResult(3, cases));
+
+        assertThat(searchService.streamCases()).containsExactlyElementsOf(cases);
+        verify(coreCaseDataService).searchCases(queryCaptor.capture());
+        assertThat(queryCaptor.getValue()).usingRecursiveComparison()
+            .isEqualTo(buildQuery(0).searchAfter(null, PAGE_SIZE));
+    }
+
+    @Test
+    void shouldSearchAfterLastReference_whenStreamedPageIsFull() {
+        List<CaseDetails> firstPage = buildCases(1, PAGE_SIZE);
+        List<CaseDetails> secondPage = buildCases(PAGE_SIZE + 1, 2);
+        when(coreCaseDataService.searchCases(any()))
+            .thenReturn(buildSearchResult(12, firstPage))
+            .thenReturn(buildSearchResult(12, secondPage));
+
+        assertThat(searchService.streamCases()).hasSize(12);
+        verify(coreCaseDataService, times(2)).searchCases(queryCaptor.capture());
+
+        List<Query> capturedQueries = queryCaptor.getAllValues();
+        assertThat(capturedQueries.get(0)).usingRecursiveComparison()
+            .isEqualTo(buildQuery(0).searchAfter(null, PAGE_SIZE));
+        assertThat(capturedQueries.get(1)).usingRecursiveComparison()
+            .isEqualTo(buildQuery(0).searchAfter((long) PAGE_SIZE, PAGE_SIZE));
+    }
+
+    @Test
+    void shouldStopSearching_whenStreamedPageIsEmpty() {
+        when(coreCaseDataService.searchCases(any()))
+            .thenReturn(buildSearchResult(PAGE_SIZE, buildCases(1, PAGE_SIZE)))
+            .thenReturn(buildSearchResult(PAGE_SIZE, emptyList()));
+
+        assertThat(searchService.streamCases()).hasSize(PAGE_SIZE);
+        verify(coreCaseDataService, times(2)).searchCases(any());
+    }
+
+    private List<CaseDetails> buildCases(long firstReference, int count) {
+        return LongStream.range(firstReference, firstReference + count)
+            .mapToObj(reference -> CaseDetails.builder().id(reference).build())
+            .collect(Collectors.toList());
     }
 
     private SearchResult buildSearchResultWithTotalCases(int i) {
@@ -14,7 +14,7 @@ class TakeCaseOfflineSearchServiceTest extends ElasticSearchServiceTest {
 
     @BeforeEach
     void setup() {
-        searchService = new TakeCaseOfflineSearchService(coreCaseDataService);
+        searchService = new TakeCaseOfflineSearchService(coreCaseDataService, PAGE_SIZE, CONCURRENT_PAGES);
     }
 
     @Override
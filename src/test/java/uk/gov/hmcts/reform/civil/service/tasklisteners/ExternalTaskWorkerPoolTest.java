@@ -0,0 +1,98 @@
+package uk.gov.hmcts.reform.civil.service.tasklisteners;
+
+import com.launchdarkly.sdk.LDUser;
+import com.launchdarkly.sdk.server.interfaces.LDClientInterface;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.camunda.bpm.client.task.ExternalTask;
+import org.camunda.bpm.client.task.ExternalTaskHandler;
+import org.camunda.bpm.client.task.ExternalTaskService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.civil.config.properties.tasks.ExternalTaskWorkersConfiguration;
+import uk.gov.hmcts.reform.civil.launchdarkly.FeatureToggleService;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static uk.gov.hmcts.reform.civil.service.tasklisteners.ExternalTaskWorkerPool.IN_FLIGHT_METRIC;
+import static uk.gov.hmcts.reform.civil.service.tasklisteners.ExternalTaskWorkerPool.QUEUE_WAIT_METRIC;
+
+class ExternalTaskWorkerPoolTest {
+
+    private static final String TOPIC = "processCaseEvent";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExternalTaskWorkersConfiguration workersConfiguration = new ExternalTaskWorkersConfiguration();
+    private final LDClientInterface ldClient = mock(LDClientInterface.class);
+    private final FeatureToggleService featureToggleService = new FeatureToggleService(ldClient, "test");
+    private final ExternalTaskWorkerPool workerPool = new ExternalTaskWorkerPool(
+        workersConfiguration, meterRegistry, featureToggleService);
+
+    private final ExternalTaskService externalTaskService = mock(ExternalTaskService.class);
+
+    @AfterEach
+    void tearDown() {
+        workerPool.shutdown();
+    }
+
+    @Test
+    void shouldExecuteTaskOnFetchingThread_whenTopicHasNoWorkersConfigured() {
+        AtomicReference<Thread> executingThread = new AtomicReference<>();
+        ExternalTaskHandler handler = workerPool.handler(TOPIC, (task, service) ->
+            executingThread.set(Thread.currentThread()));
+
+        handler.execute(mock(ExternalTask.class), externalTaskService);
+
+        assertThat(executingThread.get()).isSameAs(Thread.currentThread());
+        assertThat(meterRegistry.get(QUEUE_WAIT_METRIC).tag("topic", TOPIC).timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldExecuteTasksConcurrently_whenTopicHasWorkersConfigured() throws InterruptedException {
+        workersConfiguration.setWorkers(Map.of(TOPIC, 2));
+        CountDownLatch started = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+        ExternalTaskHandler handler = workerPool.handler(TOPIC, (task, service) -> {
+            started.countDown();
+            await(release);
+        });
+
+        handler.execute(mock(ExternalTask.class), externalTaskService);
+        handler.execute(mock(ExternalTask.class), externalTaskService);
+
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(meterRegistry.get(IN_FLIGHT_METRIC).tag("topic", TOPIC).gauge().value()).isEqualTo(2);
+
+        release.countDown();
+    }
+
+    @Test
+    void shouldEvaluateFlagsOncePerTask() {
+        ExternalTaskHandler handler = workerPool.handler(TOPIC, (task, service) -> {
+            featureToggleService.isRpaContinuousFeedEnabled();
+            featureToggleService.isRpaContinuousFeedEnabled();
+        });
+
+        handler.execute(mock(ExternalTask.class), externalTaskService);
+        handler.execute(mock(ExternalTask.class), externalTaskService);
+
+        verify(ldClient, times(2)).boolVariation(eq("rpaContinuousFeed"), any(LDUser.class), anyBoolean());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package uk.gov.hmcts.reform.civil.stateflow;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.civil.model.CaseData;
+import uk.gov.hmcts.reform.civil.stateflow.exception.StateFlowException;
+import uk.gov.hmcts.reform.civil.stateflow.model.State;
+import uk.gov.hmcts.reform.civil.stateflow.model.Transition;
+
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import static java.util.Map.entry;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static uk.gov.hmcts.reform.civil.service.flowstate.FlowFlag.ONE_RESPONDENT_REPRESENTATIVE;
+
+class CompiledStateFlowTest {
+
+    enum FlowState {
+        STATE_1,
+        STATE_2,
+        STATE_3
+    }
+
+    enum SubflowState {
+        STATE_1,
+        STATE_2
+    }
+
+    private final CaseData caseData = CaseData.builder().build();
+
+    @Nested
+    class Compile {
+
+        @Test
+        void shouldThrowStateFlowException_whenTransitionTargetIsNotDefined() {
+            StateFlowContext stateFlowContext = new StateFlowContext();
+            stateFlowContext.addState("FLOW.STATE_1");
+            stateFlowContext.addTransition(new Transition("FLOW.STATE_1", "FLOW.STATE_2"));
+
+            Exception exception = assertThrows(
+                StateFlowException.class,
+                () -> new CompiledStateFlow(stateFlowContext)
+            );
+
+            assertEquals(
+                "Failed to compile StateFlow, transition [FLOW.STATE_1 -> FLOW.STATE_2] refers to an undefined state.",
+                exception.getMessage()
+            );
+        }
+
+        @Test
+        void shouldThrowStateFlowException_whenNoStatesAreDefined() {
+            StateFlowContext stateFlowContext = new StateFlowContext();
+
+            assertThrows(StateFlowException.class, () -> new CompiledStateFlow(stateFlowContext));
+        }
+    }
+
+    @Nested
+    class Evaluate {
+
+        @Test
+        void shouldEvaluateStateAndGetStateHistory() {
+            Predicate<CaseData> firstPredicate = c -> {
+                assertThat(c).isSameAs(caseData);
+                return true;
+            };
+
+            Predicate<CaseData> secondPredicate = c -> {
+                assertThat(c).isSameAs(caseData);
+                return false;
+            };
+
+            CompiledStateFlow compiledStateFlow = StateFlowBuilder.<FlowState>flow("FLOW")
+                .initial(FlowState.STATE_1)
+                .transitionTo(FlowState.STATE_2).onlyIf(firstPredicate)
+                .state(FlowState.STATE_2)
+                .transitionTo(FlowState.STATE_3).onlyIf(secondPredicate)
+                .state(FlowState.STATE_3)
+                .compile();
+
+            StateFlowEvaluation stateFlow = compiledStateFlow.evaluate(caseData);
+
+            assertThat(stateFlow.getState())
+                .extracting(State::getName)
+                .isEqualTo("FLOW.STATE_2");
+            assertThat(stateFlow.getStateHistory())
+                .hasSize(2)
+                .extracting(State::getName)
+                .containsExactly("FLOW.STATE_1", "FLOW.STATE_2");
+        }
+
+        @Test
+        void shouldEvaluateStateAndFlags() {
+            CompiledStateFlow compiledStateFlow = StateFlowBuilder.<FlowState>flow("FLOW")
+                .initial(FlowState.STATE_1)
+                    .transitionTo(FlowState.STATE_2)
+                    .onlyIf(c -> true)
+                    .set(flags -> flags.put("FIRST_FLAG", true))
+                .state(FlowState.STATE_2)
+                    .transitionTo(FlowState.STATE_3)
+                    .onlyIf(c -> false)
+                    .set(flags -> flags.put("SECOND_FLAG", true))
+                .state(FlowState.STATE_3)
+                .compile();
+
+            StateFlowEvaluation stateFlow = compiledStateFlow.evaluate(caseData);
+
+            assertThat(stateFlow.getState())
+                .extracting(State::getName)
+                .isEqualTo("FLOW.STATE_2");
+            assertThat(stateFlow.getFlags())
+                .hasSize(1)
+                .contains(entry("FIRST_FLAG", true));
+            assertThat(stateFlow.isFlagSet(ONE_RESPONDENT_REPRESENTATIVE)).isFalse();
+        }
+
+        @Test
+        void shouldFollowImplicitTransitionsThroughSubflow() {
+            Consumer<StateFlowContext> subflow = stateFlowContext ->
+                StateFlowBuilder.<SubflowState>subflow("SUBFLOW", stateFlowContext)
+                    .transitionTo(SubflowState.STATE_1)
+                    .state(SubflowState.STATE_1)
+                    .transitionTo(SubflowState.STATE_2)
+                    .state(SubflowState.STATE_2);
+
+            CompiledStateFlow compiledStateFlow = StateFlowBuilder.<FlowState>flow("FLOW")
+                .initial(FlowState.STATE_1)
+                .transitionTo(FlowState.STATE_2)
+                .state(FlowState.STATE_2)
+                .subflow(subflow)
+                .compile();
+
+            StateFlowEvaluation stateFlow = compiledStateFlow.evaluate(caseData);
+
+            assertThat(stateFlow.getState())
+                .extracting(State::getName)
+                .isEqualTo("SUBFLOW.STATE_2");
+            assertThat(stateFlow.getStateHistory())
+                .extracting(State::getName)
+                .containsExactly("FLOW.STATE_1", "FLOW.STATE_2", "SUBFLOW.STATE_1", "SUBFLOW.STATE_2");
+        }
+
+        @Test
+        void shouldBeReusableAcrossEvaluations() {
+            CompiledStateFlow compiledStateFlow = StateFlowBuilder.<FlowState>flow("FLOW")
+                .initial(FlowState.STATE_1)
+                .transitionTo(FlowState.STATE_2).onlyIf(c -> c.getLegacyCaseReference() != null)
+                .set(flags -> flags.put("FLAG", true))
+                .state(FlowState.STATE_2)
+                .compile();
+
+            StateFlowEvaluation first = compiledStateFlow.evaluate(
+                CaseData.builder().legacyCaseReference("000DC001").build());
+            StateFlowEvaluation second = compiledStateFlow.evaluate(caseData);
+
+            assertThat(first.getState()).extracting(State::getName).isEqualTo("FLOW.STATE_2");
+            assertThat(first.getFlags()).containsExactly(entry("FLAG", true));
+            assertThat(second.getState()).extracting(State::getName).isEqualTo("FLOW.STATE_1");
+            assertThat(second.getFlags()).isEmpty();
+        }
+
+        @Test
+        void shouldThrowStateFlowException_whenAmbiguousTransitions() {
+            CompiledStateFlow compiledStateFlow = StateFlowBuilder.<FlowState>flow("FLOW")
+                .initial(FlowState.STATE_1)
+                .transitionTo(FlowState.STATE_2).onlyIf(c -> true)
+                .transitionTo(FlowState.STATE_3)
+                .state(FlowState.STATE_2)
+                .state(FlowState.STATE_3)
+                .compile();
+
+            StateFlowEvaluation stateFlow = compiledStateFlow.evaluate(caseData);
+
+            Exception exception = assertThrows(StateFlowException.class, stateFlow::getState);
+            assertEquals("The state machine is at error state.", exception.getMessage());
+            assertThat(stateFlow.getStateHistory())
+                .hasSize(2)
+                .extracting(State::getName)
+                .containsExactly("FLOW.STATE_1", "FLOW.STATE_3");
+        }
+
+        @Test
+        void shouldThrowStateFlowException_whenTransitionsAreCyclic() {
+            CompiledStateFlow compiledStateFlow = StateFlowBuilder.<FlowState>flow("FLOW")
+                .initial(FlowState.STATE_1)
+                .transitionTo(FlowState.STATE_2)
+                .state(FlowState.STATE_2)
+                .transitionTo(FlowState.STATE_1)
+                .compile();
+
+            assertThrows(StateFlowException.class, () -> compiledStateFlow.evaluate(caseData));
+        }
+    }
+}